@@ -0,0 +1,140 @@
+package com.modu.soccer.domain;
+
+import com.bedatadriven.jackson.datatype.jts.JtsModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.modu.soccer.domain.QuarterSummary.TeamScore;
+import com.modu.soccer.enums.FormationName;
+import com.modu.soccer.enums.Permission;
+import com.modu.soccer.enums.Position;
+import com.modu.soccer.enums.Role;
+import java.io.IOException;
+import java.sql.Time;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/*
+compares json and cbor for the largest ApiResponse bodies, encoded the way WebMvcConfig's converters do.
+- matches: a season of 50 matches of a team
+- quarter: a quarter detail with 11 starters and 5 substitutions per side
+- roster: a 40 member team
+payload sizes are printed once per trial, encode/decode times are the benchmark scores.
+* */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadEncodingBenchmark {
+	@Param({"json", "cbor"})
+	private String encoding;
+	@Param({"matches", "quarter", "roster"})
+	private String payload;
+
+	private ObjectMapper mapper;
+	private ApiResponse<?> response;
+	private byte[] encoded;
+
+	@Setup
+	public void setup() throws IOException {
+		Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json().modules(new JtsModule());
+		if ("cbor".equals(encoding)) {
+			builder.factory(new CBORFactory());
+		}
+		mapper = builder.build();
+		response = switch (payload) {
+			case "matches" -> ApiResponse.withBody(matches());
+			case "quarter" -> ApiResponse.withBody(quarter());
+			case "roster" -> ApiResponse.withBody(roster());
+			default -> throw new IllegalArgumentException("unknown payload " + payload);
+		};
+		encoded = mapper.writeValueAsBytes(response);
+		System.out.printf("%n%s %s payload: %d bytes%n", payload, encoding, encoded.length);
+	}
+
+	@Benchmark
+	public byte[] encode() throws IOException {
+		return mapper.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public Object decode() throws IOException {
+		return mapper.readTree(encoded);
+	}
+
+	private static List<MatchDto> matches() {
+		return IntStream.range(0, 50)
+			.mapToObj(i -> MatchDto.builder()
+				.teamA(team(1L, "FC 모두"))
+				.teamB(team(100L + i, "상대팀 " + i))
+				.matchDate(LocalDateTime.of(2022, 3, 1, 10, 0).plusWeeks(i))
+				.build())
+			.toList();
+	}
+
+	private static TeamInfo team(Long id, String name) {
+		return TeamInfo.builder()
+			.teamId(id)
+			.name(name)
+			.logo("https://modu-soccer.s3.ap-northeast-2.amazonaws.com/prod/app/logo-" + id + ".png")
+			.record(TeamRecordDto.builder()
+				.total(40).win(20).draw(8).lose(12).winPercent(50).goals(71).lostGoals(52)
+				.build())
+			.build();
+	}
+
+	private static QuarterDetail quarter() {
+		QuarterSummary summary = QuarterSummary.builder()
+			.id(1L)
+			.matchId(1L)
+			.quarter(1)
+			.teamAFormation(FormationName.FORMATION_1)
+			.teamBFormation(FormationName.FORMATION_2)
+			.teamA(TeamScore.builder().teamId(1L).teamName("FC 모두").teamLogo("logo-1.png").teamScore(2).build())
+			.teamB(TeamScore.builder().teamId(2L).teamName("상대팀").teamLogo("logo-2.png").teamScore(1).build())
+			.build();
+		return QuarterDetail.builder()
+			.summary(summary)
+			.teamAFormation(participations(0))
+			.teamBFormation(participations(100))
+			.build();
+	}
+
+	private static List<Participation> participations(long offset) {
+		return IntStream.range(0, 16)
+			.mapToObj(i -> Participation.builder()
+				.id(offset + i)
+				.inUserId(offset + i)
+				.inUserName("선수 " + (offset + i))
+				.outUserId(i >= 11 ? offset + i - 11 : null)
+				.outUserName(i >= 11 ? "선수 " + (offset + i - 11) : null)
+				.position(Position.values()[i % Position.values().length])
+				.eventTime(Time.valueOf(i >= 11 ? "00:20:00" : "00:00:00"))
+				.build())
+			.toList();
+	}
+
+	private static List<TeamMemberInfo> roster() {
+		return IntStream.range(0, 40)
+			.mapToObj(i -> TeamMemberInfo.builder()
+				.memberId((long) i)
+				.teamId(1L)
+				.userId(1000L + i)
+				.name("선수 " + i)
+				.position(Position.values()[i % Position.values().length])
+				.backNumber(i + 1)
+				.permission(Permission.MEMBER)
+				.role(Role.NONE)
+				.build())
+			.toList();
+	}
+}
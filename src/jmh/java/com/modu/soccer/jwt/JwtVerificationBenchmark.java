@@ -0,0 +1,72 @@
+package com.modu.soccer.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+compares the interceptor's verification paths.
+- twoParses: previous path, isTokenExpired + getUserId each building a parser and verifying the signature
+- singleParse: one verification with a shared parser
+- cached: verified token served from VerifiedTokenCache
+* */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+	private static final String SECRET =
+		"JvzErMQQTbPz3KrN/Lx3Yl6zq1WgySlrD+UbWB0ALXIuP5gsTjz98bB/yvpCRpj0c5Hv4Vsus03mrzMdPgJAVA==";
+
+	private Key key;
+	private JwtParser parser;
+	private VerifiedTokenCache cache;
+	private String token;
+
+	@Setup
+	public void setup() {
+		key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+		parser = Jwts.parserBuilder().setSigningKey(key).build();
+		cache = new VerifiedTokenCache(10000);
+		Date now = new Date();
+		token = Jwts.builder()
+			.setClaims(Map.of("user_id", "1", "email", "foo@example.com"))
+			.setIssuer("modu_soccer")
+			.setIssuedAt(now)
+			.setExpiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+			.signWith(key)
+			.compact();
+		cache.put(token, parser.parseClaimsJws(token).getBody());
+	}
+
+	@Benchmark
+	public Long twoParses() {
+		Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+		Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+		return Long.valueOf((String) claims.get("user_id"));
+	}
+
+	@Benchmark
+	public Long singleParse() {
+		Claims claims = parser.parseClaimsJws(token).getBody();
+		return Long.valueOf((String) claims.get("user_id"));
+	}
+
+	@Benchmark
+	public Long cached() {
+		Claims claims = cache.get(token);
+		return Long.valueOf((String) claims.get("user_id"));
+	}
+}
@@ -0,0 +1,189 @@
+package com.modu.soccer.repository;
+
+import com.modu.soccer.domain.MatchDto;
+import com.modu.soccer.domain.TeamMemberInfo;
+import com.modu.soccer.entity.Match;
+import com.modu.soccer.entity.Team;
+import com.modu.soccer.entity.TeamMember;
+import com.modu.soccer.entity.TeamRecord;
+import com.modu.soccer.entity.User;
+import com.modu.soccer.enums.AcceptStatus;
+import com.modu.soccer.service.MatchService;
+import com.modu.soccer.service.TeamMemberService;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+compares the list endpoints' previous entity reads with the dto projections they use now.
+- roster: GET /teams/{team_id}/members of a 50 member team
+- matches: GET /matches of a team with 500 matches against 50 opponents
+entity replays what the services did before, load managed entities then map them. projection calls the services.
+both run in a read only transaction like the services, so hibernate keeps no dirty checking snapshot in either.
+bytes allocated per read are printed once per trial, read times are the benchmark scores.
+the schema is created and dropped by hibernate, so it only ever runs against in-memory h2.
+* */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListProjectionBenchmark {
+	private static final int MEMBERS = 50;
+	private static final int MATCHES = 500;
+	private static final int OPPONENTS = 50;
+	private static final int MEASURED_READS = 200;
+
+	@Param({"entity", "projection"})
+	private String read;
+	@Param({"roster", "matches"})
+	private String payload;
+
+	private ConfigurableApplicationContext context;
+	private TransactionTemplate readOnly;
+	private Supplier<List<?>> reader;
+
+	@Setup
+	public void setup() {
+		// spring.config.name keeps application.yml, and with it the mysql datasource, out of the context
+		context = new SpringApplicationBuilder(JpaOnly.class)
+			.web(WebApplicationType.NONE)
+			.run("--spring.config.name=jmh",
+				"--spring.main.banner-mode=off",
+				"--spring.datasource.url=jdbc:h2:mem:projection;MODE=MySQL;DB_CLOSE_DELAY=-1",
+				"--spring.jpa.hibernate.ddl-auto=create-drop");
+		PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		Team team = new TransactionTemplate(transactionManager).execute(status -> seed());
+		reader = readerOf(team.getId());
+
+		for (int i = 0; i < MEASURED_READS; i++) {
+			readList();
+		}
+		com.sun.management.ThreadMXBean threads =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long before = threads.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < MEASURED_READS; i++) {
+			readList();
+		}
+		long perRead = (threads.getCurrentThreadAllocatedBytes() - before) / MEASURED_READS;
+		System.out.printf("%n%s %s: %d bytes allocated per read%n", payload, read, perRead);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<?> readList() {
+		return readOnly.execute(status -> reader.get());
+	}
+
+	private Supplier<List<?>> readerOf(Long teamId) {
+		TeamRepository teamRepository = context.getBean(TeamRepository.class);
+		TeamMemberRepository memberRepository = context.getBean(TeamMemberRepository.class);
+		MatchRepository matchRepository = context.getBean(MatchRepository.class);
+		if ("projection".equals(read)) {
+			MatchService matchService = new MatchService(matchRepository, teamRepository, memberRepository);
+			TeamMemberService memberService = new TeamMemberService(memberRepository, teamRepository,
+				context.getBean(AttackPointRepository.class), context.getBean(QuarterParticipationRepository.class));
+			return "roster".equals(payload)
+				? () -> memberService.getTeamMembers(teamId, AcceptStatus.ACCEPTED)
+				: () -> matchService.getMatches(teamId);
+		}
+		if ("roster".equals(payload)) {
+			return () -> {
+				Team team = teamRepository.findById(teamId).orElseThrow();
+				return memberRepository.findAllByTeamAndAcceptStatus(team, AcceptStatus.ACCEPTED).stream()
+					.map(TeamMemberInfo::fromEntity).toList();
+			};
+		}
+		return () -> {
+			Team team = teamRepository.findById(teamId).orElseThrow();
+			return Stream.concat(matchRepository.findAllByTeamA(team).stream(),
+					matchRepository.findAllByTeamB(team).stream())
+				.sorted().map(MatchDto::fromEntity).toList();
+		};
+	}
+
+	private Team seed() {
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		TeamRepository teamRepository = context.getBean(TeamRepository.class);
+		TeamRecordRepository recordRepository = context.getBean(TeamRecordRepository.class);
+		TeamMemberRepository memberRepository = context.getBean(TeamMemberRepository.class);
+		MatchRepository matchRepository = context.getBean(MatchRepository.class);
+
+		User owner = userRepository.save(user("owner"));
+		Team team = team(teamRepository, recordRepository, owner, "FC 모두");
+		for (int i = 0; i < MEMBERS; i++) {
+			memberRepository.save(TeamMember.builder()
+				.team(team)
+				.user(userRepository.save(user("member" + i)))
+				.backNumber(i + 1)
+				.acceptStatus(AcceptStatus.ACCEPTED)
+				.build());
+		}
+		List<Team> opponents = new ArrayList<>();
+		for (int i = 0; i < OPPONENTS; i++) {
+			opponents.add(team(teamRepository, recordRepository, owner, "상대팀 " + i));
+		}
+		for (int i = 0; i < MATCHES; i++) {
+			Team opponent = opponents.get(i % OPPONENTS);
+			matchRepository.save(Match.builder()
+				.teamA(i % 2 == 0 ? team : opponent)
+				.teamB(i % 2 == 0 ? opponent : team)
+				.matchDateTime(LocalDateTime.of(2022, 3, 1, 10, 0).plusDays(i))
+				.createBy(owner)
+				.build());
+		}
+		return team;
+	}
+
+	private static Team team(TeamRepository teamRepository, TeamRecordRepository recordRepository, User owner,
+		String name) {
+		Team team = teamRepository.save(Team.builder().owner(owner).name(name).build());
+		team.setRecord(recordRepository.save(new TeamRecord(team)));
+		return team;
+	}
+
+	private static User user(String name) {
+		User user = new User();
+		user.setEmail(name + "@modu.soccer");
+		user.setName(name);
+		return user;
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+		TransactionAutoConfiguration.class})
+	@EntityScan(basePackageClasses = Team.class)
+	@EnableJpaRepositories(basePackageClasses = TeamRepository.class)
+	static class JpaOnly {
+	}
+}
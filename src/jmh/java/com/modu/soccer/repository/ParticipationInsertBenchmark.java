@@ -0,0 +1,170 @@
+package com.modu.soccer.repository;
+
+import com.modu.soccer.entity.IdGenerators;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/*
+replays the statements hibernate issues when QuarterService.insertMemberParticipation saves a full lineup,
+11 starters and 5 substitutions, in one transaction.
+- identity: previous mapping, one insert per row reading the generated key back
+- pooled: IdGenerators mapping, one id block reservation per ALLOCATION_SIZE rows and a single batched insert
+runs against in-memory h2 by default, where a round trip costs next to nothing. pass
+-Djmh.jdbc.url=jdbc:mysql://localhost:3306/modu_soccer?rewriteBatchedStatements=true with jmh.jdbc.user and
+jmh.jdbc.password to measure against mysql, which is where the difference shows.
+* */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParticipationInsertBenchmark {
+	private static final int STARTERS = 11;
+	private static final int SUBSTITUTIONS = 5;
+	private static final String SEGMENT = "quarter_participations";
+	private static final String COLUMNS =
+		"in_user_id, in_user_name, out_user_id, team_id, quarter_id, event_time, position, created_at, updated_at";
+
+	@Param({"identity", "pooled"})
+	private String strategy;
+
+	private Connection connection;
+	private Connection generatorConnection;
+	private long nextId;
+	private long maxId = -1;
+
+	@Setup
+	public void setup() throws SQLException {
+		connection = connect();
+		generatorConnection = connect();
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("drop table if exists bench_quarter_participations");
+			statement.execute("drop table if exists bench_id_generators");
+			statement.execute("create table bench_quarter_participations (id bigint auto_increment primary key, "
+				+ "in_user_id bigint, in_user_name varchar(255), out_user_id bigint, team_id bigint, "
+				+ "quarter_id bigint, event_time time, position varchar(255), created_at datetime, updated_at datetime)");
+			statement.execute("create table bench_id_generators (name varchar(255) not null primary key, "
+				+ "next_val bigint)");
+			statement.execute("insert into bench_id_generators (name, next_val) values ('" + SEGMENT + "', 1)");
+		}
+		connection.setAutoCommit(false);
+		generatorConnection.setAutoCommit(false);
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.setAutoCommit(true);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("drop table if exists bench_quarter_participations");
+			statement.execute("drop table if exists bench_id_generators");
+		}
+		generatorConnection.close();
+		connection.close();
+	}
+
+	@Benchmark
+	public int insertLineup() throws SQLException {
+		int inserted = "pooled".equals(strategy) ? insertBatched() : insertOneByOne();
+		connection.commit();
+		return inserted;
+	}
+
+	private int insertOneByOne() throws SQLException {
+		int inserted = 0;
+		try (PreparedStatement statement = connection.prepareStatement(
+			"insert into bench_quarter_participations (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+			Statement.RETURN_GENERATED_KEYS)) {
+			for (int row = 0; row < STARTERS + SUBSTITUTIONS; row++) {
+				bind(statement, row);
+				inserted += statement.executeUpdate();
+				try (ResultSet keys = statement.getGeneratedKeys()) {
+					keys.next();
+				}
+			}
+		}
+		return inserted;
+	}
+
+	// with rewriteBatchedStatements the driver reports SUCCESS_NO_INFO per row, so rows are counted instead
+	private int insertBatched() throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(
+			"insert into bench_quarter_participations (" + COLUMNS + ", id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+			for (int row = 0; row < STARTERS + SUBSTITUTIONS; row++) {
+				int next = bind(statement, row);
+				statement.setLong(next, nextId());
+				statement.addBatch();
+			}
+			return statement.executeBatch().length;
+		}
+	}
+
+	private int bind(PreparedStatement statement, int row) throws SQLException {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		boolean substitution = row >= STARTERS;
+		statement.setLong(1, row + 1L);
+		statement.setString(2, "player" + row);
+		if (substitution) {
+			statement.setLong(3, row - STARTERS + 1L);
+		} else {
+			statement.setNull(3, Types.BIGINT);
+		}
+		statement.setLong(4, 1L);
+		statement.setLong(5, 1L);
+		statement.setTime(6, Time.valueOf(substitution ? "00:25:00" : "00:00:00"));
+		statement.setString(7, "CM");
+		statement.setTimestamp(8, now);
+		statement.setTimestamp(9, now);
+		return 10;
+	}
+
+	private long nextId() throws SQLException {
+		if (nextId > maxId) {
+			reserveBlock();
+		}
+		return nextId++;
+	}
+
+	// what hibernate's TableGenerator does on its own connection, outside the inserting transaction
+	private void reserveBlock() throws SQLException {
+		try (PreparedStatement select = generatorConnection.prepareStatement(
+			"select next_val from bench_id_generators where name = ? for update");
+			PreparedStatement update = generatorConnection.prepareStatement(
+				"update bench_id_generators set next_val = ? where name = ? and next_val = ?")) {
+			select.setString(1, SEGMENT);
+			long low;
+			try (ResultSet resultSet = select.executeQuery()) {
+				resultSet.next();
+				low = resultSet.getLong(1);
+			}
+			update.setLong(1, low + IdGenerators.ALLOCATION_SIZE);
+			update.setString(2, SEGMENT);
+			update.setLong(3, low);
+			update.executeUpdate();
+			generatorConnection.commit();
+			nextId = low;
+			maxId = low + IdGenerators.ALLOCATION_SIZE - 1;
+		}
+	}
+
+	private static Connection connect() throws SQLException {
+		return DriverManager.getConnection(
+			System.getProperty("jmh.jdbc.url", "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1"),
+			System.getProperty("jmh.jdbc.user", "sa"), System.getProperty("jmh.jdbc.password", ""));
+	}
+}
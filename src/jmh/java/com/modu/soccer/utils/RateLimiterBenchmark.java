@@ -0,0 +1,53 @@
+package com.modu.soccer.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/*
+measures the admission check the interceptor runs on every request.
+- singleKey: one hot bucket, uncontended
+- manyKeys: spread over 10k buckets, the per-user case
+- contended: 8 threads hammering the same bucket through CAS
+* */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterBenchmark {
+	private static final int KEYS = 10000;
+
+	private RateLimiter rateLimiter;
+	private String[] keys;
+
+	@Setup
+	public void setup() {
+		rateLimiter = new RateLimiter(100000, 600000);
+		keys = new String[KEYS];
+		for (int i = 0; i < KEYS; i++) {
+			keys[i] = "default:user:" + i;
+		}
+	}
+
+	@Benchmark
+	public long singleKey() {
+		return rateLimiter.tryAcquire(keys[0], 1_000_000, 1_000_000);
+	}
+
+	@Benchmark
+	public long manyKeys() {
+		return rateLimiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEYS)], 1_000_000, 1_000_000);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public long contended() {
+		return rateLimiter.tryAcquire(keys[0], 1_000_000, 1_000_000);
+	}
+}
@@ -0,0 +1,50 @@
+package com.modu.soccer.advice;
+
+import com.modu.soccer.exception.CustomException;
+import com.modu.soccer.exception.ErrorCode;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/*
+graphql counterpart of GlobalExceptionAdvice.
+a CustomException becomes an error carrying the same code and message as the rest response would,
+anything else is left to spring's default INTERNAL_ERROR.
+* */
+@Slf4j
+@Component
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+	@Override
+	protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+		if (!(ex instanceof CustomException e)) {
+			return null;
+		}
+		ErrorCode errorCode = e.getErrorCode();
+		if (errorCode.getHttpStatus().value() >= 500) {
+			log.error("graphql fetcher throw CustomException : {}", errorCode);
+		}
+		String message = e.getParam() != null ? String.format(errorCode.getMsg(), e.getParam()) : errorCode.getMsg();
+		return GraphqlErrorBuilder.newError(env)
+			.errorType(toErrorType(errorCode.getHttpStatus()))
+			.message(message)
+			.extensions(Map.of("code", errorCode.getCode()))
+			.build();
+	}
+
+	private ErrorType toErrorType(HttpStatus httpStatus) {
+		return switch (httpStatus) {
+			case BAD_REQUEST -> ErrorType.BAD_REQUEST;
+			case UNAUTHORIZED -> ErrorType.UNAUTHORIZED;
+			case FORBIDDEN -> ErrorType.FORBIDDEN;
+			case NOT_FOUND -> ErrorType.NOT_FOUND;
+			default -> ErrorType.INTERNAL_ERROR;
+		};
+	}
+}
@@ -0,0 +1,44 @@
+package com.modu.soccer.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+	private int bufferSize = 4096;
+	private int bodyMaxBytes = 2048;
+	// 5xx and slow calls are always logged with bodies up to this size
+	private int errorBodyMaxBytes = 65536;
+	// used until a route has its own latency baseline, see RouteLatencyProperties
+	private long slowThresholdMillis = 5000;
+	private double sampleRate = 1.0;
+	private List<String> redactedHeaders = new ArrayList<>(
+		List.of("authorization", "proxy-authorization", "cookie", "set-cookie"));
+	private List<RouteSampling> routes = new ArrayList<>();
+	// bodies of these routes carry tokens, they are never logged whatever the status, latency or sampling
+	private List<String> bodyExcludedRoutes = new ArrayList<>(List.of("/api/v1/oauth/**", "/api/v1/user/token"));
+	// larger responses, streaming content types and streaming routes are passed through instead of buffered
+	private int responseBufferMaxBytes = 262144;
+	private List<String> streamingContentTypes = new ArrayList<>(
+		List.of("text/event-stream", "application/x-ndjson", "application/stream+json"));
+	private List<String> streamingRoutes = new ArrayList<>();
+	// bodies of these content types are only logged by size
+	private List<String> binaryContentTypes = new ArrayList<>(
+		List.of("application/cbor", "application/octet-stream", "image/"));
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class RouteSampling {
+		private String pattern;
+		private double sampleRate;
+	}
+}
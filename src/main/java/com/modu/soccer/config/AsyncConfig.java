@@ -0,0 +1,90 @@
+package com.modu.soccer.config;
+
+import com.modu.soccer.datasource.ReadYourWrites;
+import com.modu.soccer.sql.SqlStatistics;
+import com.modu.soccer.sql.SqlStatisticsHolder;
+import com.modu.soccer.tracing.TraceContext;
+import com.modu.soccer.tracing.Tracer;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+	@Value("${auth.login_executor.core_size:8}")
+	private Integer loginCoreSize;
+	@Value("${auth.login_executor.max_size:16}")
+	private Integer loginMaxSize;
+	@Value("${auth.login_executor.queue_capacity:100}")
+	private Integer loginQueueCapacity;
+
+	/*
+	oauth callbacks wait on kakao, so they run here instead of on tomcat workers.
+	the queue is bounded and a full executor rejects the task, which is answered as LOGIN_BUSY.
+	* */
+	@Bean
+	public ThreadPoolTaskExecutor oauthLoginExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(loginCoreSize);
+		executor.setMaxPoolSize(loginMaxSize);
+		executor.setQueueCapacity(loginQueueCapacity);
+		executor.setThreadNamePrefix("oauth-login-");
+		executor.setTaskDecorator(requestContextTaskDecorator());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		return executor;
+	}
+
+	/*
+	any Executor bean makes boot back off its own applicationTaskExecutor, and mvc async and @Async
+	would then fall back to SimpleAsyncTaskExecutor, a new thread per task.
+	this is boot's pool again, sized by spring.task.execution, with the request context carried over.
+	* */
+	@Lazy
+	@Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+		AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+	public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+		return builder.taskDecorator(requestContextTaskDecorator()).build();
+	}
+
+	// carries mdc, a forked trace context, sql statistics and read-your-writes of the submitting request to the worker
+	private TaskDecorator requestContextTaskDecorator() {
+		return runnable -> {
+			Map<String, String> context = MDC.getCopyOfContextMap();
+			Optional<TraceContext> trace = Tracer.fork();
+			Optional<SqlStatistics> sqlStatistics = SqlStatisticsHolder.current();
+			boolean readYourWrites = ReadYourWrites.isActive();
+			boolean written = ReadYourWrites.hasWritten();
+			return () -> {
+				if (context != null) {
+					MDC.setContextMap(context);
+				}
+				trace.ifPresent(Tracer::bind);
+				sqlStatistics.ifPresent(SqlStatisticsHolder::bind);
+				if (readYourWrites) {
+					ReadYourWrites.begin();
+				}
+				if (written) {
+					ReadYourWrites.markWritten();
+				}
+				try {
+					runnable.run();
+				} finally {
+					MDC.clear();
+					Tracer.clear();
+					SqlStatisticsHolder.clear();
+					ReadYourWrites.clear();
+				}
+			};
+		};
+	}
+}
@@ -0,0 +1,62 @@
+package com.modu.soccer.config;
+
+import com.modu.soccer.config.DataSourceRoutingProperties.Replica;
+import com.modu.soccer.datasource.ReplicaRouter;
+import com.modu.soccer.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/*
+sends read only transactions to the replicas listed under datasource_routing, the primary stays on spring.datasource.
+the pools live in ReplicaRouter rather than in the context, so the lazy proxy below is the only DataSource bean
+and the sql monitoring proxy wraps every routed connection exactly once.
+* */
+@Configuration
+@ConditionalOnProperty(name = "datasource_routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+	@Bean
+	public ReplicaRouter replicaRouter(DataSourceProperties dataSourceProperties,
+		DataSourceRoutingProperties properties) {
+		HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		primary.setPoolName("primary");
+
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		for (Replica replica : properties.getReplicas()) {
+			HikariDataSource dataSource = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.url(replica.getUrl())
+				.username(replica.getUsername())
+				.password(replica.getPassword())
+				.driverClassName(replica.getDriverClassName())
+				.build();
+			dataSource.setPoolName(replica.getName());
+			dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+			dataSource.setReadOnly(true);
+			replicas.put(replica.getName(), dataSource);
+		}
+
+		ReplicaRouter router = new ReplicaRouter(primary, replicas, properties);
+		router.checkLag();
+		return router;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRouter replicaRouter) {
+		return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(replicaRouter));
+	}
+}
@@ -0,0 +1,32 @@
+package com.modu.soccer.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource-routing")
+public class DataSourceRoutingProperties {
+	private boolean enabled = false;
+	// a replica further behind than this is skipped, the probe only reports whole seconds
+	private long maxLagMillis = 1000;
+	private long lagCheckMillis = 5000;
+	// empty lag query means the replica is never considered behind, e.g. for embedded databases
+	private String lagQuery = "SHOW REPLICA STATUS";
+	private String lagColumn = "Seconds_Behind_Source";
+	private List<Replica> replicas = new ArrayList<>();
+
+	@Getter
+	@Setter
+	public static class Replica {
+		private String name;
+		private String url;
+		private String username;
+		private String password;
+		private String driverClassName;
+		private int maximumPoolSize = 10;
+	}
+}
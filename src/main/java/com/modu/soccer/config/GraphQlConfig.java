@@ -0,0 +1,37 @@
+package com.modu.soccer.config;
+
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.GraphQLTypeUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+limits applied to every graphql request before any fetcher runs.
+a list field is charged listWeight times its selection, so nested lists such as matches -> quarters -> goals
+multiply and deep fan outs are rejected up front instead of turning into large IN queries.
+* */
+@Configuration
+public class GraphQlConfig {
+
+	@Value("${graphql.max_depth:8}")
+	private Integer maxDepth;
+	@Value("${graphql.max_complexity:1000}")
+	private Integer maxComplexity;
+	@Value("${graphql.list_weight:5}")
+	private Integer listWeight;
+
+	@Bean
+	public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation() {
+		return new MaxQueryDepthInstrumentation(maxDepth);
+	}
+
+	@Bean
+	public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation() {
+		return new MaxQueryComplexityInstrumentation(maxComplexity, (env, childComplexity) -> {
+			boolean isList = GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(env.getFieldDefinition().getType()));
+			return isList ? listWeight * (1 + childComplexity) : 1 + childComplexity;
+		});
+	}
+}
@@ -0,0 +1,195 @@
+package com.modu.soccer.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.modu.soccer.datasource.ReplicaRouter;
+import com.modu.soccer.filter.AccessLogWriter;
+import com.modu.soccer.jwt.PrincipalCache;
+import com.modu.soccer.jwt.RequestRateLimiter;
+import com.modu.soccer.jwt.TokenRevocationList;
+import com.modu.soccer.logging.SpoolingAppender;
+import com.modu.soccer.sql.ConnectionHoldListener;
+import com.modu.soccer.sql.SqlMonitoringListener;
+import com.modu.soccer.sql.SqlStatementBudget;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public MeterBinder principalCacheMetrics(PrincipalCache principalCache) {
+		return registry -> {
+			FunctionCounter.builder("auth.principal.cache.gets", principalCache, PrincipalCache::getHitCount)
+				.tag("result", "hit")
+				.register(registry);
+			FunctionCounter.builder("auth.principal.cache.gets", principalCache, PrincipalCache::getMissCount)
+				.tag("result", "miss")
+				.register(registry);
+			FunctionCounter.builder("auth.principal.cache.evictions", principalCache,
+					PrincipalCache::getEvictionCount)
+				.register(registry);
+			Gauge.builder("auth.principal.cache.size", principalCache, PrincipalCache::size)
+				.register(registry);
+		};
+	}
+
+	@Bean
+	public MeterBinder tokenRevocationMetrics(TokenRevocationList tokenRevocationList) {
+		return registry -> {
+			FunctionCounter.builder("auth.revocation.checks", tokenRevocationList,
+					TokenRevocationList::getNegativeCount)
+				.tag("result", "negative")
+				.register(registry);
+			FunctionCounter.builder("auth.revocation.checks", tokenRevocationList, TokenRevocationList::getHitCount)
+				.tag("result", "revoked")
+				.register(registry);
+			FunctionCounter.builder("auth.revocation.checks", tokenRevocationList,
+					TokenRevocationList::getFalsePositiveCount)
+				.tag("result", "false_positive")
+				.register(registry);
+			Gauge.builder("auth.revocation.filter.size", tokenRevocationList, TokenRevocationList::size)
+				.register(registry);
+			Gauge.builder("auth.revocation.filter.memory", tokenRevocationList,
+					TokenRevocationList::getMemoryBytes)
+				.baseUnit("bytes")
+				.register(registry);
+			Gauge.builder("auth.revocation.filter.fpp.expected", tokenRevocationList,
+					TokenRevocationList::getExpectedFalsePositiveRate)
+				.register(registry);
+			Gauge.builder("auth.revocation.filter.fpp.observed", tokenRevocationList,
+					TokenRevocationList::getObservedFalsePositiveRate)
+				.register(registry);
+		};
+	}
+
+	@Bean
+	public MeterBinder rateLimitMetrics(RequestRateLimiter requestRateLimiter) {
+		return registry -> {
+			FunctionCounter.builder("rate.limit.rejections", requestRateLimiter,
+					RequestRateLimiter::getUserRejectionCount)
+				.tag("scope", "user")
+				.register(registry);
+			FunctionCounter.builder("rate.limit.rejections", requestRateLimiter,
+					RequestRateLimiter::getIpRejectionCount)
+				.tag("scope", "ip")
+				.register(registry);
+			Gauge.builder("rate.limit.buckets", requestRateLimiter, RequestRateLimiter::size)
+				.register(registry);
+		};
+	}
+
+	@Bean
+	public MeterBinder accessLogMetrics(AccessLogWriter accessLogWriter) {
+		return registry -> {
+			FunctionCounter.builder("access.log.records", accessLogWriter, AccessLogWriter::getWrittenCount)
+				.tag("result", "written")
+				.register(registry);
+			FunctionCounter.builder("access.log.records", accessLogWriter, AccessLogWriter::getDroppedCount)
+				.tag("result", "dropped")
+				.register(registry);
+			Gauge.builder("access.log.buffer.size", accessLogWriter, AccessLogWriter::size)
+				.register(registry);
+		};
+	}
+
+	@Bean
+	public MeterBinder sqlMetrics(SqlStatementBudget sqlStatementBudget,
+		ObjectProvider<SqlMonitoringListener> sqlMonitoringListener,
+		ObjectProvider<ConnectionHoldListener> connectionHoldListener) {
+		return registry -> {
+			FunctionCounter.builder("sql.requests.over.budget", sqlStatementBudget,
+					SqlStatementBudget::getExceededCount)
+				.register(registry);
+			sqlMonitoringListener.ifAvailable(listener -> {
+				FunctionCounter.builder("sql.statements", listener, SqlMonitoringListener::getStatementCount)
+					.tag("result", "all")
+					.register(registry);
+				FunctionCounter.builder("sql.statements", listener, SqlMonitoringListener::getSlowStatementCount)
+					.tag("result", "slow")
+					.register(registry);
+			});
+			connectionHoldListener.ifAvailable(listener -> {
+				FunctionTimer.builder("sql.connection.hold", listener, ConnectionHoldListener::getHoldCount,
+						ConnectionHoldListener::getHoldMillis, TimeUnit.MILLISECONDS)
+					.register(registry);
+				Gauge.builder("sql.connection.open", listener, ConnectionHoldListener::getOpenConnectionCount)
+					.register(registry);
+			});
+		};
+	}
+
+	@Bean
+	public MeterBinder replicaRoutingMetrics(ObjectProvider<ReplicaRouter> replicaRouter) {
+		return registry -> replicaRouter.ifAvailable(router -> {
+			FunctionCounter.builder("datasource.routing.reads", router, ReplicaRouter::getReplicaReadCount)
+				.tag("target", "replica")
+				.register(registry);
+			FunctionCounter.builder("datasource.routing.reads", router, ReplicaRouter::getPrimaryReadCount)
+				.tag("target", "primary")
+				.register(registry);
+			Gauge.builder("datasource.routing.replicas.available", router, ReplicaRouter::getAvailableReplicaCount)
+				.register(registry);
+		});
+	}
+
+	// spooling appenders are created by logback, so they are looked up on the root logger
+	@Bean
+	public MeterBinder logShippingMetrics() {
+		return registry -> {
+			LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+			Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME)
+				.iteratorForAppenders();
+			while (appenders.hasNext()) {
+				if (!(appenders.next() instanceof SpoolingAppender appender)) {
+					continue;
+				}
+				Tags tags = Tags.of("appender", appender.getName());
+				FunctionCounter.builder("log.shipping.events", appender, SpoolingAppender::getQueuedCount)
+					.tags(tags).tag("result", "queued")
+					.register(registry);
+				FunctionCounter.builder("log.shipping.events", appender, SpoolingAppender::getSpooledCount)
+					.tags(tags).tag("result", "spooled")
+					.register(registry);
+				FunctionCounter.builder("log.shipping.events", appender, SpoolingAppender::getDroppedCount)
+					.tags(tags).tag("result", "dropped")
+					.register(registry);
+				FunctionCounter.builder("log.shipping.events", appender, SpoolingAppender::getShippedCount)
+					.tags(tags).tag("result", "shipped")
+					.register(registry);
+				Gauge.builder("log.shipping.queue.size", appender, SpoolingAppender::getQueueDepth)
+					.tags(tags)
+					.register(registry);
+				Gauge.builder("log.shipping.spool.size", appender, SpoolingAppender::getSpoolBytes)
+					.tags(tags)
+					.baseUnit("bytes")
+					.register(registry);
+			}
+		};
+	}
+
+	@Bean
+	public MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(httpClientConnectionManager, "rest-template");
+	}
+
+	@Bean
+	public MeterBinder circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+		return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+	}
+}
@@ -0,0 +1,42 @@
+package com.modu.soccer.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+	private boolean enabled = true;
+	private int maxBuckets = 100000;
+	private long idleEvictMillis = 600000;
+	private Limit user = new Limit(120, 20);
+	private Limit ip = new Limit(300, 50);
+	private List<RouteGroup> groups = new ArrayList<>();
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Limit {
+		private long capacity;
+		private double refillPerSecond;
+	}
+
+	// limits left empty fall back to the top level user and ip limits
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class RouteGroup {
+		private String name;
+		private List<String> patterns = new ArrayList<>();
+		private Limit user;
+		private Limit ip;
+	}
+}
@@ -0,0 +1,49 @@
+package com.modu.soccer.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@Configuration
+public class ResilienceConfig {
+	public static final String KAKAO_CIRCUIT_BREAKER = "kakao";
+
+	@Value("${resilience.kakao.failure_rate_threshold:50}")
+	private Float failureRateThreshold;
+	@Value("${resilience.kakao.slow_call_rate_threshold:80}")
+	private Float slowCallRateThreshold;
+	@Value("${resilience.kakao.slow_call_threshold_millis:2000}")
+	private Long slowCallThresholdMillis;
+	@Value("${resilience.kakao.sliding_window_size:20}")
+	private Integer slidingWindowSize;
+	@Value("${resilience.kakao.minimum_number_of_calls:10}")
+	private Integer minimumNumberOfCalls;
+	@Value("${resilience.kakao.open_state_millis:10000}")
+	private Long openStateMillis;
+
+	@Bean
+	public CircuitBreakerRegistry circuitBreakerRegistry() {
+		return CircuitBreakerRegistry.ofDefaults();
+	}
+
+	// only kakao side failures count, a bad authorization code from the client must not open the circuit
+	@Bean
+	public CircuitBreaker kakaoCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+		CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+			.failureRateThreshold(failureRateThreshold)
+			.slowCallRateThreshold(slowCallRateThreshold)
+			.slowCallDurationThreshold(Duration.ofMillis(slowCallThresholdMillis))
+			.slidingWindowSize(slidingWindowSize)
+			.minimumNumberOfCalls(minimumNumberOfCalls)
+			.waitDurationInOpenState(Duration.ofMillis(openStateMillis))
+			.recordException(e -> e instanceof HttpServerErrorException || e instanceof ResourceAccessException)
+			.build();
+		return circuitBreakerRegistry.circuitBreaker(KAKAO_CIRCUIT_BREAKER, config);
+	}
+}
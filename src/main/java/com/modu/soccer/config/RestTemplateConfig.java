@@ -1,26 +1,75 @@
 package com.modu.soccer.config;
 
+import com.modu.soccer.tracing.TracingHttpRequestInterceptor;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
+	@Value("${http.client.max_total:50}")
+	private Integer maxTotal;
+	@Value("${http.client.max_per_route:20}")
+	private Integer maxPerRoute;
+	@Value("${http.client.connect_timeout_millis:3000}")
+	private Integer connectTimeoutMillis;
+	@Value("${http.client.read_timeout_millis:5000}")
+	private Integer readTimeoutMillis;
+	@Value("${http.client.pool_timeout_millis:1000}")
+	private Integer poolTimeoutMillis;
+	@Value("${http.client.idle_timeout_millis:30000}")
+	private Integer idleTimeoutMillis;
 
 	@Bean
-	public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+	public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+			idleTimeoutMillis, TimeUnit.MILLISECONDS);
+		connectionManager.setMaxTotal(maxTotal);
+		connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+		connectionManager.setValidateAfterInactivity(2000);
+		return connectionManager;
+	}
+
+	@Bean
+	public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder,
+		PoolingHttpClientConnectionManager httpClientConnectionManager) {
+		CloseableHttpClient httpClient = createHttpClient(httpClientConnectionManager);
 		return restTemplateBuilder
-			.requestFactory(
-				() -> new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory()))
-			.setConnectTimeout(Duration.ofMillis(5000))
-			.setReadTimeout(Duration.ofMillis(5000))
+			.requestFactory(() -> new BufferingClientHttpRequestFactory(
+				new HttpComponentsClientHttpRequestFactory(httpClient)))
 			.additionalMessageConverters(new StringHttpMessageConverter(StandardCharsets.UTF_8))
+			.additionalInterceptors(new TracingHttpRequestInterceptor())
+			.build();
+	}
+
+	/*
+	connections are kept alive and reused per host, so TLS is negotiated once per pooled connection.
+	pool timeout bounds how long a caller waits for a free connection when the route is saturated.
+	* */
+	private CloseableHttpClient createHttpClient(PoolingHttpClientConnectionManager connectionManager) {
+		RequestConfig requestConfig = RequestConfig.custom()
+			.setConnectTimeout(connectTimeoutMillis)
+			.setSocketTimeout(readTimeoutMillis)
+			.setConnectionRequestTimeout(poolTimeoutMillis)
+			.build();
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(requestConfig)
+			.setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+			.evictExpiredConnections()
+			.evictIdleConnections(idleTimeoutMillis, TimeUnit.MILLISECONDS)
 			.build();
 	}
 }
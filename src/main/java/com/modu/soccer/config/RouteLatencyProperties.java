@@ -0,0 +1,20 @@
+package com.modu.soccer.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "route-latency")
+public class RouteLatencyProperties {
+	// histograms keep a rolling window of this length, rotated in buffer_length steps
+	private long windowMillis = 300000;
+	private int bufferLength = 5;
+	private double slowPercentile = 0.99;
+	private double slowMultiplier = 2.0;
+	private long minSlowThresholdMillis = 200;
+	// routes with fewer samples in the window fall back to access_log.slow_threshold_millis
+	private long minSamples = 100;
+	private long baselineRefreshMillis = 1000;
+}
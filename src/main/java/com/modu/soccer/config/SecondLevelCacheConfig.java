@@ -0,0 +1,69 @@
+package com.modu.soccer.config;
+
+import com.modu.soccer.config.SecondLevelCacheProperties.Region;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+hibernate second level cache on heap ehcache regions, sized and expired per region from second_level_cache.regions.
+the ttl bounds how long a row written around hibernate, or read from a lagging replica, can be served stale.
+statistics are switched on with it, HibernateMetrics then exports hits, misses and puts per region.
+* */
+@Configuration
+@ConditionalOnProperty(name = "second_level_cache.enabled", havingValue = "true")
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+	// a manager of its own per context, so test contexts living side by side don't share regions
+	@Bean(destroyMethod = "close")
+	public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+		CacheManager cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+			.getCacheManager(URI.create("urn:second-level-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+		properties.getRegions().forEach((name, region) -> cacheManager.createCache(name,
+			regionConfiguration(region.getMaxEntries(),
+				ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(region.getTtlSeconds())))));
+		// query results are checked against these, an expired entry would serve results older than a write
+		cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+			regionConfiguration(properties.getTimestampsMaxEntries(), ExpiryPolicyBuilder.noExpiration()));
+		return cacheManager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+			hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+			hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+			hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+		};
+	}
+
+	private static javax.cache.configuration.Configuration<Object, Object> regionConfiguration(long maxEntries,
+		ExpiryPolicy<Object, Object> expiry) {
+		CacheConfiguration<Object, Object> configuration = CacheConfigurationBuilder
+			.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+			.withExpiry(expiry)
+			.build();
+		return Eh107Configuration.fromEhcacheCacheConfiguration(configuration);
+	}
+}
@@ -0,0 +1,29 @@
+package com.modu.soccer.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "second-level-cache")
+public class SecondLevelCacheProperties {
+	private boolean enabled = false;
+	// keyed by region name, see CacheRegions
+	private Map<String, Region> regions = new LinkedHashMap<>();
+	// one entry per table, never expired
+	private long timestampsMaxEntries = 100;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Region {
+		private long maxEntries;
+		private long ttlSeconds;
+	}
+}
@@ -0,0 +1,54 @@
+package com.modu.soccer.config;
+
+import com.modu.soccer.sql.ConnectionHoldListener;
+import com.modu.soccer.sql.SqlMonitoringListener;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+hibernate's StatementInspector only sees the sql text before it is prepared,
+so statements are counted and timed one level lower, on a proxy around the DataSource.
+the same proxy times how long each connection is held between getConnection and close.
+* */
+@Configuration
+@ConditionalOnProperty(name = "sql_monitor.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SqlMonitorProperties.class)
+public class SqlMonitorConfig {
+
+	@Bean
+	public SqlMonitoringListener sqlMonitoringListener(SqlMonitorProperties properties) {
+		return new SqlMonitoringListener(properties.getSlowStatementMillis());
+	}
+
+	@Bean
+	public ConnectionHoldListener connectionHoldListener() {
+		return new ConnectionHoldListener();
+	}
+
+	// static, so the post processor is registered before the DataSource is created
+	@Bean
+	public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(
+		ObjectProvider<SqlMonitoringListener> sqlMonitoringListener,
+		ObjectProvider<ConnectionHoldListener> connectionHoldListener) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+					return bean;
+				}
+				return ProxyDataSourceBuilder.create(dataSource)
+					.name(beanName)
+					.listener(sqlMonitoringListener.getObject())
+					.methodListener(connectionHoldListener.getObject())
+					.build();
+			}
+		};
+	}
+}
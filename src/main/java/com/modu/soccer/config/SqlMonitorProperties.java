@@ -0,0 +1,29 @@
+package com.modu.soccer.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sql-monitor")
+public class SqlMonitorProperties {
+	private boolean enabled = true;
+	private long slowStatementMillis = 200;
+	// statements one request may run before its access log record is flagged, unless a route says otherwise
+	private int statementBudget = 30;
+	private List<RouteBudget> routes = new ArrayList<>();
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class RouteBudget {
+		private String pattern;
+		private int statementBudget;
+	}
+}
@@ -0,0 +1,50 @@
+package com.modu.soccer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modu.soccer.filter.RouteLatencyTracker;
+import com.modu.soccer.tracing.TracingAspect;
+import com.modu.soccer.tracing.TracingFilter;
+import com.modu.soccer.tracing.ZipkinSpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+	@Value("${tracing.max_spans:1000}")
+	private Integer maxSpans;
+	@Value("${tracing.export.endpoint:http://localhost:9411/api/v2/spans}")
+	private String exportEndpoint;
+	@Value("${tracing.export.sample_rate:0.01}")
+	private Double exportSampleRate;
+	@Value("${tracing.export.queue_capacity:1000}")
+	private Integer exportQueueCapacity;
+	@Value("${tracing.service_name:modu_soccer}")
+	private String serviceName;
+
+	@Bean
+	public TracingAspect tracingAspect() {
+		return new TracingAspect();
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "tracing.export.enabled", havingValue = "true")
+	public ZipkinSpanExporter zipkinSpanExporter(ObjectMapper mapper) {
+		return new ZipkinSpanExporter(exportEndpoint, serviceName, exportQueueCapacity, mapper);
+	}
+
+	// runs right inside LoggingFilter, so the access log and the trace share the request's MDC
+	@Bean
+	public FilterRegistrationBean<TracingFilter> tracingFilter(RouteLatencyTracker routeLatencyTracker,
+		ObjectProvider<ZipkinSpanExporter> zipkinSpanExporter) {
+		FilterRegistrationBean<TracingFilter> registrationBean = new FilterRegistrationBean<>(
+			new TracingFilter(routeLatencyTracker, zipkinSpanExporter.getIfAvailable(), maxSpans, exportSampleRate));
+		registrationBean.setOrder(Integer.MIN_VALUE + 1);
+		registrationBean.addUrlPatterns("/*");
+		return registrationBean;
+	}
+}
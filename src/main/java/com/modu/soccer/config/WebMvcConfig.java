@@ -1,51 +1,138 @@
 package com.modu.soccer.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.modu.soccer.filter.AccessLogWriter;
 import com.modu.soccer.filter.LoggingFilter;
+import com.modu.soccer.filter.RouteLatencyTracker;
 import com.modu.soccer.jwt.JwtInterceptor;
 import com.modu.soccer.jwt.JwtProvider;
+import com.modu.soccer.jwt.PrincipalCache;
+import com.modu.soccer.jwt.RateLimitInterceptor;
+import com.modu.soccer.jwt.RequestRateLimiter;
+import com.modu.soccer.jwt.TokenRevocationList;
+import com.modu.soccer.repository.RevokedTokenRepository;
 import com.modu.soccer.repository.UserRepository;
+import com.modu.soccer.sql.SqlStatementBudget;
 import com.modu.soccer.utils.AttackPointTypeConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties({RateLimitProperties.class, AccessLogProperties.class,
+	RouteLatencyProperties.class, SqlMonitorProperties.class})
 public class WebMvcConfig implements WebMvcConfigurer {
+	private static final String PUBLIC_PATH_PATTERN = "/api/v1/public/**";
 
 	private final JwtProvider jwtProvider;
 	private final UserRepository userRepository;
+	private final RevokedTokenRepository revokedTokenRepository;
 	private final ObjectMapper mapper;
+	private final RateLimitProperties rateLimitProperties;
+	private final AccessLogProperties accessLogProperties;
+	private final RouteLatencyProperties routeLatencyProperties;
+	private final SqlMonitorProperties sqlMonitorProperties;
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+	private final Jackson2ObjectMapperBuilder jacksonObjectMapperBuilder;
+
+	@Value("${auth.principal_cache.max_size:10000}")
+	private Integer principalCacheMaxSize;
+	@Value("${auth.principal_cache.ttl_millis:60000}")
+	private Long principalCacheTtlMillis;
+	@Value("${auth.revocation.expected_insertions:100000}")
+	private Integer revocationExpectedInsertions;
+	@Value("${auth.revocation.false_positive_probability:0.01}")
+	private Double revocationFalsePositiveProbability;
 
 	@Override
 	public void addFormatters(FormatterRegistry registry) {
 		registry.addConverter(new AttackPointTypeConverter());
 	}
 
+	/*
+	clients sending Accept: application/cbor get the same ApiResponse shapes in CBOR.
+	spring's default cbor converter is built from a bare mapper, so it is replaced by one from the application's
+	builder, and kept behind the json converter so json stays the default for any other Accept.
+	* */
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+		converters.add(new MappingJackson2CborHttpMessageConverter(
+			jacksonObjectMapperBuilder.factory(new CBORFactory()).build()));
+	}
+
 	@Bean
 	public FilterRegistrationBean getFilterRegistrationBean() {
-		FilterRegistrationBean registrationBean = new FilterRegistrationBean(new LoggingFilter());
+		FilterRegistrationBean registrationBean = new FilterRegistrationBean(
+			new LoggingFilter(accessLogProperties, accessLogWriter(), routeLatencyTracker(),
+				sqlStatementBudget()));
 		registrationBean.setOrder(Integer.MIN_VALUE);
 		registrationBean.addUrlPatterns("/*");
 		return registrationBean;
 	}
 
+	@Bean
+	public AccessLogWriter accessLogWriter() {
+		return new AccessLogWriter(accessLogProperties.getBufferSize(), mapper);
+	}
+
+	@Bean
+	public RouteLatencyTracker routeLatencyTracker() {
+		return new RouteLatencyTracker(meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+			routeLatencyProperties, accessLogProperties.getSlowThresholdMillis());
+	}
+
+	@Bean
+	public SqlStatementBudget sqlStatementBudget() {
+		return new SqlStatementBudget(sqlMonitorProperties);
+	}
+
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
 		registry.addInterceptor(jwtInterceptor())
 			.order(1)
 			.excludePathPatterns("**/favicon.ico", "/error-page/**",
 				"/api/v1/oauth/**", "/api/v1/user/token",
-				"/api/health");
+				"/api/health", PUBLIC_PATH_PATTERN);
+		registry.addInterceptor(new RateLimitInterceptor(requestRateLimiter(), mapper))
+			.order(1)
+			.addPathPatterns(PUBLIC_PATH_PATTERN);
 	}
 
 	@Bean
 	public JwtInterceptor jwtInterceptor() {
-		return new JwtInterceptor(userRepository, jwtProvider, mapper);
+		return new JwtInterceptor(userRepository, jwtProvider, principalCache(), tokenRevocationList(),
+			requestRateLimiter(), mapper);
+	}
+
+	@Bean
+	public PrincipalCache principalCache() {
+		return new PrincipalCache(principalCacheMaxSize, principalCacheTtlMillis);
+	}
+
+	@Bean
+	public TokenRevocationList tokenRevocationList() {
+		return new TokenRevocationList(revokedTokenRepository, revocationExpectedInsertions,
+			revocationFalsePositiveProbability);
+	}
+
+	@Bean
+	public RequestRateLimiter requestRateLimiter() {
+		return new RequestRateLimiter(rateLimitProperties);
 	}
 }
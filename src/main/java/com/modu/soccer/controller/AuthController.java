@@ -1,19 +1,33 @@
 package com.modu.soccer.controller;
 
 import com.modu.soccer.domain.ApiResponse;
+import com.modu.soccer.domain.UserSessionDto;
+import com.modu.soccer.domain.UserSessionToken;
 import com.modu.soccer.domain.request.OauthLoginRequest;
 import com.modu.soccer.domain.request.TokenRefreshRequest;
 import com.modu.soccer.domain.response.AuthenticateResponse;
 import com.modu.soccer.domain.response.KakaoUserInfoResponse;
 import com.modu.soccer.entity.User;
+import com.modu.soccer.entity.UserSession;
 import com.modu.soccer.enums.TokenType;
+import com.modu.soccer.exception.CustomException;
+import com.modu.soccer.exception.ErrorCode;
 import com.modu.soccer.jwt.JwtProvider;
 import com.modu.soccer.service.AuthService;
 import com.modu.soccer.service.KakaoOauthService;
+import com.modu.soccer.service.UserSessionService;
+import com.modu.soccer.utils.UserContextUtil;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -27,17 +41,32 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1")
 public class AuthController {
 
+	private static final String DEVICE_ID_HEADER = "X-Device-Id";
+
 	private final KakaoOauthService kakaoOauthService;
 	private final AuthService authService;
+	private final UserSessionService userSessionService;
 	private final JwtProvider jwtProvider;
+	@Qualifier("oauthLoginExecutor")
+	private final Executor oauthLoginExecutor;
 
+	// runs on the bounded login executor, so slow kakao responses do not hold servlet threads
 	@GetMapping("/oauth/callback/kakao")
-	public ApiResponse<?> kakaoCallback(@RequestParam String code) {
-		String token = kakaoOauthService.requestOauthToken(code);
-		KakaoUserInfoResponse userInfo = kakaoOauthService.getUserInfo(token);
-		User user = authService.oauthLogin(OauthLoginRequest.from(userInfo));
-		return ApiResponse.withBody(
-			AuthenticateResponse.of(user, jwtProvider.createTokenOfType(user, TokenType.AUTH_ACCESS_TOKEN)));
+	public CompletableFuture<ApiResponse<?>> kakaoCallback(
+		@RequestParam String code,
+		@RequestHeader(value = DEVICE_ID_HEADER, required = false) String deviceId
+	) {
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				String token = kakaoOauthService.requestOauthToken(code);
+				KakaoUserInfoResponse userInfo = kakaoOauthService.getUserInfo(token);
+				UserSessionToken session = authService.oauthLogin(OauthLoginRequest.from(userInfo), deviceId);
+				return ApiResponse.withBody(toAuthenticateResponse(session));
+			}, oauthLoginExecutor);
+		} catch (RejectedExecutionException e) {
+			log.warn("oauth login executor saturated");
+			throw new CustomException(ErrorCode.LOGIN_BUSY);
+		}
 	}
 
 	@PostMapping("/user/token")
@@ -49,16 +78,33 @@ public class AuthController {
 		if (!jwtProvider.isTokenExpired(accessToken)) {
 			throw new IllegalArgumentException("token is not expired.");
 		}
-		User user = authService.refreshUserToken(accessToken, request.getRefreshToken());
-		return ApiResponse.withBody(
-			AuthenticateResponse.of(user, jwtProvider.createTokenOfType(user, TokenType.AUTH_ACCESS_TOKEN)));
+		UserSessionToken session = authService.refreshUserToken(accessToken, request.getRefreshToken());
+		return ApiResponse.withBody(toAuthenticateResponse(session));
 	}
 
 	@GetMapping("/user/logout")
-	public ApiResponse<?> logout() {
-		authService.logoutCurrentUser();
+	public ApiResponse<?> logout(@RequestHeader(value = DEVICE_ID_HEADER, required = false) String deviceId) {
+		authService.logoutCurrentUser(deviceId);
+		return ApiResponse.ok();
+	}
+
+	@GetMapping("/user/sessions")
+	public ApiResponse<?> getSessions() {
+		List<UserSession> sessions = userSessionService.getActiveSessions(UserContextUtil.getCurrentUserId());
+		return ApiResponse.withBody(sessions.stream().map(UserSessionDto::fromEntity).toList());
+	}
+
+	@DeleteMapping("/user/sessions/{session_id}")
+	public ApiResponse<?> revokeSession(@PathVariable("session_id") Long sessionId) {
+		userSessionService.revokeSession(UserContextUtil.getCurrentUserId(), sessionId);
 		return ApiResponse.ok();
 	}
+
+	private AuthenticateResponse toAuthenticateResponse(UserSessionToken session) {
+		User user = session.getUser();
+		return AuthenticateResponse.of(user, jwtProvider.createTokenOfType(user, TokenType.AUTH_ACCESS_TOKEN),
+			session.getRefreshToken());
+	}
 }
 
 
@@ -0,0 +1,210 @@
+package com.modu.soccer.controller;
+
+import com.modu.soccer.entity.AttackPoint;
+import com.modu.soccer.entity.Match;
+import com.modu.soccer.entity.Quarter;
+import com.modu.soccer.entity.QuarterParticipation;
+import com.modu.soccer.entity.Team;
+import com.modu.soccer.entity.User;
+import com.modu.soccer.enums.FormationName;
+import com.modu.soccer.service.AttackPointService;
+import com.modu.soccer.service.MatchService;
+import com.modu.soccer.service.QuarterService;
+import com.modu.soccer.service.TeamService;
+import com.modu.soccer.service.UserService;
+import com.modu.soccer.utils.UserContextUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+/*
+read only graphql view over teams, matches, quarters, participations and goals.
+users and teams go through one DataLoader each, so every reference to them in a request is collected and
+loaded with a single IN query, and children of a list of parents are fetched with one query per field.
+every fetcher runs on the request thread, which is what UserContextUtil relies on.
+* */
+@Controller
+public class GraphQlController {
+
+	private final TeamService teamService;
+	private final MatchService matchService;
+	private final QuarterService quarterService;
+	private final AttackPointService attackPointService;
+
+	public GraphQlController(TeamService teamService, UserService userService, MatchService matchService,
+		QuarterService quarterService, AttackPointService attackPointService, BatchLoaderRegistry registry) {
+		this.teamService = teamService;
+		this.matchService = matchService;
+		this.quarterService = quarterService;
+		this.attackPointService = attackPointService;
+
+		registry.forTypePair(Long.class, User.class).registerMappedBatchLoader((userIds, env) ->
+			Mono.fromSupplier(() -> byId(userService.getUsersByIds(userIds), User::getId)));
+		registry.forTypePair(Long.class, Team.class).registerMappedBatchLoader((teamIds, env) ->
+			Mono.fromSupplier(() -> byId(teamService.getTeamsWithRecordByIds(teamIds), Team::getId)));
+	}
+
+	@QueryMapping
+	public User me() {
+		return UserContextUtil.getCurrentUser();
+	}
+
+	@QueryMapping
+	public List<Team> myTeams() {
+		return teamService.getTeamsOfUser(UserContextUtil.getCurrentUser());
+	}
+
+	@QueryMapping
+	public Team team(@Argument Long id) {
+		return teamService.getTeamById(id);
+	}
+
+	@QueryMapping
+	public Match match(@Argument Long id) {
+		return matchService.getMatchById(id);
+	}
+
+	@SchemaMapping(typeName = "User", field = "profileUrl")
+	public String profileUrl(User user) {
+		return user.getProfileURL();
+	}
+
+	@SchemaMapping(typeName = "Team", field = "owner")
+	public CompletableFuture<User> owner(Team team, DataLoader<Long, User> users) {
+		return loadUser(users, team.getOwner());
+	}
+
+	@BatchMapping(typeName = "Team", field = "matches")
+	public Map<Team, List<Match>> matches(List<Team> teams) {
+		Map<Long, List<Match>> matchesByTeamId = new HashMap<>();
+		for (Match match : matchService.getMatchesOfTeams(idsOf(teams, Team::getId))) {
+			matchesByTeamId.computeIfAbsent(match.getTeamA().getId(), id -> new ArrayList<>()).add(match);
+			matchesByTeamId.computeIfAbsent(match.getTeamB().getId(), id -> new ArrayList<>()).add(match);
+		}
+		return byParent(teams, Team::getId, matchesByTeamId);
+	}
+
+	@SchemaMapping(typeName = "Match", field = "teamA")
+	public CompletableFuture<Team> teamAOfMatch(Match match, DataLoader<Long, Team> teams) {
+		return loadTeam(teams, match.getTeamA());
+	}
+
+	@SchemaMapping(typeName = "Match", field = "teamB")
+	public CompletableFuture<Team> teamBOfMatch(Match match, DataLoader<Long, Team> teams) {
+		return loadTeam(teams, match.getTeamB());
+	}
+
+	@BatchMapping(typeName = "Match", field = "quarters")
+	public Map<Match, List<Quarter>> quarters(List<Match> matches) {
+		Map<Long, List<Quarter>> quartersByMatchId = quarterService.getQuartersOfMatches(
+				idsOf(matches, Match::getId)).stream()
+			.collect(Collectors.groupingBy(quarter -> quarter.getMatch().getId()));
+		return byParent(matches, Match::getId, quartersByMatchId);
+	}
+
+	@SchemaMapping(typeName = "Quarter", field = "teamA")
+	public CompletableFuture<Team> teamAOfQuarter(Quarter quarter, DataLoader<Long, Team> teams) {
+		return loadTeam(teams, quarter.getTeamA());
+	}
+
+	@SchemaMapping(typeName = "Quarter", field = "teamB")
+	public CompletableFuture<Team> teamBOfQuarter(Quarter quarter, DataLoader<Long, Team> teams) {
+		return loadTeam(teams, quarter.getTeamB());
+	}
+
+	@SchemaMapping(typeName = "Quarter", field = "teamAFormation")
+	public String teamAFormation(Quarter quarter) {
+		return formationOf(quarter.getTeamAFormation());
+	}
+
+	@SchemaMapping(typeName = "Quarter", field = "teamBFormation")
+	public String teamBFormation(Quarter quarter) {
+		return formationOf(quarter.getTeamBFormation());
+	}
+
+	@BatchMapping(typeName = "Quarter", field = "participations")
+	public Map<Quarter, List<QuarterParticipation>> participations(List<Quarter> quarters) {
+		Map<Long, List<QuarterParticipation>> participationsByQuarterId = quarterService.getParticipationsOfQuarters(
+				idsOf(quarters, Quarter::getId)).stream()
+			.collect(Collectors.groupingBy(participation -> participation.getQuarter().getId()));
+		return byParent(quarters, Quarter::getId, participationsByQuarterId);
+	}
+
+	@BatchMapping(typeName = "Quarter", field = "goals")
+	public Map<Quarter, List<AttackPoint>> goals(List<Quarter> quarters) {
+		Map<Long, List<AttackPoint>> goalsByQuarterId = attackPointService.getGoalsOfQuarters(
+				idsOf(quarters, Quarter::getId)).stream()
+			.collect(Collectors.groupingBy(goal -> goal.getQuarter().getId()));
+		return byParent(quarters, Quarter::getId, goalsByQuarterId);
+	}
+
+	@SchemaMapping(typeName = "QuarterParticipation", field = "team")
+	public CompletableFuture<Team> teamOfParticipation(QuarterParticipation participation,
+		DataLoader<Long, Team> teams) {
+		return loadTeam(teams, participation.getTeam());
+	}
+
+	@SchemaMapping(typeName = "QuarterParticipation", field = "inUser")
+	public CompletableFuture<User> inUser(QuarterParticipation participation, DataLoader<Long, User> users) {
+		return loadUser(users, participation.getInUser());
+	}
+
+	@SchemaMapping(typeName = "QuarterParticipation", field = "outUser")
+	public CompletableFuture<User> outUser(QuarterParticipation participation, DataLoader<Long, User> users) {
+		return loadUser(users, participation.getOutUser());
+	}
+
+	@SchemaMapping(typeName = "AttackPoint", field = "team")
+	public CompletableFuture<Team> teamOfAttackPoint(AttackPoint attackPoint, DataLoader<Long, Team> teams) {
+		return loadTeam(teams, attackPoint.getTeam());
+	}
+
+	@SchemaMapping(typeName = "AttackPoint", field = "user")
+	public CompletableFuture<User> userOfAttackPoint(AttackPoint attackPoint, DataLoader<Long, User> users) {
+		return loadUser(users, attackPoint.getUser());
+	}
+
+	// only the id of a lazy association is read, so the proxy itself is never initialized
+	private static CompletableFuture<User> loadUser(DataLoader<Long, User> users, User user) {
+		return user != null ? users.load(user.getId()) : CompletableFuture.completedFuture(null);
+	}
+
+	private static CompletableFuture<Team> loadTeam(DataLoader<Long, Team> teams, Team team) {
+		return team != null ? teams.load(team.getId()) : CompletableFuture.completedFuture(null);
+	}
+
+	private static String formationOf(FormationName formationName) {
+		return formationName != null ? formationName.getFormation() : null;
+	}
+
+	private static <T> List<Long> idsOf(Collection<T> entities, Function<T, Long> idOf) {
+		return entities.stream().map(idOf).distinct().toList();
+	}
+
+	private static <T> Map<Long, T> byId(Collection<T> entities, Function<T, Long> idOf) {
+		return entities.stream().collect(Collectors.toMap(idOf, Function.identity(), (a, b) -> a));
+	}
+
+	// every parent needs an entry, a missing one would resolve the non null list field to null
+	private static <P, C> Map<P, List<C>> byParent(List<P> parents, Function<P, Long> idOf,
+		Map<Long, List<C>> childrenByParentId) {
+		Map<P, List<C>> childrenByParent = new LinkedHashMap<>();
+		parents.forEach(parent -> childrenByParent.put(parent,
+			childrenByParentId.getOrDefault(idOf.apply(parent), List.of())));
+		return childrenByParent;
+	}
+}
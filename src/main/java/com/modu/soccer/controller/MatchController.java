@@ -6,7 +6,8 @@ import com.modu.soccer.domain.request.MatchEditRequest;
 import com.modu.soccer.domain.request.MatchRequest;
 import com.modu.soccer.entity.Match;
 import com.modu.soccer.service.MatchService;
-import java.util.List;
+import com.modu.soccer.service.ResourceVersionService;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -24,14 +26,18 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/matches")
 public class MatchController {
 	private final MatchService matchService;
+	private final ResourceVersionService resourceVersionService;
 
 	@GetMapping
 	public ApiResponse<?> getTeamMatches(
-		@RequestParam(value = "team_id", required = false) long teamId
+		@RequestParam(value = "team_id", required = false) long teamId,
+		WebRequest webRequest
 	) {
-		List<MatchDto> matchDtos = matchService.getMatches(teamId).stream()
-			.map(MatchDto::fromEntity).toList();
-		return ApiResponse.withBody(matchDtos);
+		Optional<String> eTag = resourceVersionService.getTeamMatchesETag(teamId);
+		if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+			return null;
+		}
+		return ApiResponse.withBody(matchService.getMatches(teamId));
 	}
 
 	@PostMapping
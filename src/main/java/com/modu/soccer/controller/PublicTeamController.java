@@ -0,0 +1,86 @@
+package com.modu.soccer.controller;
+
+import com.modu.soccer.domain.ApiResponse;
+import com.modu.soccer.domain.TeamDto;
+import com.modu.soccer.domain.TeamRecordDto;
+import com.modu.soccer.entity.Team;
+import com.modu.soccer.enums.StatisticsType;
+import com.modu.soccer.service.StatisticsService;
+import com.modu.soccer.service.TeamService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+read only team resources shared by link.
+responses do not depend on the caller, so they skip the jwt interceptor and are cacheable by a reverse proxy.
+* */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/public/teams/{team_id}")
+public class PublicTeamController {
+	private static final int MAX_PAGE_SIZE = 20;
+
+	private final TeamService teamService;
+	private final StatisticsService statisticsService;
+
+	@Value("${public_read.max_age_seconds:60}")
+	private Long maxAgeSeconds;
+	@Value("${public_read.stale_while_revalidate_seconds:300}")
+	private Long staleWhileRevalidateSeconds;
+
+	@GetMapping
+	public ResponseEntity<ApiResponse<?>> getTeam(@PathVariable("team_id") long teamId) {
+		Team team = teamService.getTeamWithOwner(teamId);
+		return cacheable(ApiResponse.withBody(TeamDto.publicProfileOf(team)));
+	}
+
+	@GetMapping("/record")
+	public ResponseEntity<ApiResponse<?>> getTeamRecord(@PathVariable("team_id") long teamId) {
+		Team team = teamService.getTeamById(teamId);
+		return cacheable(ApiResponse.withBody(TeamRecordDto.fromEntity(team.getRecord())));
+	}
+
+	@GetMapping("/statistics")
+	public ResponseEntity<ApiResponse<?>> getTeamStatistics(
+		@PathVariable("team_id") long teamId,
+		@RequestParam(name = "type") StatisticsType statisticsType,
+		@RequestParam(defaultValue = "0") Integer page,
+		@RequestParam(defaultValue = "5") Integer pageSize
+	) {
+		Team team = teamService.getTeamById(teamId);
+		PageRequest pageRequest = PageRequest.of(page, Math.min(pageSize, MAX_PAGE_SIZE));
+		return cacheable(ApiResponse.withBody(
+			statisticsService.getTopMembers(pageRequest, team, statisticsType)));
+	}
+
+	@GetMapping("/statistics/duo")
+	public ResponseEntity<ApiResponse<?>> getTeamTopDuo(
+		@PathVariable("team_id") long teamId,
+		@RequestParam(defaultValue = "0") Integer page,
+		@RequestParam(defaultValue = "3") Integer pageSize
+	) {
+		Team team = teamService.getTeamById(teamId);
+		PageRequest pageRequest = PageRequest.of(page, Math.min(pageSize, MAX_PAGE_SIZE));
+		return cacheable(ApiResponse.withBody(statisticsService.getTopDuoMembers(pageRequest, team)));
+	}
+
+	private ResponseEntity<ApiResponse<?>> cacheable(ApiResponse<?> body) {
+		CacheControl cacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS)
+			.cachePublic()
+			.staleWhileRevalidate(staleWhileRevalidateSeconds, TimeUnit.SECONDS);
+		return ResponseEntity.ok()
+			.cacheControl(cacheControl)
+			.header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+			.body(body);
+	}
+}
@@ -2,6 +2,7 @@ package com.modu.soccer.controller;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.validation.Valid;
 
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.modu.soccer.domain.ApiResponse;
 import com.modu.soccer.domain.ParticipationDto;
@@ -31,6 +33,7 @@ import com.modu.soccer.exception.CustomException;
 import com.modu.soccer.exception.ErrorCode;
 import com.modu.soccer.service.MatchService;
 import com.modu.soccer.service.QuarterService;
+import com.modu.soccer.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,6 +45,7 @@ public class QuarterController {
 
 	private final QuarterService quarterService;
 	private final MatchService matchService;
+	private final ResourceVersionService resourceVersionService;
 
 	@PostMapping()
 	@ResponseStatus(HttpStatus.CREATED)
@@ -66,8 +70,13 @@ public class QuarterController {
 	@GetMapping("/{quarter_id}")
 	public ApiResponse<?> getQuarterInfo(
 		@PathVariable("match_id") long matchId,
-		@PathVariable("quarter_id") long quarterId
+		@PathVariable("quarter_id") long quarterId,
+		WebRequest webRequest
 	) {
+		Optional<String> eTag = resourceVersionService.getQuarterETag(matchId, quarterId);
+		if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+			return null;
+		}
 		Match match = matchService.getMatchById(matchId);
 		Quarter quarter = quarterService.getQuarterInfoOfMatch(match, quarterId);
 		List<QuarterParticipation> participations = quarterService.getQuarterParticipations(quarter);
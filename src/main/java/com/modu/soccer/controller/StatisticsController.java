@@ -3,8 +3,10 @@ package com.modu.soccer.controller;
 import com.modu.soccer.domain.ApiResponse;
 import com.modu.soccer.entity.Team;
 import com.modu.soccer.enums.StatisticsType;
+import com.modu.soccer.service.ResourceVersionService;
 import com.modu.soccer.service.StatisticsService;
 import com.modu.soccer.service.TeamService;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/teams/{team_id}/statistics")
@@ -19,16 +22,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatisticsController {
 	private final TeamService teamService;
 	private final StatisticsService statisticsService;
+	private final ResourceVersionService resourceVersionService;
 
 	@GetMapping()
 	public ApiResponse<?> getTeamStatistics(
 		@PathVariable("team_id") long teamId,
 		@RequestParam(name = "type") StatisticsType statisticsType,
 		@RequestParam(defaultValue = "0") Integer page,
-		@RequestParam(defaultValue = "5") Integer pageSize
+		@RequestParam(defaultValue = "5") Integer pageSize,
+		WebRequest webRequest
 	) {
-		Team team = teamService.getTeamById(teamId);
 		PageRequest pageRequest = PageRequest.of(page, pageSize);
+		Optional<String> eTag = resourceVersionService.getTeamStatisticsETag(teamId, statisticsType, pageRequest);
+		if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+			return null;
+		}
+		Team team = teamService.getTeamById(teamId);
 		return ApiResponse.withBody(
 			statisticsService.getTopMembers(pageRequest, team, statisticsType));
 	}
@@ -37,10 +46,15 @@ public class StatisticsController {
 	public ApiResponse<?> getTeamTopDuo(
 		@PathVariable("team_id") long teamId,
 		@RequestParam(defaultValue = "0") Integer page,
-		@RequestParam(defaultValue = "3") Integer pageSize
+		@RequestParam(defaultValue = "3") Integer pageSize,
+		WebRequest webRequest
 	) {
-		Team team = teamService.getTeamById(teamId);
 		PageRequest pageRequest = PageRequest.of(page, pageSize);
+		Optional<String> eTag = resourceVersionService.getTeamDuoStatisticsETag(teamId, pageRequest);
+		if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+			return null;
+		}
+		Team team = teamService.getTeamById(teamId);
 		return ApiResponse.withBody(statisticsService.getTopDuoMembers(pageRequest, team));
 	}
 }
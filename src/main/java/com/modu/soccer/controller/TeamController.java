@@ -6,9 +6,11 @@ import com.modu.soccer.domain.TeamRecordDto;
 import com.modu.soccer.domain.request.TeamEditRequest;
 import com.modu.soccer.domain.request.TeamRequest;
 import com.modu.soccer.entity.Team;
+import com.modu.soccer.service.ResourceVersionService;
 import com.modu.soccer.service.S3UploadService;
 import com.modu.soccer.service.TeamService;
 import com.modu.soccer.utils.UserContextUtil;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -30,6 +33,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class TeamController {
 	private final S3UploadService s3UploadService;
 	private final TeamService teamService;
+	private final ResourceVersionService resourceVersionService;
 
 	@PostMapping
 	@ResponseStatus(HttpStatus.CREATED)
@@ -46,7 +50,11 @@ public class TeamController {
 	}
 
 	@GetMapping("/{team_id}")
-	public ApiResponse<?> getTeam(@PathVariable("team_id") long teamId) {
+	public ApiResponse<?> getTeam(@PathVariable("team_id") long teamId, WebRequest webRequest) {
+		Optional<String> eTag = resourceVersionService.getTeamETag(teamId);
+		if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+			return null;
+		}
 		Team team = teamService.getTeamWithOwner(teamId);
 		return ApiResponse.withBody(TeamDto.fromEntity(team));
 	}
@@ -68,7 +76,11 @@ public class TeamController {
 	}
 
 	@GetMapping("/{team_id}/record")
-	public ApiResponse<?> getTeamRecord(@PathVariable("team_id") long teamId) {
+	public ApiResponse<?> getTeamRecord(@PathVariable("team_id") long teamId, WebRequest webRequest) {
+		Optional<String> eTag = resourceVersionService.getTeamETag(teamId);
+		if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+			return null;
+		}
 		Team team = teamService.getTeamById(teamId);
 		return ApiResponse.withBody(TeamRecordDto.fromEntity(team.getRecord()));
 	}
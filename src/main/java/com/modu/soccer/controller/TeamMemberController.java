@@ -12,7 +12,6 @@ import com.modu.soccer.enums.AcceptStatus;
 import com.modu.soccer.service.TeamMemberService;
 import com.modu.soccer.service.TeamService;
 import com.modu.soccer.utils.UserContextUtil;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -40,10 +39,7 @@ public class TeamMemberController {
 		@PathVariable("team_id") long teamId,
 		@RequestParam(name = "accept-status", defaultValue = "ACCEPTED") AcceptStatus status
 	) {
-		List<TeamMemberInfo> teamMembers = memberService.getTeamMembers(teamId, status)
-			.stream().map(TeamMemberInfo::fromEntity).toList();
-
-		return ApiResponse.withBody(teamMembers);
+		return ApiResponse.withBody(memberService.getTeamMembers(teamId, status));
 	}
 
 	@PostMapping()
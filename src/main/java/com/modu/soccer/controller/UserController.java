@@ -1,9 +1,9 @@
 package com.modu.soccer.controller;
 
 import com.modu.soccer.domain.ApiResponse;
+import com.modu.soccer.domain.TeamInfo;
 import com.modu.soccer.domain.UserTeamsDto;
 import com.modu.soccer.domain.request.UserInfoRequest;
-import com.modu.soccer.entity.Team;
 import com.modu.soccer.entity.User;
 import com.modu.soccer.service.S3UploadService;
 import com.modu.soccer.service.TeamService;
@@ -34,7 +34,7 @@ public class UserController {
 	@GetMapping("/me")
 	public ApiResponse<?> getCurrentUserInfo() {
 		User user = UserContextUtil.getCurrentUser();
-		List<Team> teams = teamService.getTeamsOfUser(user);
+		List<TeamInfo> teams = teamService.getTeamInfosOfUser(user);
 		return ApiResponse.withBody(UserTeamsDto.of(user, teams));
 	}
 
@@ -58,7 +58,7 @@ public class UserController {
 	@GetMapping("/{user_id}")
 	public ApiResponse<?> getUserInfo(@PathVariable("user_id") long userId) {
 		User user = userService.getUser(userId);
-		List<Team> teams = teamService.getTeamsOfUser(user);
+		List<TeamInfo> teams = teamService.getTeamInfosOfUser(user);
 		return ApiResponse.withBody(UserTeamsDto.of(user, teams));
 	}
 }
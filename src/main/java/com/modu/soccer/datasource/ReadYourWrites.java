@@ -0,0 +1,37 @@
+package com.modu.soccer.datasource;
+
+/**
+ * Thread bound flag of a request that already wrote to the primary, in the manner of SqlStatisticsHolder.
+ * Once set, the request's later read only transactions are kept on the primary instead of a replica
+ * that may not have caught up with the write yet.
+ * Writes are only remembered between begin and clear, so threads outside a request, like the schedulers,
+ * never pin their later reads to the primary.
+ */
+public final class ReadYourWrites {
+	private static final ThreadLocal<Boolean> WRITTEN = new ThreadLocal<>();
+
+	private ReadYourWrites() {
+	}
+
+	public static void begin() {
+		WRITTEN.set(Boolean.FALSE);
+	}
+
+	public static boolean isActive() {
+		return WRITTEN.get() != null;
+	}
+
+	public static void markWritten() {
+		if (isActive()) {
+			WRITTEN.set(Boolean.TRUE);
+		}
+	}
+
+	public static boolean hasWritten() {
+		return Boolean.TRUE.equals(WRITTEN.get());
+	}
+
+	public static void clear() {
+		WRITTEN.remove();
+	}
+}
@@ -0,0 +1,156 @@
+package com.modu.soccer.datasource;
+
+import com.modu.soccer.config.DataSourceRoutingProperties;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+/**
+ * Primary and replica pools behind ReplicaRoutingDataSource.
+ * Replicas are probed for replication lag on a fixed delay. One that is further behind than maxLagMillis, fails its
+ * probe or refuses a connection is skipped until a later probe finds it healthy again, and when no replica is left
+ * reads go to the primary.
+ */
+@Slf4j
+public class ReplicaRouter implements Closeable {
+	private static final int PROBE_TIMEOUT_SECONDS = 1;
+
+	@Getter
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final long maxLagMillis;
+	private final String lagQuery;
+	private final String lagColumn;
+	private final AtomicInteger next = new AtomicInteger();
+	private final LongAdder replicaReadCount = new LongAdder();
+	private final LongAdder primaryReadCount = new LongAdder();
+
+	public ReplicaRouter(DataSource primary, Map<String, DataSource> replicas,
+		DataSourceRoutingProperties properties) {
+		this.primary = primary;
+		this.replicas = replicas.entrySet().stream()
+			.map(entry -> new Replica(entry.getKey(), entry.getValue()))
+			.toList();
+		this.maxLagMillis = properties.getMaxLagMillis();
+		this.lagQuery = properties.getLagQuery();
+		this.lagColumn = properties.getLagColumn();
+	}
+
+	// round robin over the replicas that passed their last probe
+	public Optional<Replica> select() {
+		int size = replicas.size();
+		int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (replica.isAvailable()) {
+				return Optional.of(replica);
+			}
+		}
+		return Optional.empty();
+	}
+
+	public void markUnavailable(Replica replica, Exception e) {
+		log.warn("replica {} is unavailable until the next lag check: {}", replica.getName(), e.getMessage());
+		replica.available = false;
+	}
+
+	@Scheduled(fixedDelayString = "${datasource_routing.lag_check_millis:5000}")
+	public void checkLag() {
+		for (Replica replica : replicas) {
+			try {
+				long lagMillis = probeLagMillis(replica.getDataSource());
+				replica.lagMillis = lagMillis;
+				replica.available = lagMillis <= maxLagMillis;
+				if (!replica.available) {
+					log.warn("replica {} is {}ms behind, reads go elsewhere", replica.getName(), lagMillis);
+				}
+			} catch (SQLException e) {
+				replica.lagMillis = -1;
+				markUnavailable(replica, e);
+			}
+		}
+	}
+
+	private long probeLagMillis(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+			Statement statement = connection.createStatement()) {
+			if (!StringUtils.hasText(lagQuery)) {
+				return 0;
+			}
+			statement.setQueryTimeout(PROBE_TIMEOUT_SECONDS);
+			try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+				if (!resultSet.next()) {
+					throw new SQLException("replication is not configured");
+				}
+				long seconds = resultSet.getLong(lagColumn);
+				if (resultSet.wasNull()) {
+					throw new SQLException("replication is not running");
+				}
+				return TimeUnit.SECONDS.toMillis(seconds);
+			}
+		}
+	}
+
+	public void recordReplicaRead() {
+		replicaReadCount.increment();
+	}
+
+	public void recordPrimaryRead() {
+		primaryReadCount.increment();
+	}
+
+	public long getReplicaReadCount() {
+		return replicaReadCount.sum();
+	}
+
+	public long getPrimaryReadCount() {
+		return primaryReadCount.sum();
+	}
+
+	public long getAvailableReplicaCount() {
+		return replicas.stream().filter(Replica::isAvailable).count();
+	}
+
+	@Override
+	public void close() {
+		replicas.forEach(replica -> closeQuietly(replica.getDataSource()));
+		closeQuietly(primary);
+	}
+
+	private void closeQuietly(DataSource dataSource) {
+		if (dataSource instanceof AutoCloseable closeable) {
+			try {
+				closeable.close();
+			} catch (Exception e) {
+				log.warn("failed to close datasource: {}", e.getMessage());
+			}
+		}
+	}
+
+	@Getter
+	public static class Replica {
+		private final String name;
+		private final DataSource dataSource;
+		// not trusted until the first probe
+		private volatile boolean available = false;
+		private volatile long lagMillis = -1;
+
+		Replica(String name, DataSource dataSource) {
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.modu.soccer.datasource;
+
+import com.modu.soccer.datasource.ReplicaRouter.Replica;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hands out replica connections to read only transactions and primary connections to everything else.
+ * A transaction is only flagged read only after it asked for its connection, so this has to sit behind a
+ * LazyConnectionDataSourceProxy, which defers the fetch to the first statement.
+ * After a read write transaction touched the database, the rest of the request reads its own writes from the primary.
+ * That guarantee ends with the request. A client that writes and reads again in its next request may land on a
+ * replica up to max lag behind and not see its write yet. Pinning the writer to the primary for that window
+ * would need state shared by every instance, so callers that must see the write right away read it from a
+ * read write transaction.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+	private final ReplicaRouter router;
+
+	public ReplicaRoutingDataSource(ReplicaRouter router) {
+		this.router = router;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (TransactionSynchronizationManager.isActualTransactionActive()) {
+				ReadYourWrites.markWritten();
+			}
+			return router.getPrimary().getConnection();
+		}
+		if (!ReadYourWrites.hasWritten()) {
+			Optional<Replica> replica = router.select();
+			if (replica.isPresent()) {
+				try {
+					Connection connection = replica.get().getDataSource().getConnection();
+					router.recordReplicaRead();
+					return connection;
+				} catch (SQLException e) {
+					router.markUnavailable(replica.get(), e);
+				}
+			}
+		}
+		router.recordPrimaryRead();
+		return router.getPrimary().getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return router.getPrimary().getConnection(username, password);
+	}
+}
@@ -3,6 +3,7 @@ package com.modu.soccer.domain;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.modu.soccer.entity.Match;
 import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,4 +28,13 @@ public class MatchDto {
 			.matchDate(match.getMatchDateTime())
 			.build();
 	}
+
+	// a team's info is shared by every match it plays in
+	public static MatchDto of(MatchView match, Map<Long, TeamInfo> teams) {
+		return MatchDto.builder()
+			.teamA(teams.get(match.getTeamAId()))
+			.teamB(teams.get(match.getTeamBId()))
+			.matchDate(match.getMatchDate())
+			.build();
+	}
 }
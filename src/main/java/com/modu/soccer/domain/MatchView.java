@@ -0,0 +1,10 @@
+package com.modu.soccer.domain;
+
+import java.time.LocalDateTime;
+
+public interface MatchView {
+	Long getTeamAId();
+	Long getTeamBId();
+
+	LocalDateTime getMatchDate();
+}
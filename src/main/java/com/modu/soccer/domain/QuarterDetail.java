@@ -1,6 +1,7 @@
 package com.modu.soccer.domain;
 
 import java.util.List;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import com.modu.soccer.entity.Match;
@@ -41,7 +42,8 @@ public class QuarterDetail {
 	}
 
 	private static List<Participation> extractTeamParticipations(List<QuarterParticipation> participations, Team team) {
-		return participations.stream().filter(participation -> participation.getTeam() == team)
+		return participations.stream()
+			.filter(participation -> Objects.equals(participation.getTeam().getId(), team.getId()))
 			.map(Participation::fromEntity).toList();
 	}
 }
@@ -0,0 +1,33 @@
+package com.modu.soccer.domain;
+
+import com.modu.soccer.utils.HashUtil;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Result of a version probe: the latest updated_at and the number of rows a response is built from.
+ * The row count catches deletes, which never move the latest updated_at.
+ */
+public interface ResourceVersion {
+	// bump when a response body changes shape, so clients don't keep a cached body of the old one
+	int REPRESENTATION_VERSION = 1;
+
+	LocalDateTime getLastModified();
+
+	Long getCount();
+
+	default boolean exists() {
+		return getCount() != null && getCount() > 0;
+	}
+
+	// weak, since the same version may be negotiated into different representations
+	default String toETag(Object... discriminators) {
+		String key = Stream.concat(Stream.of(REPRESENTATION_VERSION, getLastModified(), getCount()),
+				Arrays.stream(discriminators))
+			.map(String::valueOf)
+			.collect(Collectors.joining(":"));
+		return "W/\"" + HashUtil.sha256(key).substring(0, 32) + "\"";
+	}
+}
@@ -44,4 +44,11 @@ public class TeamDto {
 			.record(TeamRecordDto.fromEntity(team.getRecord()))
 			.build();
 	}
+
+	// shared by link, so the owner is reduced to the public profile
+	public static TeamDto publicProfileOf(Team team) {
+		TeamDto teamDto = fromEntity(team);
+		teamDto.setOwner(UserDto.publicProfileOf(team.getOwner()));
+		return teamDto;
+	}
 }
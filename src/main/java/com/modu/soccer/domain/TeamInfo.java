@@ -27,4 +27,13 @@ public class TeamInfo {
 			.name(team.getName())
 			.build();
 	}
+
+	public static TeamInfo fromView(TeamInfoView view) {
+		return TeamInfo.builder()
+			.teamId(view.getTeamId())
+			.logo(view.getLogo())
+			.record(TeamRecordDto.fromView(view))
+			.name(view.getName())
+			.build();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.modu.soccer.domain;
+
+public interface TeamInfoView {
+	Long getTeamId();
+	String getLogo();
+	String getName();
+
+	Integer getWin();
+	Integer getDraw();
+	Integer getLose();
+	Double getWinRate();
+	Integer getGoals();
+	Integer getLostGoals();
+}
@@ -23,14 +23,25 @@ public class TeamRecordDto {
 	private Integer lostGoals;
 
 	public static TeamRecordDto fromEntity(TeamRecord record) {
+		return of(record.getWin(), record.getDraw(), record.getLose(), record.getWinRate(), record.getGoals(),
+			record.getLostGoals());
+	}
+
+	public static TeamRecordDto fromView(TeamInfoView view) {
+		return of(view.getWin(), view.getDraw(), view.getLose(), view.getWinRate(), view.getGoals(),
+			view.getLostGoals());
+	}
+
+	private static TeamRecordDto of(Integer win, Integer draw, Integer lose, Double winRate, Integer goals,
+		Integer lostGoals) {
 		return TeamRecordDto.builder()
-			.win(record.getWin())
-			.draw(record.getDraw())
-			.lose(record.getLose())
-			.total(record.getWin() + record.getDraw() + record.getLose())
-			.winPercent((int) Math.round(record.getWinRate() * 100))
-			.goals(record.getGoals())
-			.lostGoals(record.getLostGoals())
+			.win(win)
+			.draw(draw)
+			.lose(lose)
+			.total(win + draw + lose)
+			.winPercent((int) Math.round(winRate * 100))
+			.goals(goals)
+			.lostGoals(lostGoals)
 			.build();
 	}
 }
@@ -29,4 +29,12 @@ public class UserDto {
 			.age(user.getAge())
 			.build();
 	}
+
+	public static UserDto publicProfileOf(User user) {
+		return UserDto.builder()
+			.profileUrl(user.getProfileURL())
+			.name(user.getName())
+			.isPro(user.getIsPro())
+			.build();
+	}
 }
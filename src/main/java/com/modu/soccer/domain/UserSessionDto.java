@@ -0,0 +1,29 @@
+package com.modu.soccer.domain;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.modu.soccer.entity.UserSession;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(SnakeCaseStrategy.class)
+public class UserSessionDto {
+	private Long sessionId;
+	private String deviceId;
+	private LocalDateTime expireAt;
+
+	public static UserSessionDto fromEntity(UserSession session) {
+		return UserSessionDto.builder()
+			.sessionId(session.getId())
+			.deviceId(session.getDeviceId())
+			.expireAt(session.getExpireAt())
+			.build();
+	}
+}
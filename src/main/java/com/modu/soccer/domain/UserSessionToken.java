@@ -0,0 +1,12 @@
+package com.modu.soccer.domain;
+
+import com.modu.soccer.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserSessionToken {
+	private User user;
+	private String refreshToken;
+}
@@ -2,7 +2,6 @@ package com.modu.soccer.domain;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import com.modu.soccer.entity.Team;
 import com.modu.soccer.entity.User;
 import java.util.List;
 import lombok.Getter;
@@ -19,14 +18,14 @@ public class UserTeamsDto extends UserDto {
 
 	private List<TeamInfo> teams;
 
-	public static UserTeamsDto of(User user, List<Team> teams) {
+	public static UserTeamsDto of(User user, List<TeamInfo> teams) {
 		return UserTeamsDto.builder()
 			.email(user.getEmail())
 			.profileUrl(user.getProfileURL())
 			.name(user.getName())
 			.isPro(user.getIsPro())
 			.age(user.getAge())
-			.teams(teams.stream().map(TeamInfo::fromEntity).toList())
+			.teams(teams)
 			.build();
 	}
 }
@@ -34,13 +34,13 @@ public class AuthenticateResponse {
 			.name(user.getName())
 			.isPro(user.getIsPro())
 			.age(user.getAge())
-			.authProvider(user.getAuthProvider())
-			.refreshToken(user.getRefreshToken());
+			.authProvider(user.getAuthProvider());
 	}
 
-	public static AuthenticateResponse of(User user, String accessToken) {
+	public static AuthenticateResponse of(User user, String accessToken, String refreshToken) {
 		AuthenticateResponse userDto = AuthenticateResponse.fromEntity(user)
 			.accessToken(accessToken)
+			.refreshToken(refreshToken)
 			.build();
 		return userDto;
 	}
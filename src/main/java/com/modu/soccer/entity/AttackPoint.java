@@ -16,6 +16,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -38,7 +39,10 @@ import org.hibernate.Hibernate;
 public class AttackPoint extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "attack_point_id")
+	@TableGenerator(name = "attack_point_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+		valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "attack_points",
+		allocationSize = IdGenerators.ALLOCATION_SIZE)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,18 @@
+package com.modu.soccer.entity;
+
+/*
+second level cache regions of the entities read on nearly every request and rarely written, users, teams,
+team records and team members, plus the cached results of the membership lookup behind permission checks.
+every region needs a size and ttl under second_level_cache.regions, an unconfigured one fails startup
+(hibernate.javax.cache.missing_cache_strategy), see SecondLevelCacheConfig.
+* */
+public final class CacheRegions {
+	public static final String USER = "user";
+	public static final String TEAM = "team";
+	public static final String TEAM_RECORD = "team-record";
+	public static final String TEAM_MEMBER = "team-member";
+	public static final String TEAM_MEMBER_QUERY = "team-member-query";
+
+	private CacheRegions() {
+	}
+}
@@ -0,0 +1,17 @@
+package com.modu.soccer.entity;
+
+/*
+table backed id allocation shared by the tables written in bulk, quarters, quarter_participations and attack_points.
+identity columns make hibernate insert row by row to read each generated key back, which rules out jdbc batching.
+each table reserves ALLOCATION_SIZE ids per round trip to the generator table, handed out with the pooled-lo
+optimizer (hibernate.id.optimizer.pooled.preferred), see db/id_generators.sql for seeding existing tables.
+* */
+public final class IdGenerators {
+	public static final String TABLE = "id_generators";
+	public static final String NAME_COLUMN = "name";
+	public static final String VALUE_COLUMN = "next_val";
+	public static final int ALLOCATION_SIZE = 50;
+
+	private IdGenerators() {
+	}
+}
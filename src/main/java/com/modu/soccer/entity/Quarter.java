@@ -11,6 +11,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,7 +31,10 @@ import org.hibernate.Hibernate;
 public class Quarter extends BaseEntity implements Comparable<Quarter> {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "quarter_id")
+	@TableGenerator(name = "quarter_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+		valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "quarters",
+		allocationSize = IdGenerators.ALLOCATION_SIZE)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
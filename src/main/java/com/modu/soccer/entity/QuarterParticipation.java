@@ -15,6 +15,7 @@ import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 
 import org.hibernate.Hibernate;
 
@@ -43,7 +44,10 @@ import lombok.Setter;
 @Builder
 public class QuarterParticipation extends BaseEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "quarter_participation_id")
+	@TableGenerator(name = "quarter_participation_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+		valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "quarter_participations",
+		allocationSize = IdGenerators.ALLOCATION_SIZE)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
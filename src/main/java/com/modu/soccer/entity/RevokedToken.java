@@ -0,0 +1,60 @@
+package com.modu.soccer.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
+
+@Entity
+@Table(
+	name = "revoked_tokens",
+	indexes = {
+		@Index(name = "idx_revoked_token_jti", columnList = "jti", unique = true),
+		@Index(name = "idx_revoked_token_expire_at", columnList = "expire_at"),
+	}
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken extends BaseEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "jti", nullable = false, length = 36)
+	private String jti;
+
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "expire_at", nullable = false)
+	private LocalDateTime expireAt;
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+			return false;
+		}
+		RevokedToken that = (RevokedToken) o;
+		return id != null && Objects.equals(id, that.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+}
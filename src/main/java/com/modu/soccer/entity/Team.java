@@ -1,6 +1,7 @@
 package com.modu.soccer.entity;
 
 import java.util.Objects;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -18,9 +19,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.locationtech.jts.geom.Point;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM)
 @Table(
 	name = "teams",
 	indexes = {
@@ -46,6 +51,7 @@ public class Team extends BaseEntity implements Comparable<Team> {
 	@Column(columnDefinition = "geometry")
 	private Point location;
 
+	// inverse side, so it is not part of the cached entry and a cache hit still looks the record up by team_id
 	@OneToOne(mappedBy = "team")
 	private TeamRecord record;
 
@@ -2,6 +2,7 @@ package com.modu.soccer.entity;
 
 import com.modu.soccer.enums.AuthProvider;
 import java.util.Objects;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -16,9 +17,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
 @Table(
 	name = "users",
 	indexes = {
@@ -47,8 +52,6 @@ public class User extends BaseEntity {
 	@Column(name = "auth_provider")
 	@Enumerated(EnumType.STRING)
 	private AuthProvider authProvider;
-	@Column(name = "refresh_token")
-	private String refreshToken;
 
 	@Override
 	public boolean equals(Object o) {
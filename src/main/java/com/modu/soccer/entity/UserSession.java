@@ -0,0 +1,82 @@
+package com.modu.soccer.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.Hibernate;
+
+@Entity
+@Table(
+	name = "user_sessions",
+	indexes = {
+		@Index(name = "idx_session_token_hash", columnList = "token_hash", unique = true),
+		@Index(name = "idx_session_user_device", columnList = "user_id, device_id"),
+		@Index(name = "idx_session_family_id", columnList = "family_id"),
+		@Index(name = "idx_session_expire_at", columnList = "expire_at"),
+	}
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSession extends BaseEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(name = "token_hash", nullable = false, length = 64)
+	private String tokenHash;
+
+	@Column(name = "family_id", nullable = false, length = 36)
+	private String familyId;
+
+	@Column(name = "device_id")
+	private String deviceId;
+
+	@Column(name = "expire_at", nullable = false)
+	private LocalDateTime expireAt;
+
+	@Column(nullable = false)
+	@Builder.Default
+	private Boolean revoked = false;
+
+	public boolean isExpired(LocalDateTime now) {
+		return !this.expireAt.isAfter(now);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+			return false;
+		}
+		UserSession that = (UserSession) o;
+		return id != null && Objects.equals(id, that.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+}
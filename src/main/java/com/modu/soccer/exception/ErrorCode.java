@@ -16,6 +16,8 @@ public enum ErrorCode {
 	ACCESS_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, 40101, "access token expired"),
 	REFRESH_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, 40102, "refresh token expired"),
 	AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, 40103, "authentication failed"),
+	REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, 40104, "refresh token reused"),
+	ACCESS_TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, 40105, "access token revoked"),
 
 	// 403
 	FORBIDDEN(HttpStatus.FORBIDDEN, 40300, "action forbidden"),
@@ -30,9 +32,17 @@ public enum ErrorCode {
 	ALREADY_EXIST_MEMBER(HttpStatus.CONFLICT, 40902, "user already joined to the team"),
 	ALREADY_REQUESTED_JOIN(HttpStatus.CONFLICT, 40903, "user already requested join"),
 
+	// 429
+	TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, 42900, "too many requests"),
+
 
 	// 500
 	KAKAO_AUTH_INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 50001, "Kakao Api Error."),
+
+	// 503
+	KAKAO_AUTH_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, 50300, "Kakao Api temporarily unavailable."),
+	LOGIN_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 50301, "login is busy, try again later"),
+
 	UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR,  99999, "unknown error");
 
 	private final HttpStatus httpStatus;
@@ -0,0 +1,42 @@
+package com.modu.soccer.filter;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonNaming(SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AccessLogRecord {
+	private String requestId;
+	private String traceId;
+	private String clientIp;
+	private String userId;
+	private String method;
+	private String uri;
+	private String route;
+	private String query;
+	private Integer status;
+	private Long elapsedMillis;
+	private Boolean slow;
+	private Map<String, String> headers;
+	private String requestBody;
+	private String responseBody;
+	private Long responseSize;
+	private Boolean streamed;
+	private Integer sqlCount;
+	private Long sqlMillis;
+	private Boolean sqlBudgetExceeded;
+	private Integer connectionCount;
+	private Long connectionHoldMillis;
+
+	@JsonIgnore
+	public boolean isServerError() {
+		return status != null && status >= 500;
+	}
+}
@@ -0,0 +1,112 @@
+package com.modu.soccer.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modu.soccer.enums.MDCKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+/**
+ * Writes access log records from a bounded buffer on a single background thread.
+ * Request threads only enqueue; when the buffer is full the record is dropped and counted instead of blocking.
+ */
+@Slf4j
+public class AccessLogWriter implements AutoCloseable {
+	private static final int BATCH_SIZE = 256;
+	private static final long POLL_MILLIS = 200;
+	private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+	private final BlockingQueue<AccessLogRecord> buffer;
+	private final ObjectMapper mapper;
+	private final Thread worker;
+	private final LongAdder written = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private volatile boolean running = true;
+
+	public AccessLogWriter(int capacity, ObjectMapper mapper) {
+		this.buffer = new ArrayBlockingQueue<>(capacity);
+		this.mapper = mapper;
+		this.worker = new Thread(this::drain, "access-log-writer");
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	public boolean submit(AccessLogRecord record) {
+		if (buffer.offer(record)) {
+			return true;
+		}
+		dropped.increment();
+		return false;
+	}
+
+	public long getWrittenCount() {
+		return written.sum();
+	}
+
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	public int size() {
+		return buffer.size();
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		running = false;
+		worker.join(CLOSE_TIMEOUT_MILLIS);
+	}
+
+	private void drain() {
+		List<AccessLogRecord> batch = new ArrayList<>(BATCH_SIZE);
+		while (running || !buffer.isEmpty()) {
+			try {
+				AccessLogRecord first = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				buffer.drainTo(batch, BATCH_SIZE - 1);
+				batch.forEach(this::write);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void write(AccessLogRecord record) {
+		try {
+			putMDC(MDCKey.REQUEST_UUID, record.getRequestId());
+			putMDC(MDCKey.CLIENT_IP, record.getClientIp());
+			putMDC(MDCKey.USER_ID, record.getUserId());
+			String json = mapper.writeValueAsString(record);
+			if (record.isServerError()) {
+				log.error("[ACCESS] {}", json);
+			} else if (Boolean.TRUE.equals(record.getSlow())) {
+				log.warn("[SLOW ACCESS] {}", json);
+			} else {
+				log.info("[ACCESS] {}", json);
+			}
+			written.increment();
+		} catch (JsonProcessingException e) {
+			log.warn("failed to write access log: {}", e.getMessage());
+		} finally {
+			MDC.clear();
+		}
+	}
+
+	private void putMDC(MDCKey key, String value) {
+		if (value != null) {
+			MDC.put(key.getKey(), value);
+		}
+	}
+}
@@ -1,130 +1,284 @@
 package com.modu.soccer.filter;
 
+import com.modu.soccer.config.AccessLogProperties;
+import com.modu.soccer.config.AccessLogProperties.RouteSampling;
+import com.modu.soccer.datasource.ReadYourWrites;
 import com.modu.soccer.enums.MDCKey;
+import com.modu.soccer.sql.SqlStatementBudget;
+import com.modu.soccer.sql.SqlStatistics;
+import com.modu.soccer.sql.SqlStatisticsHolder;
+import com.modu.soccer.tracing.TracingFilter;
+import com.modu.soccer.utils.ClientIpUtil;
 import com.modu.soccer.utils.UserContextUtil;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Enumeration;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 import org.springframework.web.util.WebUtils;
-import software.amazon.awssdk.http.HttpStatusCode;
 
+/*
+builds one access log record per request and hands it to AccessLogWriter.
+bodies are only decoded when the record is sampled, or the call failed with 5xx or was slow,
+and never beyond the configured cap. auth routes are never logged with bodies, they carry tokens. large and streamed responses are passed through, see TeeResponseWrapper.
+the record also carries the request's sql statement count and time, flagged when over the route's budget,
+and how long it held database connections.
+* */
 @Slf4j
-@Component
 public class LoggingFilter extends OncePerRequestFilter {
 
-	int SLOW_API = 5;
+	private static final String START_TIME_ATTRIBUTE = LoggingFilter.class.getName() + ".START_TIME";
+	private static final String MDC_ATTRIBUTE = LoggingFilter.class.getName() + ".MDC";
+	private static final String SQL_STATISTICS_ATTRIBUTE = LoggingFilter.class.getName() + ".SQL_STATISTICS";
+	private static final String REDACTED = "[REDACTED]";
+
+	private final AccessLogProperties properties;
+	private final AccessLogWriter accessLogWriter;
+	private final RouteLatencyTracker routeLatencyTracker;
+	private final SqlStatementBudget sqlStatementBudget;
+	private final Set<String> redactedHeaders;
+	private final List<String> streamingContentTypes;
+	private final List<String> binaryContentTypes;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	public LoggingFilter(AccessLogProperties properties, AccessLogWriter accessLogWriter,
+		RouteLatencyTracker routeLatencyTracker, SqlStatementBudget sqlStatementBudget) {
+		this.properties = properties;
+		this.accessLogWriter = accessLogWriter;
+		this.routeLatencyTracker = routeLatencyTracker;
+		this.sqlStatementBudget = sqlStatementBudget;
+		this.redactedHeaders = properties.getRedactedHeaders().stream()
+			.map(header -> header.toLowerCase(Locale.ROOT))
+			.collect(Collectors.toUnmodifiableSet());
+		this.streamingContentTypes = properties.getStreamingContentTypes().stream()
+			.map(type -> type.toLowerCase(Locale.ROOT))
+			.toList();
+		this.binaryContentTypes = properties.getBinaryContentTypes().stream()
+			.map(type -> type.toLowerCase(Locale.ROOT))
+			.toList();
+	}
+
+	// async handlers complete on a later dispatch, which is where their response gets logged and flushed
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
 		FilterChain filterChain) throws ServletException, IOException {
-		ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-		ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+		boolean isFirstDispatch = !isAsyncDispatch(request);
+		HttpServletRequest requestWrapper = isFirstDispatch
+			? new ContentCachingRequestWrapper(request, properties.getErrorBodyMaxBytes()) : request;
+		HttpServletResponse responseWrapper = isFirstDispatch
+			? new TeeResponseWrapper(response, properties.getResponseBufferMaxBytes(),
+			properties.getErrorBodyMaxBytes(), streamingContentTypes, isStreamingRoute(request.getRequestURI()))
+			: response;
 
 		try {
-			setClientInfoOnMDC(request);
-			log.info("\n[REQUEST] {} {}\nHeaders : {}\nRequest : {}\n", request.getMethod(),
-				request.getRequestURI(),getHeaders(request), getRequestBody(requestWrapper)
-			);
-			long start = System.currentTimeMillis();
-			filterChain.doFilter(requestWrapper, responseWrapper);
-			long end = System.currentTimeMillis();
-			double elasped = (end - start) / 1000.0;
-
-			if (responseWrapper.getStatus() >= HttpStatusCode.INTERNAL_SERVER_ERROR) {
-				log.error("\n[RESPONSE] elasped: {}, status code: {}, body: {}\n",
-					elasped, responseWrapper.getStatus(), getResponseBody(responseWrapper));
-			} else if (elasped > SLOW_API) {
-				log.error("\n[SLOW API RESPONSE] elasped: {}, status code: {}, body: {}\n",
-					elasped, responseWrapper.getStatus(), getResponseBody(responseWrapper));
+			ReadYourWrites.begin();
+			if (isFirstDispatch) {
+				setClientInfoOnMDC(request);
+				request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+				request.setAttribute(SQL_STATISTICS_ATTRIBUTE, SqlStatisticsHolder.start());
 			} else {
-				log.info("\n[RESPONSE] elasped: {}, status code: {}, body: {}\n", elasped,
-					responseWrapper.getStatus(), getResponseBody(responseWrapper));
+				restoreMDC(request);
+				SqlStatisticsHolder.bind((SqlStatistics) request.getAttribute(SQL_STATISTICS_ATTRIBUTE));
 			}
+			filterChain.doFilter(requestWrapper, responseWrapper);
+			if (isAsyncStarted(requestWrapper)) {
+				request.setAttribute(MDC_ATTRIBUTE, MDC.getCopyOfContextMap());
+				return;
+			}
+			long start = (Long) request.getAttribute(START_TIME_ATTRIBUTE);
+			long elapsedNanos = System.nanoTime() - start;
+			boolean slow = routeLatencyTracker.record(request.getMethod(), getRoute(request), elapsedNanos);
+			accessLogWriter.submit(toRecord(requestWrapper, responseWrapper,
+				TimeUnit.NANOSECONDS.toMillis(elapsedNanos), slow));
+			copyBodyToResponse(responseWrapper);
 		} finally {
 			MDC.clear();
 			UserContextUtil.clear();
+			SqlStatisticsHolder.clear();
+			ReadYourWrites.clear();
+		}
+	}
+
+	private AccessLogRecord toRecord(HttpServletRequest request, HttpServletResponse response, long elapsedMillis,
+		boolean slow) throws IOException {
+		int status = response.getStatus();
+		int bodyLimit;
+		if (isBodyExcluded(request.getRequestURI())) {
+			bodyLimit = 0;
+		} else if (status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR || slow) {
+			bodyLimit = properties.getErrorBodyMaxBytes();
+		} else if (isSampled(request.getRequestURI())) {
+			bodyLimit = properties.getBodyMaxBytes();
+		} else {
+			bodyLimit = 0;
+		}
+
+		TeeResponseWrapper responseTee = WebUtils.getNativeResponse(response, TeeResponseWrapper.class);
+		SqlStatistics sqlStatistics = (SqlStatistics) request.getAttribute(SQL_STATISTICS_ATTRIBUTE);
+		return AccessLogRecord.builder()
+			.requestId(MDC.get(MDCKey.REQUEST_UUID.getKey()))
+			.traceId(MDC.get(TracingFilter.TRACE_ID_MDC_KEY))
+			.clientIp(MDC.get(MDCKey.CLIENT_IP.getKey()))
+			.userId(MDC.get(MDCKey.USER_ID.getKey()))
+			.method(request.getMethod())
+			.uri(request.getRequestURI())
+			.route(getRoute(request))
+			.query(request.getQueryString())
+			.status(status)
+			.elapsedMillis(elapsedMillis)
+			.slow(slow)
+			.headers(getHeaders(request))
+			.requestBody(bodyLimit > 0 ? getRequestBody(request, bodyLimit) : null)
+			.responseBody(bodyLimit > 0 ? getResponseBody(responseTee, bodyLimit) : null)
+			.responseSize(responseTee != null ? responseTee.getContentSize() : null)
+			.streamed(responseTee != null && responseTee.isPassThrough())
+			.sqlCount(sqlStatistics != null ? sqlStatistics.getStatementCount() : null)
+			.sqlMillis(sqlStatistics != null ? sqlStatistics.getElapsedMillis() : null)
+			.sqlBudgetExceeded(sqlStatistics != null
+				&& sqlStatementBudget.isExceeded(request.getRequestURI(), sqlStatistics.getStatementCount()))
+			.connectionCount(sqlStatistics != null ? sqlStatistics.getConnectionCount() : null)
+			.connectionHoldMillis(sqlStatistics != null ? sqlStatistics.getConnectionHoldMillis() : null)
+			.build();
+	}
+
+	// route template of the matched handler, so raw ids never become separate histograms
+	private String getRoute(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern != null ? pattern.toString() : RouteLatencyTracker.UNKNOWN_ROUTE;
+	}
+
+	private boolean isSampled(String requestURI) {
+		double sampleRate = properties.getSampleRate();
+		for (RouteSampling route : properties.getRoutes()) {
+			if (pathMatcher.match(route.getPattern(), requestURI)) {
+				sampleRate = route.getSampleRate();
+				break;
+			}
+		}
+		return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
+
+	private boolean isBodyExcluded(String requestURI) {
+		for (String pattern : properties.getBodyExcludedRoutes()) {
+			if (pathMatcher.match(pattern, requestURI)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void restoreMDC(HttpServletRequest request) {
+		Map<String, String> context = (Map<String, String>) request.getAttribute(MDC_ATTRIBUTE);
+		if (context != null) {
+			MDC.setContextMap(context);
 		}
 	}
 
 	private Map<String, String> getHeaders(HttpServletRequest request) {
-		Map<String, String> headerMap = new HashMap<>();
+		Map<String, String> headerMap = new LinkedHashMap<>();
 
 		Enumeration<String> headerArray = request.getHeaderNames();
 		while (headerArray.hasMoreElements()) {
 			String headerName = headerArray.nextElement();
-			headerMap.put(headerName, request.getHeader(headerName));
+			if (redactedHeaders.contains(headerName.toLowerCase(Locale.ROOT))) {
+				headerMap.put(headerName, REDACTED);
+			} else {
+				headerMap.put(headerName, request.getHeader(headerName));
+			}
 		}
 		return headerMap;
 	}
 
-	private String getRequestBody(ContentCachingRequestWrapper request) {
+	private String getRequestBody(HttpServletRequest request, int limit) {
 		ContentCachingRequestWrapper wrapper = WebUtils.getNativeRequest(request,
 			ContentCachingRequestWrapper.class);
-		if (wrapper != null) {
-			byte[] buf = wrapper.getContentAsByteArray();
-			if (buf.length > 0) {
-				try {
-					return new String(buf, 0, buf.length, wrapper.getCharacterEncoding());
-				} catch (UnsupportedEncodingException e) {
-					return " - ";
-				}
-			}
+		if (wrapper == null || isBinary(wrapper.getContentType())) {
+			return null;
+		}
+		byte[] buf = wrapper.getContentAsByteArray();
+		if (buf.length == 0) {
+			return null;
 		}
-		return " - ";
+		return truncate(buf, Math.min(buf.length, limit), buf.length, charsetOf(wrapper.getCharacterEncoding()));
 	}
 
-	private String getResponseBody(final HttpServletResponse response) throws IOException {
-		String payload = null;
-		ContentCachingResponseWrapper wrapper =
-			WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
-		if (wrapper != null) {
-			byte[] buf = wrapper.getContentAsByteArray();
-			if (buf.length > 0) {
-				payload = new String(buf, 0, buf.length, wrapper.getCharacterEncoding());
-				wrapper.copyBodyToResponse();
-			}
+	// the tee only ever holds the first bytes of the body, streamed or not
+	private String getResponseBody(TeeResponseWrapper wrapper, int limit) {
+		if (wrapper == null || wrapper.getContentSize() == 0 || isBinary(wrapper.getContentType())) {
+			return null;
 		}
-		return null == payload ? " - " : payload;
+		byte[] buf = wrapper.getCapturedContent();
+		return truncate(buf, Math.min(buf.length, limit), wrapper.getContentSize(),
+			charsetOf(wrapper.getCharacterEncoding()));
 	}
 
-	private void setClientInfoOnMDC(HttpServletRequest request) {
-		MDC.put(MDCKey.REQUEST_UUID.getKey(), UUID.randomUUID().toString());
-		MDC.put(MDCKey.CLIENT_IP.getKey(), getClientIp(request));
-//		MDC.put(MDCKey.USER_AGENT.getKey(), request.getHeader("User-Agent"));
+	private String truncate(byte[] buf, int length, long totalLength, Charset charset) {
+		String body = new String(buf, 0, length, charset);
+		if (length < totalLength) {
+			return body + "...(" + totalLength + " bytes)";
+		}
+		return body;
 	}
 
-	private String getClientIp(HttpServletRequest request) {
-		String ip = request.getHeader("X-Forwarded-For");
-
-		if (ip == null) {
-			ip = request.getHeader("Proxy-Client-IP");
-		}
-		if (ip == null) {
-			ip = request.getHeader("WL-Proxy-Client-IP");
+	private Charset charsetOf(String encoding) {
+		try {
+			return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+		} catch (IllegalArgumentException e) {
+			return StandardCharsets.UTF_8;
 		}
-		if (ip == null) {
-			ip = request.getHeader("HTTP_CLIENT_IP");
+	}
+
+	private void copyBodyToResponse(HttpServletResponse response) throws IOException {
+		TeeResponseWrapper wrapper = WebUtils.getNativeResponse(response, TeeResponseWrapper.class);
+		if (wrapper != null) {
+			wrapper.finish();
 		}
-		if (ip == null) {
-			ip = request.getHeader("HTTP_X_FORWARDED_FOR");
+	}
+
+	private boolean isBinary(String contentType) {
+		if (contentType == null) {
+			return false;
 		}
-		if (ip == null) {
-			ip = request.getRemoteAddr();
+		String normalized = contentType.toLowerCase(Locale.ROOT);
+		return binaryContentTypes.stream().anyMatch(normalized::startsWith);
+	}
+
+	private boolean isStreamingRoute(String requestURI) {
+		for (String pattern : properties.getStreamingRoutes()) {
+			if (pathMatcher.match(pattern, requestURI)) {
+				return true;
+			}
 		}
-		return ip;
+		return false;
 	}
-}
 
+	private void setClientInfoOnMDC(HttpServletRequest request) {
+		MDC.put(MDCKey.REQUEST_UUID.getKey(), UUID.randomUUID().toString());
+		MDC.put(MDCKey.CLIENT_IP.getKey(), ClientIpUtil.getClientIp(request));
+//		MDC.put(MDCKey.USER_AGENT.getKey(), request.getHeader("User-Agent"));
+	}
+}
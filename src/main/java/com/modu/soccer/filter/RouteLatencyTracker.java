@@ -0,0 +1,163 @@
+package com.modu.soccer.filter;
+
+import com.modu.soccer.config.RouteLatencyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Latency histogram per handler, keyed by method and route template rather than raw uri.
+ * Each route's slow threshold is derived from its own percentile over the rolling window,
+ * once the route has enough samples inside that same window.
+ * Methods outside the standard set are tagged as OTHER, so clients can not grow the tag space.
+ */
+public class RouteLatencyTracker {
+	public static final String METRIC_NAME = "http.route.latency";
+	public static final String UNKNOWN_ROUTE = "UNKNOWN";
+	public static final String OTHER_METHOD = "OTHER";
+
+	private final MeterRegistry registry;
+	private final RouteLatencyProperties properties;
+	private final long defaultSlowThresholdNanos;
+	private final LongSupplier clock;
+	private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+
+	public RouteLatencyTracker(MeterRegistry registry, RouteLatencyProperties properties,
+		long defaultSlowThresholdMillis) {
+		this(registry, properties, defaultSlowThresholdMillis, System::nanoTime);
+	}
+
+	RouteLatencyTracker(MeterRegistry registry, RouteLatencyProperties properties, long defaultSlowThresholdMillis,
+		LongSupplier clock) {
+		this.registry = registry;
+		this.properties = properties;
+		this.defaultSlowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(defaultSlowThresholdMillis);
+		this.clock = clock;
+	}
+
+	// records the sample and tells whether it was slow against the baseline before this sample
+	public boolean record(String method, String route, long elapsedNanos) {
+		String normalizedMethod = normalize(method);
+		RouteStats stats = routes.computeIfAbsent(normalizedMethod + " " + route,
+			k -> new RouteStats(timer(normalizedMethod, route), windowedCount()));
+		long now = clock.getAsLong();
+		boolean slow = elapsedNanos >= slowThresholdNanos(stats, now);
+		stats.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		stats.windowedCount.increment(now);
+		return slow;
+	}
+
+	public long getSlowThresholdMillis(String method, String route) {
+		RouteStats stats = routes.get(normalize(method) + " " + route);
+		if (stats == null) {
+			return TimeUnit.NANOSECONDS.toMillis(defaultSlowThresholdNanos);
+		}
+		return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos(stats, clock.getAsLong()));
+	}
+
+	private long slowThresholdNanos(RouteStats stats, long now) {
+		if (now - stats.refreshedAt < TimeUnit.MILLISECONDS.toNanos(properties.getBaselineRefreshMillis())) {
+			return stats.thresholdNanos;
+		}
+		stats.refreshedAt = now;
+		stats.thresholdNanos = computeThresholdNanos(stats, now);
+		return stats.thresholdNanos;
+	}
+
+	// the timer's own count is lifetime, the percentiles are not, so min samples is checked on the window
+	private long computeThresholdNanos(RouteStats stats, long now) {
+		if (stats.windowedCount.sum(now) < properties.getMinSamples()) {
+			return defaultSlowThresholdNanos;
+		}
+		var snapshot = stats.timer.takeSnapshot();
+		for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+			if (percentile.percentile() == properties.getSlowPercentile()) {
+				long baseline = (long) (percentile.value(TimeUnit.NANOSECONDS) * properties.getSlowMultiplier());
+				return Math.max(baseline, TimeUnit.MILLISECONDS.toNanos(properties.getMinSlowThresholdMillis()));
+			}
+		}
+		return defaultSlowThresholdNanos;
+	}
+
+	private static String normalize(String method) {
+		return HttpMethod.resolve(method) != null ? method : OTHER_METHOD;
+	}
+
+	private WindowedCount windowedCount() {
+		long slotNanos = TimeUnit.MILLISECONDS.toNanos(properties.getWindowMillis()) / properties.getBufferLength();
+		return new WindowedCount(properties.getBufferLength(), Math.max(slotNanos, 1));
+	}
+
+	private Timer timer(String method, String route) {
+		return Timer.builder(METRIC_NAME)
+			.tag("method", method)
+			.tag("route", route)
+			.publishPercentiles(0.5, 0.95, properties.getSlowPercentile())
+			.publishPercentileHistogram()
+			.distributionStatisticExpiry(Duration.ofMillis(properties.getWindowMillis()))
+			.distributionStatisticBufferLength(properties.getBufferLength())
+			.register(registry);
+	}
+
+	private class RouteStats {
+		private final Timer timer;
+		private final WindowedCount windowedCount;
+		private volatile long thresholdNanos;
+		private volatile long refreshedAt;
+
+		RouteStats(Timer timer, WindowedCount windowedCount) {
+			this.timer = timer;
+			this.windowedCount = windowedCount;
+			this.refreshedAt = clock.getAsLong() - Long.MAX_VALUE / 2;
+		}
+	}
+
+	/*
+	samples in the rolling window, kept in the same number of slots the histogram rotates through.
+	a slot is reset by whichever thread first moves it to a new epoch, a sample racing the reset may be lost,
+	which only shifts when a route gets its own baseline.
+	* */
+	private static class WindowedCount {
+		private final long slotNanos;
+		private final AtomicLongArray counts;
+		private final AtomicLongArray epochs;
+
+		WindowedCount(int slots, long slotNanos) {
+			this.slotNanos = slotNanos;
+			this.counts = new AtomicLongArray(slots);
+			this.epochs = new AtomicLongArray(slots);
+			for (int i = 0; i < slots; i++) {
+				epochs.set(i, Long.MIN_VALUE);
+			}
+		}
+
+		void increment(long now) {
+			long epoch = Math.floorDiv(now, slotNanos);
+			int slot = (int) Math.floorMod(epoch, counts.length());
+			long seen = epochs.get(slot);
+			if (seen != epoch && epochs.compareAndSet(slot, seen, epoch)) {
+				counts.set(slot, 0);
+			}
+			counts.incrementAndGet(slot);
+		}
+
+		long sum(long now) {
+			long epoch = Math.floorDiv(now, slotNanos);
+			long sum = 0;
+			for (int i = 0; i < counts.length(); i++) {
+				long slotEpoch = epochs.get(i);
+				if (slotEpoch != Long.MIN_VALUE && epoch - slotEpoch < counts.length()) {
+					sum += counts.get(i);
+				}
+			}
+			return sum;
+		}
+	}
+}
@@ -0,0 +1,271 @@
+package com.modu.soccer.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.util.Collection;
+import java.util.Locale;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Response wrapper that buffers small bodies like ContentCachingResponseWrapper, but switches to pass-through
+ * once the body grows past bufferLimit or a streaming content type is set, or from the start for streamed routes.
+ * Either way only the first teeLimit bytes are kept for logging.
+ * Registering a WriteListener also switches to pass-through, non-blocking writes go straight to the container.
+ */
+public class TeeResponseWrapper extends HttpServletResponseWrapper {
+	private final int bufferLimit;
+	private final int teeLimit;
+	private final Collection<String> streamingContentTypes;
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+	private final ByteArrayOutputStream tee = new ByteArrayOutputStream(1024);
+	private boolean passThrough;
+	private long contentSize;
+	private Long declaredContentLength;
+	private ServletOutputStream outputStream;
+	private PrintWriter writer;
+
+	public TeeResponseWrapper(HttpServletResponse response, int bufferLimit, int teeLimit,
+		Collection<String> streamingContentTypes, boolean passThrough) {
+		super(response);
+		this.bufferLimit = bufferLimit;
+		this.teeLimit = teeLimit;
+		this.streamingContentTypes = streamingContentTypes;
+		this.passThrough = passThrough;
+	}
+
+	public boolean isPassThrough() {
+		return passThrough;
+	}
+
+	public long getContentSize() {
+		return contentSize;
+	}
+
+	public byte[] getCapturedContent() {
+		return tee.toByteArray();
+	}
+
+	// writes out whatever is still buffered, the counterpart of ContentCachingResponseWrapper#copyBodyToResponse
+	public void finish() throws IOException {
+		flushWriter();
+		if (passThrough) {
+			return;
+		}
+		if (!isCommitted()) {
+			super.setContentLengthLong(buffer.size());
+		}
+		writeBuffered();
+		super.flushBuffer();
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (outputStream == null) {
+			outputStream = new TeeOutputStream();
+		}
+		return outputStream;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (writer == null) {
+			String encoding = getCharacterEncoding();
+			try {
+				writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), encoding), false);
+			} catch (UnsupportedEncodingException e) {
+				writer = new PrintWriter(new OutputStreamWriter(getOutputStream()), false);
+			}
+		}
+		return writer;
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		flushWriter();
+		if (passThrough) {
+			super.flushBuffer();
+		}
+	}
+
+	@Override
+	public void setContentType(String type) {
+		super.setContentType(type);
+		switchIfStreamingType(type);
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		super.setHeader(name, value);
+		if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+			switchIfStreamingType(value);
+		}
+	}
+
+	@Override
+	public void addHeader(String name, String value) {
+		super.addHeader(name, value);
+		if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+			switchIfStreamingType(value);
+		}
+	}
+
+	// the length is only known once the buffer is written out, unless the body is passed through
+	@Override
+	public void setContentLength(int len) {
+		setContentLengthLong(len);
+	}
+
+	@Override
+	public void setContentLengthLong(long len) {
+		if (passThrough) {
+			super.setContentLengthLong(len);
+		} else {
+			declaredContentLength = len;
+		}
+	}
+
+	@Override
+	public void sendError(int sc) throws IOException {
+		flushWriter();
+		writeBuffered();
+		super.sendError(sc);
+	}
+
+	@Override
+	public void sendError(int sc, String msg) throws IOException {
+		flushWriter();
+		writeBuffered();
+		super.sendError(sc, msg);
+	}
+
+	@Override
+	public void sendRedirect(String location) throws IOException {
+		flushWriter();
+		writeBuffered();
+		super.sendRedirect(location);
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+		resetContent();
+	}
+
+	@Override
+	public void resetBuffer() {
+		super.resetBuffer();
+		resetContent();
+	}
+
+	private void resetContent() {
+		buffer.reset();
+		tee.reset();
+		contentSize = 0;
+		declaredContentLength = null;
+	}
+
+	private void switchIfStreamingType(String contentType) {
+		if (passThrough || contentType == null) {
+			return;
+		}
+		String normalized = contentType.toLowerCase(Locale.ROOT);
+		if (streamingContentTypes.stream().anyMatch(normalized::startsWith)) {
+			try {
+				switchToPassThrough();
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private void switchToPassThrough() throws IOException {
+		passThrough = true;
+		if (declaredContentLength != null && !isCommitted()) {
+			super.setContentLengthLong(declaredContentLength);
+		}
+		writeBuffered();
+	}
+
+	private void flushWriter() {
+		if (writer != null) {
+			writer.flush();
+		}
+	}
+
+	private void writeBuffered() throws IOException {
+		if (buffer.size() > 0) {
+			buffer.writeTo(super.getOutputStream());
+			buffer.reset();
+		}
+	}
+
+	private void capture(byte[] b, int off, int len) {
+		int room = teeLimit - tee.size();
+		if (room > 0) {
+			tee.write(b, off, Math.min(room, len));
+		}
+		contentSize += len;
+	}
+
+	private class TeeOutputStream extends ServletOutputStream {
+		private final byte[] single = new byte[1];
+
+		@Override
+		public void write(int b) throws IOException {
+			single[0] = (byte) b;
+			write(single, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			capture(b, off, len);
+			if (!passThrough && buffer.size() + len > bufferLimit) {
+				switchToPassThrough();
+			}
+			if (passThrough) {
+				TeeResponseWrapper.super.getOutputStream().write(b, off, len);
+			} else {
+				buffer.write(b, off, len);
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (passThrough) {
+				TeeResponseWrapper.super.getOutputStream().flush();
+			}
+		}
+
+		@Override
+		public boolean isReady() {
+			if (passThrough) {
+				try {
+					return TeeResponseWrapper.super.getOutputStream().isReady();
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+			return true;
+		}
+
+		// buffered bytes are written out before the container enters non-blocking mode
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			try {
+				if (!passThrough) {
+					switchToPassThrough();
+				}
+				TeeResponseWrapper.super.getOutputStream().setWriteListener(writeListener);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -1,15 +1,19 @@
 package com.modu.soccer.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modu.soccer.config.RateLimitProperties.RouteGroup;
 import com.modu.soccer.entity.User;
 import com.modu.soccer.enums.MDCKey;
 import com.modu.soccer.exception.CustomException;
 import com.modu.soccer.exception.ErrorCode;
 import com.modu.soccer.repository.UserRepository;
+import com.modu.soccer.utils.ClientIpUtil;
 import com.modu.soccer.utils.UserContextUtil;
+import io.jsonwebtoken.Claims;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +29,9 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class JwtInterceptor implements HandlerInterceptor {
 	private final UserRepository userRepository;
 	private final JwtProvider jwtProvider;
+	private final PrincipalCache principalCache;
+	private final TokenRevocationList tokenRevocationList;
+	private final RequestRateLimiter requestRateLimiter;
 	private final ObjectMapper mapper;
 	private static final String CONTENT_TYPE = "application/json";
 	private static final String ENCODING = "utf-8";
@@ -34,17 +41,19 @@ public class JwtInterceptor implements HandlerInterceptor {
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
 		throws Exception {
 		try {
+			RouteGroup routeGroup = requestRateLimiter.resolve(request.getRequestURI());
+			requestRateLimiter.acquireForIp(routeGroup, ClientIpUtil.getClientIp(request), response);
+
 			String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
 			String token = jwtProvider.getJwtTokenFromHeader(authorizationHeader);
-			if (jwtProvider.isTokenExpired(token)) {
-				throw new CustomException(ErrorCode.ACCESS_TOKEN_EXPIRED);
+			Claims claims = jwtProvider.getVerifiedClaims(token);
+			if (tokenRevocationList.isRevoked(claims.getId())) {
+				throw new CustomException(ErrorCode.ACCESS_TOKEN_REVOKED);
 			}
-			Long userId = jwtProvider.getUserId(token);
-			MDC.put(MDCKey.USER_ID.getKey(), userId.toString());
-			User user = userRepository.findById(userId).orElseThrow(() -> {
-				throw new CustomException(ErrorCode.USER_NOT_REGISTERED);
-			});
-			UserContextUtil.setUser(user);
+			UserPrincipal principal = UserPrincipal.fromClaims(claims);
+			requestRateLimiter.acquireForUser(routeGroup, principal.getUserId(), response);
+			MDC.put(MDCKey.USER_ID.getKey(), principal.getUserId().toString());
+			UserContextUtil.setPrincipal(principal, this::loadUser);
 		} catch (CustomException e) {
 			log.warn(e.getMessage());
 			handleCustomException(request, response, e);
@@ -57,6 +66,10 @@ public class JwtInterceptor implements HandlerInterceptor {
 		return true;
 	}
 
+	private Optional<User> loadUser(Long userId) {
+		return principalCache.get(userId, userRepository::findById);
+	}
+
 	@Override
 	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex)
 		throws Exception {
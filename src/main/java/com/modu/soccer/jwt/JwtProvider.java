@@ -7,15 +7,18 @@ import com.modu.soccer.exception.ErrorCode;
 import com.modu.soccer.utils.LocalDateTimeUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.security.Key;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import javax.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.DateUtils;
@@ -26,8 +29,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtProvider {
 
+	public static final String USER_ID_CLAIM = "user_id";
+	public static final String EMAIL_CLAIM = "email";
 	private final String ISSUER = "modu_soccer";
 	private Key jwtSecretKey;
+	private JwtParser jwtParser;
+	private VerifiedTokenCache verifiedTokenCache;
 
 	@Value("${jwt.secret_key}")
 	private String jwtSecretKeyString;
@@ -35,10 +42,16 @@ public class JwtProvider {
 	private Integer accessTokenExpireMillis;
 	@Value("${jwt.expire_in.refresh_token}")
 	private Integer refreshTokenExpireMillis;
+	@Value("${jwt.verified_cache.max_size:10000}")
+	private Integer verifiedCacheMaxSize;
 
 	@PostConstruct()
 	private void initialize() {
 		jwtSecretKey = getDecodedSecretKey();
+		jwtParser = Jwts.parserBuilder()
+			.setSigningKey(jwtSecretKey)
+			.build();
+		verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
 	}
 
 	public String createTokenOfType(User user, TokenType tokenType) {
@@ -55,6 +68,7 @@ public class JwtProvider {
 		}
 		return Jwts.builder()
 			.setClaims(createClaimsFrom(user))
+			.setId(UUID.randomUUID().toString())
 			.setIssuer(ISSUER)
 			.setExpiration(expireDate)
 			.setIssuedAt(issuedDateTime)
@@ -78,7 +92,36 @@ public class JwtProvider {
 	}
 
 	public Long getUserId(String token) {
-		return Long.valueOf((String) getClaimsFromToken(token).get("user_id"));
+		return getUserId(getClaimsFromToken(token));
+	}
+
+	public LocalDateTime getExpiration(String token) {
+		return LocalDateTimeUtil.fromTimestamp(getClaimsFromToken(token).getExpiration());
+	}
+
+	public Long getUserId(Claims claims) {
+		return Long.valueOf((String) claims.get(USER_ID_CLAIM));
+	}
+
+	// single parse for signature and expiration, cached until the token's exp
+	public Claims getVerifiedClaims(String token) {
+		Claims cached = verifiedTokenCache.get(token);
+		if (cached != null) {
+			return cached;
+		}
+		try {
+			Claims claims = parseJwt(token);
+			verifiedTokenCache.put(token, claims);
+			return claims;
+		} catch (ExpiredJwtException e) {
+			throw new CustomException(ErrorCode.ACCESS_TOKEN_EXPIRED);
+		} catch (MalformedJwtException | UnsupportedJwtException e) {
+			log.warn(e.getMessage());
+			throw new CustomException(ErrorCode.AUTHENTICATION_FAILED);
+		} catch (Exception e) {
+			log.error("token verifying error: {}", e.getMessage());
+			throw new CustomException(ErrorCode.UNKNOWN_ERROR);
+		}
 	}
 
 
@@ -96,15 +139,13 @@ public class JwtProvider {
 
 	private Map<String, String> createClaimsFrom(User user) {
 		Map<String, String> claims = new HashMap<>();
-		claims.put("user_id", user.getId().toString());
-		claims.put("email", user.getEmail());
+		claims.put(USER_ID_CLAIM, user.getId().toString());
+		claims.put(EMAIL_CLAIM, user.getEmail());
 		return claims;
 	}
 
 	private Claims parseJwt(String token) {
-		return Jwts.parserBuilder()
-			.setSigningKey(jwtSecretKey)
-			.build()
+		return jwtParser
 			.parseClaimsJws(token)
 			.getBody();
 	}
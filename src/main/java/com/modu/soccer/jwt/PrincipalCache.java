@@ -0,0 +1,126 @@
+package com.modu.soccer.jwt;
+
+import com.modu.soccer.entity.User;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, TTL based cache of authenticated users keyed by user id.
+ * Writers of the users table must invalidate the entry, so a stale profile never outlives a write.
+ * Every invalidation bumps the user's generation, and a load only caches its row if the generation it started
+ * with is still current, so a row read before a concurrent write's commit is never cached after it.
+ */
+public class PrincipalCache {
+	// generations are striped by user id, a bump on another user of the same stripe only costs a cache miss
+	private static final int GENERATION_STRIPES = 256;
+
+	private final int maxSize;
+	private final long ttlMillis;
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+	public PrincipalCache(int maxSize, long ttlMillis) {
+		this.maxSize = maxSize;
+		this.ttlMillis = ttlMillis;
+	}
+
+	public Optional<User> get(Long userId, Function<Long, Optional<User>> loader) {
+		long now = System.currentTimeMillis();
+		Entry entry = entries.get(userId);
+		if (entry != null && !entry.isExpired(now)) {
+			hits.increment();
+			return Optional.of(entry.user());
+		}
+
+		misses.increment();
+		long generation = generations.get(stripeOf(userId));
+		Optional<User> user = loader.apply(userId);
+		user.ifPresent(u -> put(userId, u, generation, now));
+		return user;
+	}
+
+	public void invalidate(Long userId) {
+		generations.incrementAndGet(stripeOf(userId));
+		if (entries.remove(userId) != null) {
+			evictions.increment();
+		}
+	}
+
+	/*
+	evicts now and once more after commit. the second bump also discards a pre-commit row
+	that a concurrent miss is still loading, see put.
+	* */
+	public void invalidateAfterCommit(Long userId) {
+		invalidate(userId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					invalidate(userId);
+				}
+			});
+		}
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void put(Long userId, User user, long generation, long now) {
+		if (maxSize <= 0 || generations.get(stripeOf(userId)) != generation) {
+			return;
+		}
+		if (entries.size() >= maxSize) {
+			evict(now);
+		}
+		Entry entry = new Entry(user, now + ttlMillis);
+		entries.put(userId, entry);
+		// an invalidation between the check above and the put would otherwise be lost
+		if (generations.get(stripeOf(userId)) != generation) {
+			entries.remove(userId, entry);
+		}
+	}
+
+	private static int stripeOf(Long userId) {
+		return Long.hashCode(userId) & (GENERATION_STRIPES - 1);
+	}
+
+	private void evict(long now) {
+		entries.values().removeIf(entry -> entry.isExpired(now));
+
+		Iterator<Long> iterator = entries.keySet().iterator();
+		while (entries.size() >= maxSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+			evictions.increment();
+		}
+	}
+
+	private record Entry(User user, long expireAtMillis) {
+		boolean isExpired(long now) {
+			return expireAtMillis <= now;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.modu.soccer.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modu.soccer.config.RateLimitProperties.RouteGroup;
+import com.modu.soccer.exception.CustomException;
+import com.modu.soccer.exception.ErrorCode;
+import com.modu.soccer.utils.ClientIpUtil;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/*
+per-ip admission for routes that do not pass through JwtInterceptor.
+* */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+	private static final String CONTENT_TYPE = "application/json";
+	private static final String ENCODING = "utf-8";
+
+	private final RequestRateLimiter requestRateLimiter;
+	private final ObjectMapper mapper;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+		throws Exception {
+		try {
+			RouteGroup routeGroup = requestRateLimiter.resolve(request.getRequestURI());
+			requestRateLimiter.acquireForIp(routeGroup, ClientIpUtil.getClientIp(request), response);
+		} catch (CustomException e) {
+			log.warn(e.getMessage());
+			writeResponse(response, e.getErrorCode());
+			return false;
+		}
+		return true;
+	}
+
+	private void writeResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+		Map<String, Object> responseBody = new HashMap<>();
+		responseBody.put("code", errorCode.getCode());
+		responseBody.put("message", errorCode.getMsg());
+		String s = mapper.writeValueAsString(responseBody);
+		response.setContentType(CONTENT_TYPE);
+		response.setCharacterEncoding(ENCODING);
+		response.setStatus(errorCode.getHttpStatus().value());
+		response.getWriter().write(s);
+	}
+}
@@ -0,0 +1,99 @@
+package com.modu.soccer.jwt;
+
+import com.modu.soccer.config.RateLimitProperties;
+import com.modu.soccer.config.RateLimitProperties.Limit;
+import com.modu.soccer.config.RateLimitProperties.RouteGroup;
+import com.modu.soccer.exception.CustomException;
+import com.modu.soccer.exception.ErrorCode;
+import com.modu.soccer.utils.RateLimiter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Per-user and per-ip admission control.
+ * A request belongs to the first route group whose pattern matches, and every group keeps its own buckets.
+ */
+public class RequestRateLimiter {
+	private static final String DEFAULT_GROUP = "default";
+
+	private final boolean enabled;
+	private final RouteGroup defaultGroup;
+	private final List<RouteGroup> groups;
+	private final RateLimiter rateLimiter;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	private final LongAdder userRejections = new LongAdder();
+	private final LongAdder ipRejections = new LongAdder();
+
+	public RequestRateLimiter(RateLimitProperties properties) {
+		this.enabled = properties.isEnabled();
+		this.defaultGroup = new RouteGroup(DEFAULT_GROUP, List.of(), properties.getUser(), properties.getIp());
+		this.groups = properties.getGroups().stream()
+			.map(group -> new RouteGroup(group.getName(), group.getPatterns(),
+				group.getUser() != null ? group.getUser() : properties.getUser(),
+				group.getIp() != null ? group.getIp() : properties.getIp()))
+			.toList();
+		this.rateLimiter = new RateLimiter(properties.getMaxBuckets(), properties.getIdleEvictMillis());
+	}
+
+	public RouteGroup resolve(String requestURI) {
+		for (RouteGroup group : groups) {
+			for (String pattern : group.getPatterns()) {
+				if (pathMatcher.match(pattern, requestURI)) {
+					return group;
+				}
+			}
+		}
+		return defaultGroup;
+	}
+
+	public void acquireForIp(RouteGroup group, String clientIp, HttpServletResponse response) {
+		if (acquire(group.getName() + ":ip:" + clientIp, group.getIp(), response)) {
+			return;
+		}
+		ipRejections.increment();
+		throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+	}
+
+	public void acquireForUser(RouteGroup group, Long userId, HttpServletResponse response) {
+		if (acquire(group.getName() + ":user:" + userId, group.getUser(), response)) {
+			return;
+		}
+		userRejections.increment();
+		throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+	}
+
+	@Scheduled(fixedDelayString = "${rate_limit.idle_evict_millis:600000}")
+	public void evictIdle() {
+		rateLimiter.evictIdle();
+	}
+
+	public long getUserRejectionCount() {
+		return userRejections.sum();
+	}
+
+	public long getIpRejectionCount() {
+		return ipRejections.sum();
+	}
+
+	public int size() {
+		return rateLimiter.size();
+	}
+
+	private boolean acquire(String key, Limit limit, HttpServletResponse response) {
+		if (!enabled) {
+			return true;
+		}
+		long waitNanos = rateLimiter.tryAcquire(key, limit.getCapacity(), limit.getRefillPerSecond());
+		if (waitNanos == 0) {
+			return true;
+		}
+		long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		return false;
+	}
+}
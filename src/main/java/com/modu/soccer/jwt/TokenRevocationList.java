@@ -0,0 +1,159 @@
+package com.modu.soccer.jwt;
+
+import com.modu.soccer.entity.RevokedToken;
+import com.modu.soccer.repository.RevokedTokenRepository;
+import com.modu.soccer.utils.BloomFilter;
+import com.modu.soccer.utils.LocalDateTimeUtil;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Revoked access token ids, stored in revoked_tokens and mirrored into a Bloom filter.
+ * A filter miss proves the token was not revoked, so only filter hits reach the database.
+ * Revocations made on another instance are picked up on the next rebuild.
+ * Until the first rebuild succeeds every check goes to the database.
+ */
+@Slf4j
+public class TokenRevocationList {
+	private final RevokedTokenRepository revokedTokenRepository;
+	private final int expectedInsertions;
+	private final double falsePositiveProbability;
+	private final LongAdder negatives = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder falsePositives = new LongAdder();
+	// guards the swap against revoke, never held across a database call
+	private final Object filterLock = new Object();
+	private volatile BloomFilter filter;
+	private volatile boolean loaded;
+	private Set<String> revokedDuringRebuild;
+
+	public TokenRevocationList(RevokedTokenRepository revokedTokenRepository, int expectedInsertions,
+		double falsePositiveProbability) {
+		this.revokedTokenRepository = revokedTokenRepository;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveProbability = falsePositiveProbability;
+		this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+	}
+
+	public boolean isRevoked(String jti) {
+		if (jti == null) {
+			return false;
+		}
+		if (!loaded) {
+			return revokedTokenRepository.existsByJti(jti);
+		}
+		if (!filter.mightContain(jti)) {
+			negatives.increment();
+			return false;
+		}
+		boolean revoked = revokedTokenRepository.existsByJti(jti);
+		if (revoked) {
+			hits.increment();
+		} else {
+			falsePositives.increment();
+		}
+		return revoked;
+	}
+
+	public void revoke(String jti, Long userId, LocalDateTime expireAt) {
+		if (jti == null || expireAt == null) {
+			return;
+		}
+		revokedTokenRepository.save(RevokedToken.builder()
+			.jti(jti)
+			.userId(userId)
+			.expireAt(expireAt)
+			.build());
+		synchronized (filterLock) {
+			filter.put(jti);
+			if (revokedDuringRebuild != null) {
+				revokedDuringRebuild.add(jti);
+			}
+		}
+	}
+
+	/*
+	first load runs once the application is ready instead of inside bean creation.
+	a failure here must not stop startup, checks stay on the database and the schedule retries.
+	* */
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		try {
+			rebuild();
+		} catch (DataAccessException e) {
+			log.error("token revocation filter not loaded, checking revoked tokens against the database", e);
+		}
+	}
+
+	/*
+	drops expired ids and rebuilds the filter from the rows still active, so it does not fill up over time.
+	the database is read without the filter lock. ids revoked meanwhile are collected and put into the
+	new filter on swap, the read may have missed them.
+	synchronized only against another rebuild, the startup load can overlap the schedule.
+	* */
+	@Scheduled(fixedDelayString = "${auth.revocation.rebuild_delay_millis:60000}")
+	public synchronized void rebuild() {
+		synchronized (filterLock) {
+			revokedDuringRebuild = new HashSet<>();
+		}
+		try {
+			LocalDateTime now = LocalDateTimeUtil.now();
+			revokedTokenRepository.deleteExpired(now);
+			List<String> activeJtis = revokedTokenRepository.findActiveJtis(now);
+
+			BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, activeJtis.size() * 2),
+				falsePositiveProbability);
+			activeJtis.forEach(rebuilt::put);
+			synchronized (filterLock) {
+				revokedDuringRebuild.forEach(rebuilt::put);
+				filter = rebuilt;
+				loaded = true;
+			}
+			log.info("token revocation filter rebuilt, entries: {}, memory: {} bytes, expected fpp: {}",
+				rebuilt.getInsertions(), rebuilt.getMemoryBytes(), rebuilt.expectedFalsePositiveProbability());
+		} finally {
+			synchronized (filterLock) {
+				revokedDuringRebuild = null;
+			}
+		}
+	}
+
+	public int size() {
+		return filter.getInsertions();
+	}
+
+	public long getMemoryBytes() {
+		return filter.getMemoryBytes();
+	}
+
+	public double getExpectedFalsePositiveRate() {
+		return filter.expectedFalsePositiveProbability();
+	}
+
+	// share of not revoked tokens that still fell through to the database
+	public double getObservedFalsePositiveRate() {
+		long fp = falsePositives.sum();
+		long total = fp + negatives.sum();
+		return total == 0 ? 0 : (double) fp / total;
+	}
+
+	public long getNegativeCount() {
+		return negatives.sum();
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getFalsePositiveCount() {
+		return falsePositives.sum();
+	}
+}
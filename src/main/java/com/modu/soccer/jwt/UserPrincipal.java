@@ -0,0 +1,25 @@
+package com.modu.soccer.jwt;
+
+import com.modu.soccer.utils.LocalDateTimeUtil;
+import io.jsonwebtoken.Claims;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserPrincipal {
+	private final Long userId;
+	private final String email;
+	private final String tokenId;
+	private final LocalDateTime tokenExpireAt;
+
+	public static UserPrincipal fromClaims(Claims claims) {
+		return new UserPrincipal(
+			Long.valueOf((String) claims.get(JwtProvider.USER_ID_CLAIM)),
+			(String) claims.get(JwtProvider.EMAIL_CLAIM),
+			claims.getId(),
+			claims.getExpiration() == null ? null : LocalDateTimeUtil.fromTimestamp(claims.getExpiration())
+		);
+	}
+}
@@ -0,0 +1,73 @@
+package com.modu.soccer.jwt;
+
+import com.modu.soccer.utils.HashUtil;
+import io.jsonwebtoken.Claims;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of already verified tokens.
+ * Entries are keyed by the SHA-256 hash of the token, so raw tokens never stay in memory,
+ * and an entry is only served until the token's own expiration.
+ */
+public class VerifiedTokenCache {
+	private final int maxSize;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	public VerifiedTokenCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public Claims get(String token) {
+		String key = hash(token);
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.isExpired(System.currentTimeMillis())) {
+			entries.remove(key, entry);
+			return null;
+		}
+		return entry.claims();
+	}
+
+	public void put(String token, Claims claims) {
+		if (claims.getExpiration() == null || maxSize <= 0) {
+			return;
+		}
+		if (entries.size() >= maxSize) {
+			evict();
+		}
+		entries.put(hash(token), new Entry(claims, claims.getExpiration().getTime()));
+	}
+
+	public void invalidate(String token) {
+		entries.remove(hash(token));
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void evict() {
+		long now = System.currentTimeMillis();
+		entries.values().removeIf(entry -> entry.isExpired(now));
+
+		Iterator<String> iterator = entries.keySet().iterator();
+		while (entries.size() >= maxSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private static String hash(String token) {
+		return HashUtil.sha256(token);
+	}
+
+	private record Entry(Claims claims, long expireAtMillis) {
+		boolean isExpired(long now) {
+			return expireAtMillis <= now;
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package com.modu.soccer.logging;
+
+import ch.qos.logback.classic.net.server.HardenedLoggingEventInputStream;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only file spool of serialized logging events, bounded by maxBytes.
+ * Writers append to the current file; the reader rotates it out and replays whole files, oldest first.
+ * Each record is a length-prefixed serialized LoggingEventVO, a torn last record is ignored on replay.
+ * A file with an impossible length or an undecodable record is corrupt, it is never read past that record.
+ */
+class EventSpool implements Closeable {
+	static final String SPOOL_SUFFIX = ".spool";
+	static final String READY_SUFFIX = ".ready";
+
+	private final Path directory;
+	private final long maxBytes;
+	private final Object lock = new Object();
+	private DataOutputStream out;
+	private Path current;
+	private long bytes;
+	private long sequence;
+
+	EventSpool(Path directory, long maxBytes) throws IOException {
+		this.directory = directory;
+		this.maxBytes = maxBytes;
+		Files.createDirectories(directory);
+		for (Path file : listSpoolFiles()) {
+			bytes += Files.size(file);
+		}
+	}
+
+	boolean write(Serializable event) {
+		byte[] data;
+		try {
+			data = serialize(event);
+		} catch (IOException e) {
+			return false;
+		}
+		synchronized (lock) {
+			if (bytes + Integer.BYTES + data.length > maxBytes) {
+				return false;
+			}
+			try {
+				if (out == null) {
+					current = directory.resolve(String.format("%013d-%06d%s",
+						System.currentTimeMillis(), sequence++, SPOOL_SUFFIX));
+					out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(current)));
+				}
+				out.writeInt(data.length);
+				out.write(data);
+				bytes += Integer.BYTES + data.length;
+				return true;
+			} catch (IOException e) {
+				return false;
+			}
+		}
+	}
+
+	// closes the file being written and returns every complete spool file, oldest first
+	List<Path> rotate() throws IOException {
+		synchronized (lock) {
+			if (out != null) {
+				out.close();
+				out = null;
+				Files.move(current, readyPathOf(current));
+				current = null;
+			}
+		}
+		return listSpoolFiles();
+	}
+
+	// a record that can not be read back throws CorruptSpoolException, the caller drops the file
+	void replay(Path file, int batchSize, Consumer<List<ILoggingEvent>> consumer) throws IOException {
+		List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+		long remaining = Files.size(file);
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			while (remaining >= Integer.BYTES) {
+				int length = in.readInt();
+				remaining -= Integer.BYTES;
+				if (length < 0 || length > maxBytes) {
+					throw new CorruptSpoolException("invalid record length " + length + " in " + file);
+				}
+				if (length > remaining) {
+					break;
+				}
+				byte[] data = new byte[length];
+				in.readFully(data);
+				remaining -= length;
+				batch.add(deserialize(data));
+				if (batch.size() >= batchSize) {
+					consumer.accept(batch);
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+		}
+		if (!batch.isEmpty()) {
+			consumer.accept(batch);
+		}
+	}
+
+	void delete(Path file) throws IOException {
+		long size = Files.size(file);
+		Files.delete(file);
+		synchronized (lock) {
+			bytes -= size;
+		}
+	}
+
+	long getBytes() {
+		synchronized (lock) {
+			return bytes;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (lock) {
+			if (out != null) {
+				out.close();
+				out = null;
+			}
+		}
+	}
+
+	private List<Path> listSpoolFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.filter(file -> file.toString().endsWith(READY_SUFFIX) || file.toString().endsWith(SPOOL_SUFFIX))
+				.filter(file -> !file.equals(current))
+				.sorted()
+				.toList();
+		}
+	}
+
+	private Path readyPathOf(Path file) {
+		String name = file.getFileName().toString();
+		return file.resolveSibling(name.substring(0, name.length() - SPOOL_SUFFIX.length()) + READY_SUFFIX);
+	}
+
+	private static byte[] serialize(Serializable event) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(event);
+		}
+		return bytes.toByteArray();
+	}
+
+	// only logback's event value classes are accepted back from disk
+	private static ILoggingEvent deserialize(byte[] data) throws CorruptSpoolException {
+		try (HardenedLoggingEventInputStream in = new HardenedLoggingEventInputStream(new ByteArrayInputStream(data))) {
+			return (ILoggingEvent) in.readObject();
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			throw new CorruptSpoolException("unreadable record", e);
+		}
+	}
+
+	static class CorruptSpoolException extends IOException {
+		CorruptSpoolException(String message) {
+			super(message);
+		}
+
+		CorruptSpoolException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+}
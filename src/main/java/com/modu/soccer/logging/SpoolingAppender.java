@@ -0,0 +1,244 @@
+package com.modu.soccer.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEventVO;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decouples slow appenders (CloudWatch) from the logging thread.
+ * Events go to a bounded in-memory queue, overflow spills to a local file spool, and only when the spool is
+ * full are events dropped. A single shipper thread forwards batches to the attached appenders,
+ * replaying the spool whenever the queue runs dry.
+ */
+public class SpoolingAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+	implements AppenderAttachable<ILoggingEvent> {
+	private static final long STOP_TIMEOUT_MILLIS = 10000;
+
+	private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+	private final LongAdder queued = new LongAdder();
+	private final LongAdder spooled = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder shipped = new LongAdder();
+
+	private int queueSize = 8192;
+	private int batchSize = 500;
+	private String spoolDirectory = "logs/spool";
+	private long maxSpoolBytes = 100L * 1024 * 1024;
+	private long idleMillis = 200;
+	private boolean includeCallerData = false;
+
+	private BlockingQueue<ILoggingEvent> queue;
+	private EventSpool spool;
+	private Thread shipper;
+	private volatile boolean running;
+
+	@Override
+	public void start() {
+		if (isStarted()) {
+			return;
+		}
+		if (!appenders.iteratorForAppenders().hasNext()) {
+			addError("no appender attached to [" + name + "]");
+			return;
+		}
+		queue = new ArrayBlockingQueue<>(queueSize);
+		try {
+			spool = new EventSpool(Path.of(spoolDirectory), maxSpoolBytes);
+		} catch (IOException e) {
+			addWarn("spool directory [" + spoolDirectory + "] unavailable, overflow will be dropped", e);
+			spool = null;
+		}
+		running = true;
+		shipper = new Thread(this::shipLoop, "log-shipper-" + name);
+		shipper.setDaemon(true);
+		shipper.start();
+		super.start();
+	}
+
+	@Override
+	public void stop() {
+		if (!isStarted()) {
+			return;
+		}
+		super.stop();
+		running = false;
+		try {
+			shipper.join(STOP_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		try {
+			if (spool != null) {
+				spool.close();
+			}
+		} catch (IOException e) {
+			addWarn("failed to close spool", e);
+		}
+		appenders.detachAndStopAllAppenders();
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		if (includeCallerData) {
+			event.getCallerData();
+		}
+		event.prepareForDeferredProcessing();
+		LoggingEventVO value = LoggingEventVO.build(event);
+		if (queue.offer(value)) {
+			queued.increment();
+			return;
+		}
+		if (spool != null && spool.write(value)) {
+			spooled.increment();
+			return;
+		}
+		dropped.increment();
+	}
+
+	private void shipLoop() {
+		List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				ILoggingEvent first = queue.poll(idleMillis, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					replaySpool();
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				ship(batch);
+				batch.clear();
+			} catch (InterruptedException e) {
+				break;
+			} catch (RuntimeException e) {
+				// a failing appender must not end the shipper, the queue would fill and everything after spill
+				addError("failed to ship log events", e);
+				batch.clear();
+			}
+		}
+		queue.drainTo(batch);
+		ship(batch);
+		replaySpool();
+	}
+
+	private void replaySpool() {
+		if (spool == null) {
+			return;
+		}
+		try {
+			for (Path file : spool.rotate()) {
+				try {
+					spool.replay(file, batchSize, this::ship);
+				} catch (EventSpool.CorruptSpoolException e) {
+					// left in place it would be replayed on every idle tick and fail the same way
+					addWarn("dropping unreadable spool file [" + file + "]", e);
+				}
+				spool.delete(file);
+			}
+		} catch (IOException e) {
+			addWarn("failed to replay spool", e);
+		}
+	}
+
+	private void ship(List<ILoggingEvent> batch) {
+		for (ILoggingEvent event : batch) {
+			appenders.appendLoopOnAppenders(event);
+		}
+		shipped.add(batch.size());
+	}
+
+	public long getQueuedCount() {
+		return queued.sum();
+	}
+
+	public long getSpooledCount() {
+		return spooled.sum();
+	}
+
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	public long getShippedCount() {
+		return shipped.sum();
+	}
+
+	public int getQueueDepth() {
+		return queue != null ? queue.size() : 0;
+	}
+
+	public long getSpoolBytes() {
+		return spool != null ? spool.getBytes() : 0;
+	}
+
+	public void setQueueSize(int queueSize) {
+		this.queueSize = queueSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public void setSpoolDirectory(String spoolDirectory) {
+		this.spoolDirectory = spoolDirectory;
+	}
+
+	public void setMaxSpoolBytes(long maxSpoolBytes) {
+		this.maxSpoolBytes = maxSpoolBytes;
+	}
+
+	public void setIdleMillis(long idleMillis) {
+		this.idleMillis = idleMillis;
+	}
+
+	public void setIncludeCallerData(boolean includeCallerData) {
+		this.includeCallerData = includeCallerData;
+	}
+
+	@Override
+	public void addAppender(Appender<ILoggingEvent> newAppender) {
+		appenders.addAppender(newAppender);
+	}
+
+	@Override
+	public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+		return appenders.iteratorForAppenders();
+	}
+
+	@Override
+	public Appender<ILoggingEvent> getAppender(String name) {
+		return appenders.getAppender(name);
+	}
+
+	@Override
+	public boolean isAttached(Appender<ILoggingEvent> appender) {
+		return appenders.isAttached(appender);
+	}
+
+	@Override
+	public void detachAndStopAllAppenders() {
+		appenders.detachAndStopAllAppenders();
+	}
+
+	@Override
+	public boolean detachAppender(Appender<ILoggingEvent> appender) {
+		return appenders.detachAppender(appender);
+	}
+
+	@Override
+	public boolean detachAppender(String name) {
+		return appenders.detachAppender(name);
+	}
+}
@@ -1,12 +1,14 @@
 package com.modu.soccer.repository;
 
 import com.modu.soccer.domain.DuoRecordView;
+import com.modu.soccer.domain.ResourceVersion;
 import com.modu.soccer.domain.SoloRecordView;
 import com.modu.soccer.entity.AttackPoint;
 import com.modu.soccer.entity.Quarter;
 import com.modu.soccer.entity.Team;
 import com.modu.soccer.entity.User;
 import com.modu.soccer.enums.StatisticsType;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -20,9 +22,14 @@ public interface AttackPointRepository extends JpaRepository<AttackPoint, Long>
 
 	List<AttackPoint> findAllByTeamAndUser(Team team, User user);
 
-	@Query("select a from AttackPoint a left join fetch a.assist where a.quarter = :quarter and a.type != 'ASSIST'")
+	// scorer and assistant are part of the goal dto, so both users come with the goal
+	@Query("select a from AttackPoint a left join fetch a.user left join fetch a.assist s left join fetch s.user "
+		+ "where a.quarter = :quarter and a.type != 'ASSIST'")
 	List<AttackPoint> findAllGoalsOfQuarter(@Param("quarter") Quarter quarter);
 
+	@Query("select a from AttackPoint a left join fetch a.assist where a.quarter.id in :quarterIds and a.type != 'ASSIST'")
+	List<AttackPoint> findAllGoalsOfQuarterIdIn(@Param("quarterIds") Collection<Long> quarterIds);
+
 	@Query(nativeQuery = true, value =
 		"select user_id as userId, count(*) as count from attack_points "
 			+ "where team_id = :teamId and type = :#{#statisticsType.name()} and user_id is not null "
@@ -53,5 +60,13 @@ public interface AttackPointRepository extends JpaRepository<AttackPoint, Long>
 	List<DuoRecordView> countDuoAttackPointsByTeamIdAndGoal(@Param("teamId") Long teamId,
 		@Param("limit") Integer limit, @Param("offset") Integer offset);
 
+	@Query(nativeQuery = true, value =
+		"select max(v.updated_at) as lastModified, count(*) as count from ("
+			+ "select a.updated_at from attack_points a where a.team_id = :teamId "
+			+ "union all select u.updated_at from users u "
+			+ "where u.id in (select a.user_id from attack_points a where a.team_id = :teamId)"
+			+ ") v")
+	ResourceVersion findStatisticsVersionByTeamId(@Param("teamId") Long teamId);
+
 	void deleteAllByQuarter(Quarter quarter);
 }
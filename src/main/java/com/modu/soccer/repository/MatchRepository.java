@@ -1,11 +1,15 @@
 package com.modu.soccer.repository;
 
+import com.modu.soccer.domain.MatchView;
+import com.modu.soccer.domain.ResourceVersion;
 import com.modu.soccer.entity.Match;
 import com.modu.soccer.entity.Team;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,4 +22,22 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
 	@EntityGraph(attributePaths = {"teamA.record", "teamB.record"})
 	List<Match> findAllByTeamB(Team teamB);
 
+	// only the team ids, MatchService reads each team's info once however many matches it plays in
+	@Query("select m.teamA.id as teamAId, m.teamB.id as teamBId, m.matchDateTime as matchDate from Match m "
+		+ "where m.teamA.id = :teamId or m.teamB.id = :teamId order by m.matchDateTime desc")
+	List<MatchView> findViewsByTeamId(@Param("teamId") Long teamId);
+
+	@Query("select m from Match m where m.teamA.id in :teamIds or m.teamB.id in :teamIds")
+	List<Match> findAllByTeamIdIn(@Param("teamIds") Collection<Long> teamIds);
+
+	@Query(nativeQuery = true, value =
+		"select max(v.updated_at) as lastModified, count(*) as count from ("
+			+ "select m.updated_at from matches m where m.team_a = :teamId or m.team_b = :teamId "
+			+ "union all select t.updated_at from matches m join teams t on t.id in (m.team_a, m.team_b) "
+			+ "where m.team_a = :teamId or m.team_b = :teamId "
+			+ "union all select r.updated_at from matches m join team_records r on r.team_id in (m.team_a, m.team_b) "
+			+ "where m.team_a = :teamId or m.team_b = :teamId"
+			+ ") v")
+	ResourceVersion findVersionByTeamId(@Param("teamId") Long teamId);
+
 }
@@ -0,0 +1,7 @@
+package com.modu.soccer.repository;
+
+public interface QuarterFormationRepository {
+	void updateTeamAFormation(Long quarterId, String formation);
+
+	void updateTeamBFormation(Long quarterId, String formation);
+}
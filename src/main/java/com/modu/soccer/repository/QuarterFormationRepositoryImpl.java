@@ -0,0 +1,41 @@
+package com.modu.soccer.repository;
+
+import com.modu.soccer.entity.Quarter;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+/*
+native json_set updates of one side of a quarter's formation.
+hibernate can't tell which tables a native update touches, so unless told otherwise it evicts every second level
+cache region on execution. the updates are registered against quarters only, which leaves the cached users, teams,
+team records and team members in place.
+updated_at is set with microseconds like the entity timestamps, so the quarter version probe tells apart two
+formation edits within the same second.
+* */
+public class QuarterFormationRepositoryImpl implements QuarterFormationRepository {
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public void updateTeamAFormation(Long quarterId, String formation) {
+		updateFormation("team_a", quarterId, formation);
+	}
+
+	@Override
+	public void updateTeamBFormation(Long quarterId, String formation) {
+		updateFormation("team_b", quarterId, formation);
+	}
+
+	private void updateFormation(String side, Long quarterId, String formation) {
+		entityManager.createNativeQuery("update quarters q "
+				+ "set q.formation = json_set(q.formation, '$.\"" + side + "\"', CAST(:formation as JSON)), "
+				+ "q.updated_at = now(6) "
+				+ "where q.id = :id")
+			.unwrap(NativeQuery.class)
+			.addSynchronizedEntityClass(Quarter.class)
+			.setParameter("formation", formation)
+			.setParameter("id", quarterId)
+			.executeUpdate();
+	}
+}
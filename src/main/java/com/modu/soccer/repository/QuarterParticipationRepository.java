@@ -4,6 +4,7 @@ import com.modu.soccer.entity.Quarter;
 import com.modu.soccer.entity.QuarterParticipation;
 import com.modu.soccer.entity.Team;
 import com.modu.soccer.entity.User;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,6 +15,8 @@ public interface QuarterParticipationRepository extends JpaRepository<QuarterPar
 
 	List<QuarterParticipation> findAllByQuarter(Quarter quarter);
 
+	List<QuarterParticipation> findAllByQuarter_IdIn(Collection<Long> quarterIds);
+
 	@EntityGraph(attributePaths = {"quarter"})
 	List<QuarterParticipation> findAllByTeamAndInUser(Team team, User user);
 }
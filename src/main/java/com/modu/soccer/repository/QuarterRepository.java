@@ -1,35 +1,35 @@
 package com.modu.soccer.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.modu.soccer.domain.ResourceVersion;
 import com.modu.soccer.entity.Match;
 import com.modu.soccer.entity.Quarter;
 
 @Repository
-public interface QuarterRepository extends JpaRepository<Quarter, Long> {
+public interface QuarterRepository extends JpaRepository<Quarter, Long>, QuarterFormationRepository {
 	List<Quarter> findByMatch(Match match);
+	List<Quarter> findAllByMatch_IdIn(Collection<Long> matchIds);
 	Optional<Quarter> findByIdAndMatch(Long id, Match match);
 	@Query("select q from Quarter q join fetch q.match where q.id = :id")
 	Optional<Quarter> findByIdWithMatch(@Param("id") Long id);
 
-	@Modifying
-	@Query(nativeQuery = true,
-		value = "update quarters q "
-			+ "set q.formation = json_set(q.formation, '$.\"team_a\"', CAST(:formation as JSON)) "
-			+ "where q.id = :id")
-	void updateTeamAFormation(@Param("id") Long quarterId, @Param("formation") String formation);
-
-	@Modifying
-	@Query(nativeQuery = true,
-		value = "update quarters q "
-			+ "set q.formation = json_set(q.formation, '$.\"team_b\"', CAST(:formation as JSON)) "
-			+ "where q.id = :id")
-	void updateTeamBFormation(@Param("id") Long quarterId, @Param("formation") String formation);
+	@Query(nativeQuery = true, value =
+		"select max(v.updated_at) as lastModified, count(*) as count from ("
+			+ "select m.updated_at from matches m where m.id = :matchId "
+			+ "union all select t.updated_at from matches m join teams t on t.id in (m.team_a, m.team_b) "
+			+ "where m.id = :matchId "
+			+ "union all select r.updated_at from matches m join team_records r on r.team_id in (m.team_a, m.team_b) "
+			+ "where m.id = :matchId "
+			+ "union all select q.updated_at from quarters q where q.id = :quarterId and q.match_id = :matchId "
+			+ "union all select p.updated_at from quarter_participations p where p.quarter_id = :quarterId"
+			+ ") v")
+	ResourceVersion findVersionByIdAndMatchId(@Param("quarterId") Long quarterId, @Param("matchId") Long matchId);
 }
@@ -0,0 +1,24 @@
+package com.modu.soccer.repository;
+
+import com.modu.soccer.entity.RevokedToken;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+	boolean existsByJti(String jti);
+
+	@Query("select r.jti from RevokedToken r where r.expireAt > :now")
+	List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+	@Transactional
+	@Modifying
+	@Query("delete from RevokedToken r where r.expireAt <= :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -4,10 +4,17 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.modu.soccer.domain.TeamMemberInfo;
+import com.modu.soccer.entity.CacheRegions;
 import com.modu.soccer.entity.Team;
 import com.modu.soccer.entity.TeamMember;
 import com.modu.soccer.entity.User;
@@ -17,6 +24,11 @@ import com.modu.soccer.enums.AcceptStatus;
 public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
 	Optional<TeamMember> findByIdAndTeamAndAcceptStatus(Long id, Team team, AcceptStatus status);
 
+	// every permission check, invalidated by any write to team_members
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+		@QueryHint(name = "org.hibernate.cacheRegion", value = CacheRegions.TEAM_MEMBER_QUERY)
+	})
 	Optional<TeamMember> findByTeamAndUser(Team team, User user);
 
 	List<TeamMember> findAllByTeamAndUser_IdIn(Team team, Collection<Long> userIds);
@@ -28,4 +40,10 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
 
 	@EntityGraph(attributePaths = {"user"})
 	List<TeamMember> findAllByTeamAndAcceptStatus(Team team, AcceptStatus status);
+
+	// roster rows straight into the response dto, nothing enters the persistence context
+	@Query("select new com.modu.soccer.domain.TeamMemberInfo(m.id, m.team.id, u.id, u.name, m.position, m.backNumber, "
+		+ "m.permission, m.role) from TeamMember m join m.user u where m.team.id = :teamId and m.acceptStatus = :status")
+	List<TeamMemberInfo> findInfosByTeamIdAndAcceptStatus(@Param("teamId") Long teamId,
+		@Param("status") AcceptStatus status);
 }
@@ -1,8 +1,13 @@
 package com.modu.soccer.repository;
 
+import com.modu.soccer.domain.ResourceVersion;
+import com.modu.soccer.domain.TeamInfoView;
+import com.modu.soccer.enums.AcceptStatus;
 import com.modu.soccer.entity.Team;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,4 +18,26 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 	@Query("select t from Team t join fetch t.owner join fetch t.record where t.id = :id")
 	Optional<Team> findByIdWithOwner(@Param("id") Long id);
 	List<Team> findAllByIdIn(List<Long> teamIds);
+
+	@EntityGraph(attributePaths = {"record"})
+	List<Team> findAllWithRecordByIdIn(Collection<Long> teamIds);
+
+	@Query("select t.id as teamId, t.logoUrl as logo, t.name as name, r.win as win, r.draw as draw, r.lose as lose, "
+		+ "r.winRate as winRate, r.goals as goals, r.lostGoals as lostGoals "
+		+ "from Team t join t.record r where t.id in :teamIds")
+	List<TeamInfoView> findInfosByIdIn(@Param("teamIds") Collection<Long> teamIds);
+
+	@Query("select t.id as teamId, t.logoUrl as logo, t.name as name, r.win as win, r.draw as draw, r.lose as lose, "
+		+ "r.winRate as winRate, r.goals as goals, r.lostGoals as lostGoals "
+		+ "from TeamMember m join m.team t join t.record r where m.user.id = :userId and m.acceptStatus = :status")
+	List<TeamInfoView> findInfosByMemberUserIdAndAcceptStatus(@Param("userId") Long userId,
+		@Param("status") AcceptStatus status);
+
+	@Query(nativeQuery = true, value =
+		"select max(v.updated_at) as lastModified, count(*) as count from ("
+			+ "select t.updated_at from teams t where t.id = :teamId "
+			+ "union all select u.updated_at from teams t join users u on u.id = t.owner_id where t.id = :teamId "
+			+ "union all select r.updated_at from team_records r where r.team_id = :teamId"
+			+ ") v")
+	ResourceVersion findVersionById(@Param("teamId") Long teamId);
 }
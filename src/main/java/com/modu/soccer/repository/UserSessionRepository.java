@@ -0,0 +1,41 @@
+package com.modu.soccer.repository;
+
+import com.modu.soccer.entity.UserSession;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserSessionRepository extends JpaRepository<UserSession, Long> {
+	@EntityGraph(attributePaths = {"user"})
+	Optional<UserSession> findByTokenHash(String tokenHash);
+
+	List<UserSession> findAllByUserIdAndRevokedFalseAndExpireAtAfter(Long userId, LocalDateTime now);
+
+	// the row lock serializes concurrent rotations of one token, only the first one sees revoked = false
+	@Modifying
+	@Query("update UserSession s set s.revoked = true where s.id = :id and s.revoked = false")
+	int revokeIfActive(@Param("id") Long id);
+
+	@Modifying
+	@Query("update UserSession s set s.revoked = true where s.familyId = :familyId")
+	int revokeAllByFamilyId(@Param("familyId") String familyId);
+
+	@Modifying
+	@Query("update UserSession s set s.revoked = true where s.user.id = :userId and s.deviceId = :deviceId")
+	int revokeAllByUserIdAndDeviceId(@Param("userId") Long userId, @Param("deviceId") String deviceId);
+
+	@Modifying
+	@Query("update UserSession s set s.revoked = true where s.user.id = :userId")
+	int revokeAllByUserId(@Param("userId") Long userId);
+
+	@Query("select s.id from UserSession s where s.expireAt < :now")
+	List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -14,11 +14,13 @@ import com.modu.soccer.repository.TeamMemberRepository;
 import com.modu.soccer.repository.TeamRepository;
 import com.modu.soccer.repository.UserRepository;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -63,6 +65,7 @@ public class AttackPointService {
 		attackPointRepository.saveAll(entities);
 	}
 
+	@Transactional(readOnly = true)
 	public List<AttackPoint> getGoalsOfQuarter(Long matchId, Long quarterId) {
 		Quarter quarter = quarterRepository.findById(quarterId).orElseThrow(() -> {
 			throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "quarter");
@@ -75,6 +78,10 @@ public class AttackPointService {
 		return attackPointRepository.findAllGoalsOfQuarter(quarter);
 	}
 
+	public List<AttackPoint> getGoalsOfQuarters(Collection<Long> quarterIds) {
+		return attackPointRepository.findAllGoalsOfQuarterIdIn(quarterIds);
+	}
+
 	private User validateAndGetUserCondition(Team team, Long userId) {
 		User user = userRepository.findById(userId).orElseThrow(() -> {
 			throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "user");
@@ -1,28 +1,36 @@
 package com.modu.soccer.service;
 
+import com.modu.soccer.domain.UserSessionToken;
 import com.modu.soccer.domain.request.OauthLoginRequest;
 import com.modu.soccer.entity.User;
-import com.modu.soccer.enums.TokenType;
 import com.modu.soccer.exception.CustomException;
 import com.modu.soccer.exception.ErrorCode;
 import com.modu.soccer.jwt.JwtProvider;
+import com.modu.soccer.jwt.TokenRevocationList;
 import com.modu.soccer.repository.UserRepository;
+import com.modu.soccer.utils.SingleFlight;
 import com.modu.soccer.utils.UserContextUtil;
+import java.time.Duration;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuthService {
+	// a coalesced login waits at most this long for the one in flight, then answers LOGIN_BUSY
+	private static final Duration LOGIN_WAIT_TIMEOUT = Duration.ofSeconds(10);
 
 	private final JwtProvider jwtProvider;
 	private final UserRepository userRepository;
+	private final UserSessionService userSessionService;
+	private final TokenRevocationList tokenRevocationList;
+	private final SingleFlight<String, User> loginSingleFlight = new SingleFlight<>(LOGIN_WAIT_TIMEOUT,
+		() -> new CustomException(ErrorCode.LOGIN_BUSY));
 
 	public User registerUser(OauthLoginRequest oAuthLoginRequest) {
 		User user = User.builder()
@@ -40,35 +48,49 @@ public class AuthService {
 		}
 	}
 
-	@Transactional
-	public User oauthLogin(OauthLoginRequest oAuthLoginRequest) {
-		Optional<User> optionalUser = userRepository.findByEmail(oAuthLoginRequest.getEmail());
-		User user = optionalUser.orElseGet(() -> registerUser(oAuthLoginRequest));
-		user.setRefreshToken(jwtProvider.createTokenOfType(user, TokenType.AUTH_REFRESH_TOKEN));
-		return user;
+	/*
+	registration commits on its own before the result is shared,
+	so every coalesced caller gets a user row its session can reference.
+	* */
+	public UserSessionToken oauthLogin(OauthLoginRequest oAuthLoginRequest, String deviceId) {
+		User user = loginSingleFlight.execute(oAuthLoginRequest.getEmail(),
+			() -> findOrRegisterUser(oAuthLoginRequest));
+		String refreshToken = userSessionService.createSession(user, deviceId);
+		return new UserSessionToken(user, refreshToken);
 	}
 
-	@Transactional
-	public User refreshUserToken(String accessToken, String refreshToken) {
+	public UserSessionToken refreshUserToken(String accessToken, String refreshToken) {
 		Long accessTokenUserId = jwtProvider.getUserId(accessToken);
 		Long refreshTokenUserId = jwtProvider.getUserId(refreshToken);
 		if (!accessTokenUserId.equals(refreshTokenUserId)) {
 			throw new IllegalArgumentException("different user token");
 		}
-		User user = userRepository.findById(refreshTokenUserId).orElseThrow(() -> {
-			throw new CustomException(ErrorCode.USER_NOT_REGISTERED);
-		});
-
-		if (!user.getRefreshToken().equals(refreshToken) || jwtProvider.isTokenExpired(refreshToken)) {
+		if (jwtProvider.isTokenExpired(refreshToken)) {
 			throw new CustomException(ErrorCode.REFRESH_TOKEN_EXPIRED);
 		}
-		user.setRefreshToken(jwtProvider.createTokenOfType(user, TokenType.AUTH_REFRESH_TOKEN));
-		return user;
+		return userSessionService.rotate(refreshToken);
+	}
+
+	public void logoutCurrentUser(String deviceId) {
+		Long userId = UserContextUtil.getCurrentUserId();
+		userSessionService.revokeDeviceSessions(userId, deviceId);
+		UserContextUtil.getCurrentPrincipal().ifPresent(principal ->
+			tokenRevocationList.revoke(principal.getTokenId(), userId, principal.getTokenExpireAt()));
 	}
 
-	@Transactional
-	public void logoutCurrentUser() {
-		User currentUser = UserContextUtil.getCurrentUser();
-		currentUser.setRefreshToken(null);
+	private User findOrRegisterUser(OauthLoginRequest oAuthLoginRequest) {
+		Optional<User> optionalUser = userRepository.findByEmail(oAuthLoginRequest.getEmail());
+		if (optionalUser.isPresent()) {
+			return optionalUser.get();
+		}
+		try {
+			return registerUser(oAuthLoginRequest);
+		} catch (CustomException e) {
+			// another instance registered the same account first
+			if (e.getErrorCode() != ErrorCode.DUPLICATE_USER) {
+				throw e;
+			}
+			return userRepository.findByEmail(oAuthLoginRequest.getEmail()).orElseThrow(() -> e);
+		}
 	}
 }
@@ -5,6 +5,8 @@ import com.modu.soccer.domain.response.KakaoUserInfoResponse;
 import com.modu.soccer.domain.response.KakaoUserInfoResponse.KakaoAccount;
 import com.modu.soccer.exception.CustomException;
 import com.modu.soccer.exception.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 @Service
@@ -39,6 +42,7 @@ public class KakaoOauthService {
 	@Value("${oauth.kakao.redirect_uri}")
 	private String REDIRECT_URI;
 	private final RestTemplate restTemplate;
+	private final CircuitBreaker kakaoCircuitBreaker;
 
 	public String requestOauthToken(String code) {
 		String requestURI = AUTH_HOST + TOKEN_REQUEST_URL;
@@ -47,9 +51,9 @@ public class KakaoOauthService {
 		MultiValueMap<String, String> params = getTokenRequestParams(code);
 
 		try{
-			ResponseEntity<KakaoTokenResponse> responseEntity = restTemplate.exchange(requestURI,
-				HttpMethod.POST, new HttpEntity<>(params, headers),
-				KakaoTokenResponse.class);
+			ResponseEntity<KakaoTokenResponse> responseEntity = kakaoCircuitBreaker.executeSupplier(
+				() -> restTemplate.exchange(requestURI, HttpMethod.POST, new HttpEntity<>(params, headers),
+					KakaoTokenResponse.class));
 			if (responseEntity.getStatusCode() == HttpStatus.OK) {
 				KakaoTokenResponse body = responseEntity.getBody();
 				assert body != null;
@@ -61,6 +65,12 @@ public class KakaoOauthService {
 		} catch (HttpStatusCodeException e) {
 			log.error("Get kakao oauth token failed, response {}, {}", e.getStatusCode(), e.getResponseBodyAsString());
 			throw new CustomException(ErrorCode.KAKAO_AUTH_INTERNAL_ERROR);
+		} catch (ResourceAccessException e) {
+			log.error("Get kakao oauth token failed, {}", e.getMessage());
+			throw new CustomException(ErrorCode.KAKAO_AUTH_INTERNAL_ERROR);
+		} catch (CallNotPermittedException e) {
+			log.warn("Get kakao oauth token rejected, {}", e.getMessage());
+			throw new CustomException(ErrorCode.KAKAO_AUTH_UNAVAILABLE);
 		}
 
 	}
@@ -71,9 +81,9 @@ public class KakaoOauthService {
 		headers.setBearerAuth(accessToken);
 
 		try {
-			ResponseEntity<KakaoUserInfoResponse> responseEntity = restTemplate.exchange(requestURI,
-				HttpMethod.GET, new HttpEntity<>(headers),
-				KakaoUserInfoResponse.class);
+			ResponseEntity<KakaoUserInfoResponse> responseEntity = kakaoCircuitBreaker.executeSupplier(
+				() -> restTemplate.exchange(requestURI, HttpMethod.GET, new HttpEntity<>(headers),
+					KakaoUserInfoResponse.class));
 			if (responseEntity.getStatusCode() == HttpStatus.OK) {
 				validateResponse(responseEntity);
 				log.info(responseEntity.getBody().toString());
@@ -86,6 +96,12 @@ public class KakaoOauthService {
 		} catch (HttpStatusCodeException e) {
 			log.error("Get kakao user info failed, response {}, {}", e.getStatusCode(), e.getResponseBodyAsString());
 			throw new CustomException(ErrorCode.KAKAO_AUTH_INTERNAL_ERROR);
+		} catch (ResourceAccessException e) {
+			log.error("Get kakao user info failed, {}", e.getMessage());
+			throw new CustomException(ErrorCode.KAKAO_AUTH_INTERNAL_ERROR);
+		} catch (CallNotPermittedException e) {
+			log.warn("Get kakao user info rejected, {}", e.getMessage());
+			throw new CustomException(ErrorCode.KAKAO_AUTH_UNAVAILABLE);
 		}
 	}
 
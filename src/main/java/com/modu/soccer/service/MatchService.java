@@ -1,5 +1,9 @@
 package com.modu.soccer.service;
 
+import com.modu.soccer.domain.MatchDto;
+import com.modu.soccer.domain.MatchView;
+import com.modu.soccer.domain.TeamInfo;
+import com.modu.soccer.domain.TeamInfoView;
 import com.modu.soccer.domain.request.MatchEditRequest;
 import com.modu.soccer.domain.request.MatchRequest;
 import com.modu.soccer.entity.Match;
@@ -12,8 +16,12 @@ import com.modu.soccer.repository.MatchRepository;
 import com.modu.soccer.repository.TeamMemberRepository;
 import com.modu.soccer.repository.TeamRepository;
 import com.modu.soccer.utils.UserContextUtil;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,13 +38,25 @@ public class MatchService {
 	private final TeamMemberRepository memberRepository;
 
 	@Transactional(readOnly = true)
-	public List<Match> getMatches(Long teamId) {
-		Team team = teamRepository.findById(teamId).orElseThrow(() -> {
+	public List<MatchDto> getMatches(Long teamId) {
+		if (!teamRepository.existsById(teamId)) {
 			throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "team");
-		});
-		List<Match> matches1 = matchRepository.findAllByTeamA(team);
-		List<Match> matches2 = matchRepository.findAllByTeamB(team);
-		return Stream.concat(matches1.stream(), matches2.stream()).sorted().toList();
+		}
+		List<MatchView> matches = matchRepository.findViewsByTeamId(teamId);
+		if (matches.isEmpty()) {
+			return List.of();
+		}
+		Set<Long> teamIds = matches.stream()
+			.flatMap(match -> Stream.of(match.getTeamAId(), match.getTeamBId()))
+			.collect(Collectors.toSet());
+		Map<Long, TeamInfo> teams = teamRepository.findInfosByIdIn(teamIds).stream()
+			.collect(Collectors.toMap(TeamInfoView::getTeamId, TeamInfo::fromView));
+		return matches.stream().map(match -> MatchDto.of(match, teams)).toList();
+	}
+
+	@Transactional(readOnly = true)
+	public List<Match> getMatchesOfTeams(Collection<Long> teamIds) {
+		return matchRepository.findAllByTeamIdIn(teamIds).stream().sorted().toList();
 	}
 
 	@Transactional(readOnly = true)
@@ -20,6 +20,7 @@ import com.modu.soccer.repository.TeamMemberRepository;
 import com.modu.soccer.repository.TeamRepository;
 import com.modu.soccer.utils.UserContextUtil;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -66,6 +67,11 @@ public class QuarterService {
 		return quarterRepository.findByMatch(match);
 	}
 
+	@Transactional(readOnly = true)
+	public List<Quarter> getQuartersOfMatches(Collection<Long> matchIds) {
+		return quarterRepository.findAllByMatch_IdIn(matchIds).stream().sorted().toList();
+	}
+
 	@Transactional(readOnly = true)
 	public Quarter getQuarterInfoOfMatch(Match match, Long quarterId) {
 		return quarterRepository.findByIdAndMatch(quarterId, match).orElseThrow(() -> {
@@ -92,6 +98,11 @@ public class QuarterService {
 		return participationRepository.findAllByQuarter(quarter);
 	}
 
+	@Transactional(readOnly = true)
+	public List<QuarterParticipation> getParticipationsOfQuarters(Collection<Long> quarterIds) {
+		return participationRepository.findAllByQuarter_IdIn(quarterIds);
+	}
+
 	@Transactional
 	public void editQuarterFormationOfTeam(Long quarterId, FormationEditRequest request) {
 		Quarter quarter = quarterRepository.findByIdWithMatch(quarterId).orElseThrow(() -> {
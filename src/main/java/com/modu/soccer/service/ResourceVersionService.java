@@ -0,0 +1,63 @@
+package com.modu.soccer.service;
+
+import com.modu.soccer.domain.ResourceVersion;
+import com.modu.soccer.enums.StatisticsType;
+import com.modu.soccer.repository.AttackPointRepository;
+import com.modu.soccer.repository.MatchRepository;
+import com.modu.soccer.repository.QuarterRepository;
+import com.modu.soccer.repository.TeamRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+etags of read endpoints, computed from one aggregate query over updated_at instead of the entity graph.
+updated_at is kept in microseconds, datetime(6) columns written with the jvm clock or now(6), see
+db/updated_at_precision.sql. at second precision two writes within the same second that keep the row count
+would share a version and answer 304 with a stale body. each probe covers every table its response is built from.
+* */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+	private final TeamRepository teamRepository;
+	private final MatchRepository matchRepository;
+	private final QuarterRepository quarterRepository;
+	private final AttackPointRepository attackPointRepository;
+
+	@Transactional(readOnly = true)
+	public Optional<String> getTeamETag(Long teamId) {
+		return toETag(teamRepository.findVersionById(teamId), "team", teamId);
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<String> getTeamMatchesETag(Long teamId) {
+		return toETag(matchRepository.findVersionByTeamId(teamId), "matches", teamId);
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<String> getQuarterETag(Long matchId, Long quarterId) {
+		return toETag(quarterRepository.findVersionByIdAndMatchId(quarterId, matchId), "quarter", matchId,
+			quarterId);
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<String> getTeamStatisticsETag(Long teamId, StatisticsType type, Pageable pageable) {
+		return toETag(attackPointRepository.findStatisticsVersionByTeamId(teamId), "statistics", teamId, type,
+			pageable.getPageNumber(), pageable.getPageSize());
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<String> getTeamDuoStatisticsETag(Long teamId, Pageable pageable) {
+		return toETag(attackPointRepository.findStatisticsVersionByTeamId(teamId), "statistics_duo", teamId,
+			pageable.getPageNumber(), pageable.getPageSize());
+	}
+
+	private Optional<String> toETag(ResourceVersion version, Object... discriminators) {
+		if (version == null || !version.exists()) {
+			return Optional.empty();
+		}
+		return Optional.of(version.toETag(discriminators));
+	}
+}
@@ -6,6 +6,9 @@ import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.modu.soccer.exception.CustomException;
 import com.modu.soccer.exception.ErrorCode;
+import com.modu.soccer.tracing.Span;
+import com.modu.soccer.tracing.SpanKind;
+import com.modu.soccer.tracing.Tracer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLDecoder;
@@ -43,7 +46,9 @@ public class S3UploadService {
 		ObjectMetadata objectMetadata = new ObjectMetadata();
 		objectMetadata.setContentType(multipartFile.getContentType());
 
-		try (InputStream inputStream = multipartFile.getInputStream()) {
+		try (InputStream inputStream = multipartFile.getInputStream();
+			 Span span = Tracer.startSpan("S3 PutObject", SpanKind.CLIENT)) {
+			span.tag("s3.bucket", bucketName);
 			s3Client
 				.putObject(new PutObjectRequest(bucketName, fileName, inputStream, objectMetadata)
 					.withCannedAcl(CannedAccessControlList.PublicRead));
@@ -56,7 +61,8 @@ public class S3UploadService {
 
 	public void deleteFile(String fileFullPath) {
 		String path = trimAndGetFileKey(fileFullPath);
-		try {
+		try (Span span = Tracer.startSpan("S3 DeleteObject", SpanKind.CLIENT)) {
+			span.tag("s3.bucket", bucketName);
 			s3Client.deleteObject(bucketName, path);
 		} catch (Exception e) {
 			log.error("delete s3 failed, error: {} file: {}", e.getMessage(), fileFullPath);
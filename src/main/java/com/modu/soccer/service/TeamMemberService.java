@@ -1,6 +1,7 @@
 package com.modu.soccer.service;
 
 import com.modu.soccer.domain.TeamMemberDetail;
+import com.modu.soccer.domain.TeamMemberInfo;
 import com.modu.soccer.domain.request.TeamJoinApproveRequest;
 import com.modu.soccer.domain.request.TeamJoinRequest;
 import com.modu.soccer.domain.request.TeamMemberPutRequest;
@@ -42,14 +43,13 @@ public class TeamMemberService {
 	private final QuarterParticipationRepository participationRepository;
 
 	@Transactional(readOnly = true)
-	public List<TeamMember> getTeamMembers(Long teamId, AcceptStatus status) {
+	public List<TeamMemberInfo> getTeamMembers(Long teamId, AcceptStatus status) {
 		Team team = teamRepository.findById(teamId).orElseThrow(() -> {
 			throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "team");
 		});
 
-		User user = UserContextUtil.getCurrentUser();
-		if (status == AcceptStatus.ACCEPTED || canMemberManage(team, user)) {
-			return memberRepository.findAllByTeamAndAcceptStatus(team, status);
+		if (status == AcceptStatus.ACCEPTED || canMemberManage(team, UserContextUtil.getCurrentUser())) {
+			return memberRepository.findInfosByTeamIdAndAcceptStatus(team.getId(), status);
 		}
 		throw new CustomException(ErrorCode.NO_PERMISSION_ON_TEAM);
 	}
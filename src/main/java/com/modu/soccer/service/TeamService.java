@@ -1,5 +1,6 @@
 package com.modu.soccer.service;
 
+import com.modu.soccer.domain.TeamInfo;
 import com.modu.soccer.domain.request.TeamEditRequest;
 import com.modu.soccer.domain.request.TeamRequest;
 import com.modu.soccer.entity.Team;
@@ -17,6 +18,7 @@ import com.modu.soccer.repository.TeamRepository;
 import com.modu.soccer.repository.UserRepository;
 import com.modu.soccer.utils.GeoUtil;
 import com.modu.soccer.utils.UserContextUtil;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -87,11 +89,22 @@ public class TeamService {
 		return prevUrl;
 	}
 
+	@Transactional(readOnly = true)
+	public List<Team> getTeamsWithRecordByIds(Collection<Long> teamIds) {
+		return teamRepository.findAllWithRecordByIdIn(teamIds);
+	}
+
 	public List<Team> getTeamsOfUser(User user) {
 		return teamMemberRepository.findAllByUserAndAcceptStatus(user, AcceptStatus.ACCEPTED)
 			.stream().map(TeamMember::getTeam).toList();
 	}
 
+	@Transactional(readOnly = true)
+	public List<TeamInfo> getTeamInfosOfUser(User user) {
+		return teamRepository.findInfosByMemberUserIdAndAcceptStatus(user.getId(), AcceptStatus.ACCEPTED)
+			.stream().map(TeamInfo::fromView).toList();
+	}
+
 	private boolean HasCurrentUserPermissionOnTeam(Team team) {
 		User currentUser = UserContextUtil.getCurrentUser();
 		TeamMember member = teamMemberRepository.findByTeamAndUser(team, currentUser)
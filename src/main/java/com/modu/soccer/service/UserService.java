@@ -4,7 +4,10 @@ import com.modu.soccer.domain.request.UserInfoRequest;
 import com.modu.soccer.entity.User;
 import com.modu.soccer.exception.CustomException;
 import com.modu.soccer.exception.ErrorCode;
+import com.modu.soccer.jwt.PrincipalCache;
 import com.modu.soccer.repository.UserRepository;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserService {
 	private final UserRepository userRepository;
+	private final PrincipalCache principalCache;
 
 	@Transactional(readOnly = true)
 	public User getUser(Long userId) {
@@ -23,15 +27,31 @@ public class UserService {
 		});
 	}
 
+	@Transactional(readOnly = true)
+	public List<User> getUsersByIds(Collection<Long> userIds) {
+		return userRepository.findAllById(userIds);
+	}
+
 	@Transactional
 	public void editUserInfo(User user, UserInfoRequest request) {
-		user.setName(request.getName());
-		user.setIsPro(request.getIsPro());
-		user.setAge(request.getAge());
+		User managedUser = getManagedUser(user);
+		managedUser.setName(request.getName());
+		managedUser.setIsPro(request.getIsPro());
+		managedUser.setAge(request.getAge());
+		principalCache.invalidateAfterCommit(managedUser.getId());
 	}
 
 	@Transactional
 	public void editUserProfile(User user, String profileUrl) {
-		user.setProfileURL(profileUrl);
+		User managedUser = getManagedUser(user);
+		managedUser.setProfileURL(profileUrl);
+		principalCache.invalidateAfterCommit(managedUser.getId());
+	}
+
+	// current user may come from PrincipalCache detached, so writes always go to a freshly loaded entity
+	private User getManagedUser(User user) {
+		return userRepository.findById(user.getId()).orElseThrow(() -> {
+			throw new CustomException(ErrorCode.USER_NOT_REGISTERED);
+		});
 	}
 }
@@ -0,0 +1,115 @@
+package com.modu.soccer.service;
+
+import com.modu.soccer.domain.UserSessionToken;
+import com.modu.soccer.entity.User;
+import com.modu.soccer.entity.UserSession;
+import com.modu.soccer.enums.TokenType;
+import com.modu.soccer.exception.CustomException;
+import com.modu.soccer.exception.ErrorCode;
+import com.modu.soccer.jwt.JwtProvider;
+import com.modu.soccer.repository.UserSessionRepository;
+import com.modu.soccer.utils.HashUtil;
+import com.modu.soccer.utils.LocalDateTimeUtil;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSessionService {
+	private final UserSessionRepository userSessionRepository;
+	private final JwtProvider jwtProvider;
+
+	@Transactional
+	public String createSession(User user, String deviceId) {
+		return issueToken(user, UUID.randomUUID().toString(), deviceId);
+	}
+
+	/*
+	rotates the refresh token inside its family.
+	presenting an already rotated token means it leaked, so the whole family is revoked.
+	the session is claimed with a conditional update, so of two concurrent rotations of the same token
+	only one gets a new token and the other is treated as reuse.
+	* */
+	@Transactional(noRollbackFor = CustomException.class)
+	public UserSessionToken rotate(String refreshToken) {
+		UserSession session = userSessionRepository.findByTokenHash(HashUtil.sha256(refreshToken))
+			.orElseThrow(() -> {
+				throw new CustomException(ErrorCode.REFRESH_TOKEN_EXPIRED);
+			});
+
+		if (session.getRevoked()) {
+			throw revokeReusedFamily(session);
+		}
+		if (session.isExpired(LocalDateTimeUtil.now())) {
+			throw new CustomException(ErrorCode.REFRESH_TOKEN_EXPIRED);
+		}
+		if (userSessionRepository.revokeIfActive(session.getId()) == 0) {
+			throw revokeReusedFamily(session);
+		}
+
+		User user = session.getUser();
+		String newToken = issueToken(user, session.getFamilyId(), session.getDeviceId());
+		return new UserSessionToken(user, newToken);
+	}
+
+	@Transactional(readOnly = true)
+	public List<UserSession> getActiveSessions(Long userId) {
+		return userSessionRepository.findAllByUserIdAndRevokedFalseAndExpireAtAfter(userId,
+			LocalDateTimeUtil.now());
+	}
+
+	@Transactional
+	public void revokeSession(Long userId, Long sessionId) {
+		UserSession session = userSessionRepository.findById(sessionId).orElseThrow(() -> {
+			throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "session");
+		});
+		if (!session.getUser().getId().equals(userId)) {
+			throw new CustomException(ErrorCode.FORBIDDEN);
+		}
+		userSessionRepository.revokeAllByFamilyId(session.getFamilyId());
+	}
+
+	@Transactional
+	public void revokeDeviceSessions(Long userId, String deviceId) {
+		if (deviceId == null) {
+			userSessionRepository.revokeAllByUserId(userId);
+			return;
+		}
+		userSessionRepository.revokeAllByUserIdAndDeviceId(userId, deviceId);
+	}
+
+	@Transactional
+	public int purgeExpiredSessions(int batchSize) {
+		List<Long> expiredIds = userSessionRepository.findExpiredIds(LocalDateTimeUtil.now(),
+			PageRequest.of(0, batchSize));
+		if (!expiredIds.isEmpty()) {
+			userSessionRepository.deleteAllByIdInBatch(expiredIds);
+		}
+		return expiredIds.size();
+	}
+
+	private CustomException revokeReusedFamily(UserSession session) {
+		log.warn("refresh token reused. user: {}, family: {}", session.getUser().getId(), session.getFamilyId());
+		userSessionRepository.revokeAllByFamilyId(session.getFamilyId());
+		return new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+	}
+
+	private String issueToken(User user, String familyId, String deviceId) {
+		String token = jwtProvider.createTokenOfType(user, TokenType.AUTH_REFRESH_TOKEN);
+		UserSession session = UserSession.builder()
+			.user(user)
+			.tokenHash(HashUtil.sha256(token))
+			.familyId(familyId)
+			.deviceId(deviceId)
+			.expireAt(jwtProvider.getExpiration(token))
+			.build();
+		userSessionRepository.save(session);
+		return token;
+	}
+}
@@ -0,0 +1,32 @@
+package com.modu.soccer.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSessionSweeper {
+	private final UserSessionService userSessionService;
+
+	@Value("${auth.session.sweep_batch_size:500}")
+	private Integer sweepBatchSize;
+
+	// each batch runs in its own transaction, so a large backlog never holds one long lock
+	@Scheduled(fixedDelayString = "${auth.session.sweep_delay_millis:600000}")
+	public void sweepExpiredSessions() {
+		int total = 0;
+		int deleted;
+		do {
+			deleted = userSessionService.purgeExpiredSessions(sweepBatchSize);
+			total += deleted;
+		} while (deleted == sweepBatchSize);
+
+		if (total > 0) {
+			log.info("purged {} expired user sessions", total);
+		}
+	}
+}
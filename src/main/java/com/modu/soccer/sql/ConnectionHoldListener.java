@@ -0,0 +1,58 @@
+package com.modu.soccer.sql;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+/*
+measures how long each connection is held, from getConnection until close, into the current request's SqlStatistics.
+a connection still held after its statements ran, e.g. by a lazy load outside the service transaction, shows up as
+hold time well beyond the request's statement time.
+* */
+public class ConnectionHoldListener implements MethodExecutionListener {
+	// keyed by the physical connection, close is reported on it rather than on the proxy handed out
+	private final Map<Object, Long> acquiredNanos = new ConcurrentHashMap<>();
+	private final LongAdder holdCount = new LongAdder();
+	private final LongAdder holdNanos = new LongAdder();
+
+	@Override
+	public void beforeMethod(MethodExecutionContext executionContext) {
+	}
+
+	@Override
+	public void afterMethod(MethodExecutionContext executionContext) {
+		Object target = executionContext.getTarget();
+		String methodName = executionContext.getMethod().getName();
+		if (target instanceof DataSource && "getConnection".equals(methodName)
+			&& executionContext.getResult() instanceof ProxyJdbcObject connection) {
+			acquiredNanos.put(connection.getTarget(), System.nanoTime());
+		} else if (target instanceof Connection && "close".equals(methodName)) {
+			Long start = acquiredNanos.remove(target);
+			if (start == null) {
+				return;
+			}
+			long nanos = System.nanoTime() - start;
+			holdCount.increment();
+			holdNanos.add(nanos);
+			SqlStatisticsHolder.current().ifPresent(statistics -> statistics.recordConnectionHold(nanos));
+		}
+	}
+
+	public long getHoldCount() {
+		return holdCount.sum();
+	}
+
+	public double getHoldMillis() {
+		return holdNanos.sum() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	public int getOpenConnectionCount() {
+		return acquiredNanos.size();
+	}
+}
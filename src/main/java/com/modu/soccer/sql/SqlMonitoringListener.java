@@ -0,0 +1,104 @@
+package com.modu.soccer.sql;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/*
+counts every jdbc execution and its time into the current request's SqlStatistics.
+statements over the threshold are logged with the shape of their bound parameters,
+i.e. types and string lengths, never the values themselves.
+* */
+@Slf4j
+public class SqlMonitoringListener implements QueryExecutionListener {
+	private static final int MAX_QUERY_LENGTH = 1000;
+
+	// jdbc calls are synchronous, so the start of the statement in flight is per thread
+	private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+	private final long slowThresholdNanos;
+	private final LongAdder statementCount = new LongAdder();
+	private final LongAdder slowStatementCount = new LongAdder();
+
+	public SqlMonitoringListener(long slowThresholdMillis) {
+		this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		startNanos.set(System.nanoTime());
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		Long start = startNanos.get();
+		startNanos.remove();
+		if (start == null) {
+			return;
+		}
+		long elapsedNanos = System.nanoTime() - start;
+		boolean slow = elapsedNanos >= slowThresholdNanos;
+
+		statementCount.increment();
+		SqlStatisticsHolder.current().ifPresent(statistics -> statistics.record(elapsedNanos, slow));
+		if (slow) {
+			slowStatementCount.increment();
+			log.warn("[SLOW SQL] {}ms batch={} success={} sql={} params={}",
+				TimeUnit.NANOSECONDS.toMillis(elapsedNanos), execInfo.getBatchSize(), execInfo.isSuccess(),
+				queryOf(queryInfoList), parameterShapesOf(queryInfoList));
+		}
+	}
+
+	public long getStatementCount() {
+		return statementCount.sum();
+	}
+
+	public long getSlowStatementCount() {
+		return slowStatementCount.sum();
+	}
+
+	private String queryOf(List<QueryInfo> queryInfoList) {
+		String query = queryInfoList.stream()
+			.map(QueryInfo::getQuery)
+			.distinct()
+			.collect(Collectors.joining("; "));
+		if (query.length() > MAX_QUERY_LENGTH) {
+			return query.substring(0, MAX_QUERY_LENGTH) + "...";
+		}
+		return query;
+	}
+
+	// only the first parameter set of a batch, the rest share its shape
+	static String parameterShapesOf(List<QueryInfo> queryInfoList) {
+		return queryInfoList.stream()
+			.filter(queryInfo -> !queryInfo.getParametersList().isEmpty())
+			.map(queryInfo -> parameterShapeOf(queryInfo.getParametersList().get(0)))
+			.collect(Collectors.joining("; "));
+	}
+
+	static String parameterShapeOf(List<ParameterSetOperation> operations) {
+		return operations.stream()
+			.map(SqlMonitoringListener::shapeOf)
+			.collect(Collectors.joining(", ", "[", "]"));
+	}
+
+	private static String shapeOf(ParameterSetOperation operation) {
+		Object[] args = operation.getArgs();
+		if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+			return "null";
+		}
+		Object value = args[1];
+		if (value instanceof CharSequence text) {
+			return "String(" + text.length() + ")";
+		}
+		if (value instanceof byte[] bytes) {
+			return "byte[" + bytes.length + "]";
+		}
+		return value.getClass().getSimpleName();
+	}
+}
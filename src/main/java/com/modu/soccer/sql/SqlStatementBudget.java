@@ -0,0 +1,37 @@
+package com.modu.soccer.sql;
+
+import com.modu.soccer.config.SqlMonitorProperties;
+import com.modu.soccer.config.SqlMonitorProperties.RouteBudget;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.util.AntPathMatcher;
+
+public class SqlStatementBudget {
+	private final SqlMonitorProperties properties;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	private final LongAdder exceededCount = new LongAdder();
+
+	public SqlStatementBudget(SqlMonitorProperties properties) {
+		this.properties = properties;
+	}
+
+	public int getBudget(String requestURI) {
+		for (RouteBudget route : properties.getRoutes()) {
+			if (pathMatcher.match(route.getPattern(), requestURI)) {
+				return route.getStatementBudget();
+			}
+		}
+		return properties.getStatementBudget();
+	}
+
+	public boolean isExceeded(String requestURI, int statementCount) {
+		if (statementCount <= getBudget(requestURI)) {
+			return false;
+		}
+		exceededCount.increment();
+		return true;
+	}
+
+	public long getExceededCount() {
+		return exceededCount.sum();
+	}
+}
@@ -0,0 +1,50 @@
+package com.modu.soccer.sql;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statements executed on behalf of one request, and how long it held connections to run them.
+ * Counters are atomic because async handlers keep recording into the same instance from another thread.
+ */
+public class SqlStatistics {
+	private final AtomicInteger statementCount = new AtomicInteger();
+	private final AtomicInteger slowStatementCount = new AtomicInteger();
+	private final AtomicLong elapsedNanos = new AtomicLong();
+	private final AtomicInteger connectionCount = new AtomicInteger();
+	private final AtomicLong connectionHoldNanos = new AtomicLong();
+
+	public void record(long nanos, boolean slow) {
+		statementCount.incrementAndGet();
+		elapsedNanos.addAndGet(nanos);
+		if (slow) {
+			slowStatementCount.incrementAndGet();
+		}
+	}
+
+	public void recordConnectionHold(long nanos) {
+		connectionCount.incrementAndGet();
+		connectionHoldNanos.addAndGet(nanos);
+	}
+
+	public int getStatementCount() {
+		return statementCount.get();
+	}
+
+	public int getSlowStatementCount() {
+		return slowStatementCount.get();
+	}
+
+	public long getElapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(elapsedNanos.get());
+	}
+
+	public int getConnectionCount() {
+		return connectionCount.get();
+	}
+
+	public long getConnectionHoldMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(connectionHoldNanos.get());
+	}
+}
@@ -0,0 +1,32 @@
+package com.modu.soccer.sql;
+
+import java.util.Optional;
+
+/**
+ * Thread bound statistics of the current request, in the manner of Tracer.
+ * Statements run outside of a request, e.g. by schedulers, are not recorded anywhere.
+ */
+public final class SqlStatisticsHolder {
+	private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+	private SqlStatisticsHolder() {
+	}
+
+	public static SqlStatistics start() {
+		SqlStatistics statistics = new SqlStatistics();
+		CURRENT.set(statistics);
+		return statistics;
+	}
+
+	public static Optional<SqlStatistics> current() {
+		return Optional.ofNullable(CURRENT.get());
+	}
+
+	public static void bind(SqlStatistics statistics) {
+		CURRENT.set(statistics);
+	}
+
+	public static void clear() {
+		CURRENT.remove();
+	}
+}
@@ -0,0 +1,88 @@
+package com.modu.soccer.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * One timed operation of a trace. Closing the span ends it and makes its parent current again.
+ * Tags are only written by the thread that opened the span, children may be added from forked contexts.
+ */
+@Getter
+public class Span implements AutoCloseable {
+	static final Span NOOP = new Span(null, null, null, null, "noop", SpanKind.INTERNAL);
+
+	private final Trace trace;
+	@Getter(AccessLevel.NONE)
+	private final TraceContext context;
+	private final String spanId;
+	private final Span parent;
+	private final String name;
+	private final SpanKind kind;
+	private final long startEpochMicros;
+	private final long startNanos;
+	private final Map<String, String> tags = new LinkedHashMap<>();
+	private final List<Span> children = new CopyOnWriteArrayList<>();
+	private volatile long durationNanos = -1;
+
+	Span(Trace trace, TraceContext context, String spanId, Span parent, String name, SpanKind kind) {
+		this.trace = trace;
+		this.context = context;
+		this.spanId = spanId;
+		this.parent = parent;
+		this.name = name;
+		this.kind = kind;
+		this.startEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+		this.startNanos = System.nanoTime();
+	}
+
+	public Span tag(String key, String value) {
+		if (trace != null && value != null) {
+			tags.put(key, value);
+		}
+		return this;
+	}
+
+	public Span error(Throwable throwable) {
+		return tag("error", throwable.getClass().getSimpleName());
+	}
+
+	public boolean isFinished() {
+		return durationNanos >= 0;
+	}
+
+	public long getDurationMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+	}
+
+	// time not covered by child spans, e.g. lazy loading or DTO mapping inside a controller
+	public long getSelfNanos() {
+		long childNanos = 0;
+		for (Span child : children) {
+			childNanos += Math.max(child.durationNanos, 0);
+		}
+		return Math.max(durationNanos - childNanos, 0);
+	}
+
+	public List<Span> getChildren() {
+		return Collections.unmodifiableList(children);
+	}
+
+	@Override
+	public void close() {
+		if (trace == null || isFinished()) {
+			return;
+		}
+		durationNanos = System.nanoTime() - startNanos;
+		context.end(this);
+	}
+
+	void addChild(Span child) {
+		children.add(child);
+	}
+}
@@ -0,0 +1,8 @@
+package com.modu.soccer.tracing;
+
+public enum SpanKind {
+	SERVER,
+	CLIENT,
+	INTERNAL,
+	;
+}
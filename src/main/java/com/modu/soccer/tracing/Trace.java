@@ -0,0 +1,92 @@
+package com.modu.soccer.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * Span tree of one request. Spans may be recorded from several threads, the request thread and the async tasks
+ * it submitted, each through its own TraceContext.
+ * Spans beyond maxSpans are not recorded, only counted.
+ */
+public class Trace {
+	@Getter
+	private final String traceId;
+	@Getter
+	private final Span root;
+	@Getter
+	private final TraceContext rootContext;
+	private final int maxSpans;
+	private final List<Span> spans = new ArrayList<>();
+	private final AtomicInteger droppedSpans = new AtomicInteger();
+
+	Trace(String name, SpanKind kind, int maxSpans) {
+		this.traceId = newId() + newId();
+		this.maxSpans = maxSpans;
+		this.rootContext = new TraceContext(this, null);
+		this.root = new Span(this, rootContext, newId(), null, name, kind);
+		spans.add(root);
+		rootContext.push(root);
+	}
+
+	Span newSpan(TraceContext context, Span parent, String name, SpanKind kind) {
+		Span span;
+		synchronized (spans) {
+			if (spans.size() >= maxSpans) {
+				droppedSpans.incrementAndGet();
+				return Span.NOOP;
+			}
+			span = new Span(this, context, newId(), parent, name, kind);
+			spans.add(span);
+		}
+		if (parent != null) {
+			parent.addChild(span);
+		}
+		return span;
+	}
+
+	public int getDroppedSpans() {
+		return droppedSpans.get();
+	}
+
+	// a copy, async tasks may still be adding spans
+	public List<Span> getSpans() {
+		synchronized (spans) {
+			return List.copyOf(spans);
+		}
+	}
+
+	public String dump() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("[TRACE] ").append(traceId).append(' ').append(root.getName())
+			.append(' ').append(root.getDurationMillis()).append("ms");
+		if (getDroppedSpans() > 0) {
+			builder.append(" (").append(getDroppedSpans()).append(" spans dropped)");
+		}
+		for (Span child : root.getChildren()) {
+			dump(builder, child, 1);
+		}
+		return builder.toString();
+	}
+
+	private void dump(StringBuilder builder, Span span, int depth) {
+		builder.append('\n').append("  ".repeat(depth))
+			.append(span.getDurationMillis()).append("ms ")
+			.append(span.getName());
+		if (!span.getChildren().isEmpty()) {
+			builder.append(" (self ").append(span.getSelfNanos() / 1_000_000).append("ms)");
+		}
+		if (!span.getTags().isEmpty()) {
+			builder.append(' ').append(span.getTags());
+		}
+		for (Span child : span.getChildren()) {
+			dump(builder, child, depth + 1);
+		}
+	}
+
+	private static String newId() {
+		return String.format("%016x", ThreadLocalRandom.current().nextLong());
+	}
+}
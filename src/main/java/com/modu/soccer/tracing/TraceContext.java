@@ -0,0 +1,55 @@
+package com.modu.soccer.tracing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import lombok.Getter;
+
+/**
+ * Open spans of one thread within a trace. A span is opened, tagged and closed on the thread of its context.
+ * Async work runs in a forked context, whose spans hang under the span that was current when the task was
+ * submitted, so closing spans on one thread never closes the spans another thread still has open.
+ */
+public class TraceContext {
+	@Getter
+	private final Trace trace;
+	private final Span forkedFrom;
+	private final Deque<Span> open = new ArrayDeque<>();
+
+	TraceContext(Trace trace, Span forkedFrom) {
+		this.trace = trace;
+		this.forkedFrom = forkedFrom;
+	}
+
+	// call on the submitting thread, the current span there becomes the parent of the task's spans
+	public TraceContext fork() {
+		return new TraceContext(trace, current());
+	}
+
+	Span startSpan(String name, SpanKind kind) {
+		Span span = trace.newSpan(this, current(), name, kind);
+		if (span != Span.NOOP) {
+			open.push(span);
+		}
+		return span;
+	}
+
+	void push(Span span) {
+		open.push(span);
+	}
+
+	void end(Span span) {
+		// spans closed out of order also close the ones left open above them
+		while (!open.isEmpty()) {
+			Span top = open.pop();
+			if (top == span) {
+				return;
+			}
+			top.close();
+		}
+	}
+
+	private Span current() {
+		Span top = open.peek();
+		return top != null ? top : forkedFrom;
+	}
+}
@@ -0,0 +1,53 @@
+package com.modu.soccer.tracing;
+
+import java.util.Optional;
+
+/**
+ * Thread bound entry point for tracing, in the manner of UserContextUtil.
+ * Without a current trace every call is a no-op, so instrumented code can always call it.
+ */
+public final class Tracer {
+	private static final ThreadLocal<TraceContext> CURRENT_CONTEXT = new ThreadLocal<>();
+
+	private Tracer() {
+	}
+
+	public static Trace startTrace(String name, int maxSpans) {
+		Trace trace = new Trace(name, SpanKind.SERVER, maxSpans);
+		CURRENT_CONTEXT.set(trace.getRootContext());
+		return trace;
+	}
+
+	public static Span startSpan(String name, SpanKind kind) {
+		TraceContext context = CURRENT_CONTEXT.get();
+		if (context == null) {
+			return Span.NOOP;
+		}
+		return context.startSpan(name, kind);
+	}
+
+	public static boolean isActive() {
+		return CURRENT_CONTEXT.get() != null;
+	}
+
+	public static Optional<Trace> currentTrace() {
+		return Optional.ofNullable(CURRENT_CONTEXT.get()).map(TraceContext::getTrace);
+	}
+
+	// child context for a task handed to another thread, bind it there instead of sharing this thread's context
+	public static Optional<TraceContext> fork() {
+		return Optional.ofNullable(CURRENT_CONTEXT.get()).map(TraceContext::fork);
+	}
+
+	public static void bind(Trace trace) {
+		CURRENT_CONTEXT.set(trace.getRootContext());
+	}
+
+	public static void bind(TraceContext context) {
+		CURRENT_CONTEXT.set(context);
+	}
+
+	public static void clear() {
+		CURRENT_CONTEXT.remove();
+	}
+}
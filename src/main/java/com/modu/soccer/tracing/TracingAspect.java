@@ -0,0 +1,48 @@
+package com.modu.soccer.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+
+/**
+ * Opens a span around every controller, service and Spring Data repository call of a traced request.
+ */
+@Aspect
+public class TracingAspect {
+
+	@Around("within(@org.springframework.web.bind.annotation.RestController *) "
+		+ "|| within(@org.springframework.stereotype.Controller *)")
+	public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+		return trace(joinPoint, joinPoint.getSignature().getDeclaringType().getSimpleName(), "controller");
+	}
+
+	@Around("within(@org.springframework.stereotype.Service *)")
+	public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+		return trace(joinPoint, joinPoint.getSignature().getDeclaringType().getSimpleName(), "service");
+	}
+
+	// inherited methods such as findById are declared on CrudRepository, so the proxied interface names the span
+	@Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+	public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+		String owner = interfaces.length > 0
+			? interfaces[0].getSimpleName() : joinPoint.getSignature().getDeclaringType().getSimpleName();
+		return trace(joinPoint, owner, "repository");
+	}
+
+	private Object trace(ProceedingJoinPoint joinPoint, String owner, String layer) throws Throwable {
+		if (!Tracer.isActive()) {
+			return joinPoint.proceed();
+		}
+		try (Span span = Tracer.startSpan(owner + "." + joinPoint.getSignature().getName(), SpanKind.INTERNAL)) {
+			span.tag("layer", layer);
+			try {
+				return joinPoint.proceed();
+			} catch (Throwable e) {
+				span.error(e);
+				throw e;
+			}
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.modu.soccer.tracing;
+
+import com.modu.soccer.filter.RouteLatencyTracker;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/*
+starts the request's trace and finishes it once the response is complete.
+slow requests, judged by the route's own latency baseline, get their span tree logged and are always exported,
+other traces are exported at the configured sample rate.
+* */
+@Slf4j
+public class TracingFilter extends OncePerRequestFilter {
+	public static final String TRACE_ID_MDC_KEY = "traceId";
+	private static final String TRACE_ATTRIBUTE = TracingFilter.class.getName() + ".TRACE";
+
+	private final RouteLatencyTracker routeLatencyTracker;
+	private final ZipkinSpanExporter exporter;
+	private final int maxSpans;
+	private final double exportSampleRate;
+
+	public TracingFilter(RouteLatencyTracker routeLatencyTracker, ZipkinSpanExporter exporter, int maxSpans,
+		double exportSampleRate) {
+		this.routeLatencyTracker = routeLatencyTracker;
+		this.exporter = exporter;
+		this.maxSpans = maxSpans;
+		this.exportSampleRate = exportSampleRate;
+	}
+
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		Trace trace = (Trace) request.getAttribute(TRACE_ATTRIBUTE);
+		if (trace == null) {
+			trace = Tracer.startTrace(request.getMethod() + " " + request.getRequestURI(), maxSpans);
+			request.setAttribute(TRACE_ATTRIBUTE, trace);
+		} else {
+			Tracer.bind(trace);
+		}
+		MDC.put(TRACE_ID_MDC_KEY, trace.getTraceId());
+
+		Span root = trace.getRoot();
+		try {
+			filterChain.doFilter(request, response);
+		} catch (IOException | ServletException | RuntimeException e) {
+			root.error(e);
+			throw e;
+		} finally {
+			Tracer.clear();
+			if (!isAsyncStarted(request)) {
+				finish(request, response, trace);
+			}
+		}
+	}
+
+	private void finish(HttpServletRequest request, HttpServletResponse response, Trace trace) {
+		Span root = trace.getRoot();
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String route = pattern != null ? pattern.toString() : RouteLatencyTracker.UNKNOWN_ROUTE;
+		root.tag("http.route", route);
+		root.tag("http.status_code", String.valueOf(response.getStatus()));
+		root.close();
+
+		boolean slow = root.getDurationMillis() >= routeLatencyTracker.getSlowThresholdMillis(
+			request.getMethod(), route);
+		if (slow) {
+			log.warn(trace.dump());
+		}
+		if (exporter != null && (slow || ThreadLocalRandom.current().nextDouble() < exportSampleRate)) {
+			exporter.export(trace);
+		}
+	}
+}
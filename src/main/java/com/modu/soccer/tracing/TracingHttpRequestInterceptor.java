@@ -0,0 +1,36 @@
+package com.modu.soccer.tracing;
+
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Client span around outbound RestTemplate calls. The query string is left out, it may carry tokens.
+ */
+public class TracingHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+		throws IOException {
+		if (!Tracer.isActive()) {
+			return execution.execute(request, body);
+		}
+		String host = request.getURI().getHost();
+		String path = request.getURI().getPath();
+		try (Span span = Tracer.startSpan("HTTP " + request.getMethodValue() + " " + host + path, SpanKind.CLIENT)) {
+			span.tag("http.method", request.getMethodValue());
+			span.tag("http.host", host);
+			span.tag("http.path", path);
+			try {
+				ClientHttpResponse response = execution.execute(request, body);
+				span.tag("http.status_code", String.valueOf(response.getRawStatusCode()));
+				return response;
+			} catch (IOException | RuntimeException e) {
+				span.error(e);
+				throw e;
+			}
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package com.modu.soccer.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exports finished traces as Zipkin v2 JSON to a collector, e.g. a local Zipkin or any stand-in accepting
+ * POST /api/v2/spans. Traces are queued and sent in batches from a background thread; a full queue drops them.
+ */
+@Slf4j
+public class ZipkinSpanExporter implements AutoCloseable {
+	private static final int BATCH_SIZE = 64;
+	private static final long POLL_MILLIS = 500;
+	private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+	private final URI endpoint;
+	private final String serviceName;
+	private final ObjectMapper mapper;
+	private final HttpClient httpClient;
+	private final BlockingQueue<Trace> queue;
+	private final Thread worker;
+	private final LongAdder exported = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private volatile boolean running = true;
+
+	public ZipkinSpanExporter(String endpoint, String serviceName, int queueCapacity, ObjectMapper mapper) {
+		this.endpoint = URI.create(endpoint);
+		this.serviceName = serviceName;
+		this.mapper = mapper;
+		this.httpClient = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(2))
+			.build();
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.worker = new Thread(this::drain, "trace-exporter");
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	public boolean export(Trace trace) {
+		if (queue.offer(trace)) {
+			return true;
+		}
+		dropped.increment();
+		return false;
+	}
+
+	public long getExportedCount() {
+		return exported.sum();
+	}
+
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	public long getFailedCount() {
+		return failed.sum();
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		running = false;
+		worker.join(CLOSE_TIMEOUT_MILLIS);
+	}
+
+	private void drain() {
+		List<Trace> batch = new ArrayList<>(BATCH_SIZE);
+		while (running || !queue.isEmpty()) {
+			try {
+				Trace first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, BATCH_SIZE - 1);
+				send(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void send(List<Trace> traces) throws InterruptedException {
+		try {
+			List<Map<String, Object>> spans = new ArrayList<>();
+			for (Trace trace : traces) {
+				trace.getSpans().stream().filter(Span::isFinished).forEach(span -> spans.add(toZipkin(trace, span)));
+			}
+			HttpRequest request = HttpRequest.newBuilder(endpoint)
+				.timeout(Duration.ofSeconds(5))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(spans)))
+				.build();
+			HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+			if (response.statusCode() / 100 == 2) {
+				exported.add(traces.size());
+			} else {
+				failed.add(traces.size());
+				log.warn("trace export rejected, status: {}", response.statusCode());
+			}
+		} catch (JsonProcessingException e) {
+			failed.add(traces.size());
+			log.warn("failed to serialize traces: {}", e.getMessage());
+		} catch (IOException e) {
+			failed.add(traces.size());
+			log.warn("failed to export traces: {}", e.getMessage());
+		}
+	}
+
+	private Map<String, Object> toZipkin(Trace trace, Span span) {
+		Map<String, Object> zipkinSpan = new LinkedHashMap<>();
+		zipkinSpan.put("traceId", trace.getTraceId());
+		zipkinSpan.put("id", span.getSpanId());
+		if (span.getParent() != null) {
+			zipkinSpan.put("parentId", span.getParent().getSpanId());
+		}
+		zipkinSpan.put("name", span.getName());
+		if (span.getKind() != SpanKind.INTERNAL) {
+			zipkinSpan.put("kind", span.getKind().name());
+		}
+		zipkinSpan.put("timestamp", span.getStartEpochMicros());
+		zipkinSpan.put("duration", Math.max(TimeUnit.NANOSECONDS.toMicros(span.getDurationNanos()), 1));
+		zipkinSpan.put("localEndpoint", Map.of("serviceName", serviceName));
+		if (!span.getTags().isEmpty()) {
+			zipkinSpan.put("tags", span.getTags());
+		}
+		return zipkinSpan;
+	}
+}
@@ -0,0 +1,93 @@
+package com.modu.soccer.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed size Bloom filter over strings, safe for concurrent puts and reads.
+ * Sized from the expected number of insertions and the target false positive probability.
+ */
+public class BloomFilter {
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+	private final AtomicInteger insertions = new AtomicInteger();
+
+	public BloomFilter(int expectedInsertions, double falsePositiveProbability) {
+		int n = Math.max(expectedInsertions, 1);
+		long m = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		this.bitSize = Math.max(64, (m + 63) / 64 * 64);
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+		this.bits = new AtomicLongArray((int) (bitSize / 64));
+	}
+
+	public void put(String value) {
+		long[] hashes = hash(value);
+		for (int i = 0; i < hashCount; i++) {
+			setBit(index(hashes, i));
+		}
+		insertions.incrementAndGet();
+	}
+
+	public boolean mightContain(String value) {
+		long[] hashes = hash(value);
+		for (int i = 0; i < hashCount; i++) {
+			if (!getBit(index(hashes, i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public int getInsertions() {
+		return insertions.get();
+	}
+
+	public long getMemoryBytes() {
+		return bitSize / 8;
+	}
+
+	// (1 - e^(-kn/m))^k for the current number of insertions
+	public double expectedFalsePositiveProbability() {
+		return Math.pow(1 - Math.exp(-(double) hashCount * insertions.get() / bitSize), hashCount);
+	}
+
+	// double hashing, index_i = h1 + i * h2
+	private long index(long[] hashes, int i) {
+		long combined = hashes[0] + i * hashes[1];
+		return Math.floorMod(combined, bitSize);
+	}
+
+	private void setBit(long index) {
+		int word = (int) (index >>> 6);
+		long mask = 1L << (index & 63);
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+	}
+
+	private boolean getBit(long index) {
+		return (bits.get((int) (index >>> 6)) & (1L << (index & 63))) != 0;
+	}
+
+	private static long[] hash(String value) {
+		long h1 = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			h1 ^= b;
+			h1 *= 0x100000001b3L;
+		}
+		long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L);
+		return new long[] {mix(h1), h2 | 1};
+	}
+
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,15 @@
+package com.modu.soccer.utils;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Address of the calling client, used as the per-ip rate limit key and in the access log.
+ * Forwarded headers are never read here, any caller can set them.
+ * Tomcat resolves X-Forwarded-For under server.forward-headers-strategy: native, trusting only the hops in
+ * server.tomcat.remoteip.internal-proxies and keeping the right-most address that is not one of them.
+ */
+public class ClientIpUtil {
+	public static String getClientIp(HttpServletRequest request) {
+		return request.getRemoteAddr();
+	}
+}
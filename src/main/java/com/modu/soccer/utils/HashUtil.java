@@ -0,0 +1,20 @@
+package com.modu.soccer.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public class HashUtil {
+	private static final String SHA_256 = "SHA-256";
+
+	public static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance(SHA_256);
+			byte[] hashed = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(hashed);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
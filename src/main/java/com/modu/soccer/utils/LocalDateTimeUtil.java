@@ -1,5 +1,6 @@
 package com.modu.soccer.utils;
 
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -17,6 +18,11 @@ public class LocalDateTimeUtil {
 		return java.sql.Timestamp.valueOf(localDateTime);
 	}
 
+	// inverse of toDate, comparable with now()
+	public static LocalDateTime fromTimestamp(Date date) {
+		return new Timestamp(date.getTime()).toLocalDateTime();
+	}
+
 	public static LocalDateTime fromDate(Date date) {
 		return date.toInstant().atZone(TIMEZONE).toLocalDateTime();
 	}
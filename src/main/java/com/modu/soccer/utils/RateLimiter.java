@@ -0,0 +1,104 @@
+package com.modu.soccer.utils;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets keyed by string.
+ * Each bucket is a single theoretical arrival time advanced by CAS (GCRA), which behaves as a token bucket
+ * of the given capacity refilled at a fixed rate.
+ * Memory is bounded by maxBuckets. Idle buckets are swept on a schedule, and a new key arriving at the bound
+ * evicts the longest idle of a few sampled buckets, so neither the lookup nor the eviction orders the whole map.
+ */
+public class RateLimiter {
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+	private static final int EVICTION_SAMPLES = 8;
+
+	private final int maxBuckets;
+	private final long idleNanos;
+	private final LongSupplier clock;
+	private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+	// clock hand over the map, so successive evictions sample different buckets
+	private Iterator<Map.Entry<String, Bucket>> hand = Collections.emptyIterator();
+
+	public RateLimiter(int maxBuckets, long idleMillis) {
+		this(maxBuckets, idleMillis, System::nanoTime);
+	}
+
+	RateLimiter(int maxBuckets, long idleMillis, LongSupplier clock) {
+		this.maxBuckets = maxBuckets;
+		this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+		this.clock = clock;
+	}
+
+	// returns 0 when a token was taken, otherwise the nanos until the next token
+	public long tryAcquire(String key, long capacity, double refillPerSecond) {
+		long now = clock.getAsLong();
+		Bucket bucket = buckets.get(key);
+		if (bucket == null) {
+			if (buckets.size() >= maxBuckets) {
+				evictSampled();
+			}
+			bucket = buckets.computeIfAbsent(key, k -> new Bucket(now));
+		}
+		bucket.lastAccess = now;
+
+		long interval = (long) (NANOS_PER_SECOND / refillPerSecond);
+		long tolerance = interval * (capacity - 1);
+		while (true) {
+			long tat = bucket.tat.get();
+			long start = Math.max(tat, now);
+			long wait = start - tolerance - now;
+			if (wait > 0) {
+				return wait;
+			}
+			if (bucket.tat.compareAndSet(tat, start + interval)) {
+				return 0;
+			}
+		}
+	}
+
+	public void evictIdle() {
+		long now = clock.getAsLong();
+		buckets.values().removeIf(bucket -> now - bucket.lastAccess > idleNanos);
+	}
+
+	public int size() {
+		return buckets.size();
+	}
+
+	// only new keys at the bound get here, the lock keeps the hand consistent and never guards a lookup
+	private synchronized void evictSampled() {
+		Map.Entry<String, Bucket> eldest = null;
+		for (int i = 0; i < EVICTION_SAMPLES; i++) {
+			if (!hand.hasNext()) {
+				hand = buckets.entrySet().iterator();
+				if (!hand.hasNext()) {
+					break;
+				}
+			}
+			Map.Entry<String, Bucket> entry = hand.next();
+			if (eldest == null || entry.getValue().lastAccess < eldest.getValue().lastAccess) {
+				eldest = entry;
+			}
+		}
+		if (eldest != null) {
+			buckets.remove(eldest.getKey(), eldest.getValue());
+		}
+	}
+
+	private static class Bucket {
+		private final AtomicLong tat;
+		private volatile long lastAccess;
+
+		Bucket(long now) {
+			this.tat = new AtomicLong(now);
+			this.lastAccess = now;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.modu.soccer.utils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key.
+ * The first caller runs the supplier, callers arriving while it is in flight share its result or exception.
+ * Waiters give up after waitTimeout with the exception from onTimeout, they never block on a stuck call.
+ */
+public class SingleFlight<K, V> {
+	private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final long waitTimeoutNanos;
+	private final Supplier<? extends RuntimeException> onTimeout;
+
+	public SingleFlight(Duration waitTimeout, Supplier<? extends RuntimeException> onTimeout) {
+		this.waitTimeoutNanos = waitTimeout.toNanos();
+		this.onTimeout = onTimeout;
+	}
+
+	public V execute(K key, Supplier<V> supplier) {
+		CompletableFuture<V> future = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+		if (existing != null) {
+			return await(existing);
+		}
+
+		// errors complete the future too, otherwise every waiter would be left on an unfinished future
+		try {
+			V value = supplier.get();
+			future.complete(value);
+			return value;
+		} catch (Throwable t) {
+			future.completeExceptionally(t);
+			throw t;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+
+	private V await(CompletableFuture<V> future) {
+		try {
+			return future.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw new CompletionException(e.getCause());
+		} catch (TimeoutException e) {
+			throw onTimeout.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw onTimeout.get();
+		}
+	}
+}
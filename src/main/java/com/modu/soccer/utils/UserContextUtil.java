@@ -3,24 +3,58 @@ package com.modu.soccer.utils;
 import com.modu.soccer.entity.User;
 import com.modu.soccer.exception.CustomException;
 import com.modu.soccer.exception.ErrorCode;
+import com.modu.soccer.jwt.UserPrincipal;
+import java.util.Optional;
+import java.util.function.Function;
 import org.springframework.stereotype.Component;
 
 @Component
 public class UserContextUtil {
 	public static final ThreadLocal<User> USER_THREAD_LOCAL = new ThreadLocal<>();
+	private static final ThreadLocal<UserPrincipal> PRINCIPAL_THREAD_LOCAL = new ThreadLocal<>();
+	private static final ThreadLocal<Function<Long, Optional<User>>> USER_LOADER_THREAD_LOCAL = new ThreadLocal<>();
 
+	// hydrates the full user entity only on first access
 	public static User getCurrentUser() {
 		if (USER_THREAD_LOCAL.get() != null) {
 			return UserContextUtil.USER_THREAD_LOCAL.get();
 		}
+		UserPrincipal principal = PRINCIPAL_THREAD_LOCAL.get();
+		Function<Long, Optional<User>> loader = USER_LOADER_THREAD_LOCAL.get();
+		if (principal != null && loader != null) {
+			User user = loader.apply(principal.getUserId()).orElseThrow(() -> {
+				throw new CustomException(ErrorCode.USER_NOT_REGISTERED);
+			});
+			USER_THREAD_LOCAL.set(user);
+			return user;
+		}
 		throw new CustomException(ErrorCode.AUTHENTICATION_FAILED);
 	}
 
+	public static Long getCurrentUserId() {
+		if (PRINCIPAL_THREAD_LOCAL.get() != null) {
+			return PRINCIPAL_THREAD_LOCAL.get().getUserId();
+		}
+		return getCurrentUser().getId();
+	}
+
+	public static Optional<UserPrincipal> getCurrentPrincipal() {
+		return Optional.ofNullable(PRINCIPAL_THREAD_LOCAL.get());
+	}
+
 	public static void setUser(User user) {
 		UserContextUtil.USER_THREAD_LOCAL.set(user);
 	}
 
+	public static void setPrincipal(UserPrincipal principal, Function<Long, Optional<User>> loader) {
+		UserContextUtil.USER_THREAD_LOCAL.remove();
+		UserContextUtil.PRINCIPAL_THREAD_LOCAL.set(principal);
+		UserContextUtil.USER_LOADER_THREAD_LOCAL.set(loader);
+	}
+
 	public static void clear() {
 		UserContextUtil.USER_THREAD_LOCAL.remove();
+		UserContextUtil.PRINCIPAL_THREAD_LOCAL.remove();
+		UserContextUtil.USER_LOADER_THREAD_LOCAL.remove();
 	}
 }
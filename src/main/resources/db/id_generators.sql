@@ -0,0 +1,19 @@
+-- id allocation table of IdGenerators, run before deploying the table generated ids.
+-- hibernate would otherwise create each row at 1, so every row starts past the ids auto_increment already handed out.
+-- safe to rerun, an existing row only ever moves forward and never hands out an id twice.
+create table if not exists id_generators
+(
+    name     varchar(255) not null,
+    next_val bigint,
+    primary key (name)
+);
+
+insert into id_generators (name, next_val)
+select 'quarters', coalesce(max(id), 0) + 1 from quarters
+on duplicate key update next_val = greatest(next_val, values(next_val));
+insert into id_generators (name, next_val)
+select 'quarter_participations', coalesce(max(id), 0) + 1 from quarter_participations
+on duplicate key update next_val = greatest(next_val, values(next_val));
+insert into id_generators (name, next_val)
+select 'attack_points', coalesce(max(id), 0) + 1 from attack_points
+on duplicate key update next_val = greatest(next_val, values(next_val));
@@ -0,0 +1,14 @@
+-- revoked access token ids of TokenRevocationList, run before deploying since ddl-auto is none outside local.
+-- safe to rerun, the table is only created when missing.
+create table if not exists revoked_tokens
+(
+    id         bigint      not null auto_increment,
+    jti        varchar(36) not null,
+    user_id    bigint,
+    expire_at  datetime(6) not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    unique key idx_revoked_token_jti (jti),
+    key idx_revoked_token_expire_at (expire_at)
+);
@@ -0,0 +1,42 @@
+-- updated_at of the tables ResourceVersionService probes, kept in microseconds so that two writes within
+-- the same second still change the etag. run before deploying since ddl-auto is none outside local.
+-- each statement is generated from information_schema, so nullability, default, on update and comment are
+-- restated as they are. safe to rerun, a column already in microseconds is left untouched.
+drop procedure if exists widen_updated_at;
+
+delimiter //
+create procedure widen_updated_at(in target varchar(64))
+begin
+    set @ddl = null;
+    select concat('alter table `', table_name, '` modify updated_at ', data_type, '(6)',
+                  if(is_nullable = 'NO', ' not null', ' null'),
+                  case
+                      when column_default is null then ''
+                      when column_default like 'current_timestamp%' then ' default current_timestamp(6)'
+                      else concat(' default ', quote(column_default))
+                  end,
+                  if(extra like '%on update%', ' on update current_timestamp(6)', ''),
+                  if(column_comment = '', '', concat(' comment ', quote(column_comment))))
+    into @ddl
+    from information_schema.columns
+    where table_schema = database()
+      and table_name = target
+      and column_name = 'updated_at'
+      and datetime_precision < 6;
+    if @ddl is not null then
+        prepare widen from @ddl;
+        execute widen;
+        deallocate prepare widen;
+    end if;
+end //
+delimiter ;
+
+call widen_updated_at('users');
+call widen_updated_at('teams');
+call widen_updated_at('team_records');
+call widen_updated_at('matches');
+call widen_updated_at('quarters');
+call widen_updated_at('quarter_participations');
+call widen_updated_at('attack_points');
+
+drop procedure widen_updated_at;
@@ -0,0 +1,20 @@
+-- refresh token sessions of UserSessionService, run before deploying since ddl-auto is none outside local.
+-- safe to rerun, the table is only created when missing.
+create table if not exists user_sessions
+(
+    id         bigint      not null auto_increment,
+    user_id    bigint      not null,
+    token_hash varchar(64) not null,
+    family_id  varchar(36) not null,
+    device_id  varchar(255),
+    expire_at  datetime(6) not null,
+    revoked    bit         not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    unique key idx_session_token_hash (token_hash),
+    key idx_session_user_device (user_id, device_id),
+    key idx_session_family_id (family_id),
+    key idx_session_expire_at (expire_at),
+    constraint fk_user_sessions_user_id foreign key (user_id) references users (id)
+);
@@ -0,0 +1,111 @@
+package com.modu.soccer.config
+
+import com.modu.soccer.service.KakaoOauthService
+import com.sun.net.httpserver.HttpServer
+import io.github.resilience4j.circuitbreaker.CircuitBreaker
+import org.apache.http.impl.NoConnectionReuseStrategy
+import org.apache.http.impl.client.HttpClients
+import org.springframework.boot.web.client.RestTemplateBuilder
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory
+import org.springframework.test.util.ReflectionTestUtils
+import org.springframework.web.client.RestTemplate
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class RestTemplateConfigTest extends Specification {
+    private static final int THREADS = 8
+    private static final int LOGINS_PER_THREAD = 25
+    private static final int MAX_PER_ROUTE = 4
+
+    private HttpServer server
+    private ExecutorService serverExecutor
+    private Set<Integer> clientPorts = ConcurrentHashMap.newKeySet()
+    private AtomicInteger requestCount = new AtomicInteger()
+
+    def setup() {
+        serverExecutor = Executors.newFixedThreadPool(THREADS)
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0)
+        server.createContext("/oauth/token", { exchange ->
+            // each distinct client port is one TCP connection set up by the client
+            clientPorts.add(exchange.getRemoteAddress().getPort())
+            requestCount.incrementAndGet()
+            def body = '{"access_token":"token"}'.getBytes(StandardCharsets.UTF_8)
+            exchange.getResponseHeaders().add("Content-Type", "application/json")
+            exchange.sendResponseHeaders(200, body.length)
+            exchange.getResponseBody().withCloseable { it.write(body) }
+        })
+        server.setExecutor(serverExecutor)
+        server.start()
+    }
+
+    def cleanup() {
+        server.stop(0)
+        serverExecutor.shutdownNow()
+    }
+
+    def "pooled restTemplate - 동시 로그인에서 커넥션 재사용"() {
+        given:
+        def config = getConfig()
+        def restTemplate = config.restTemplate(new RestTemplateBuilder(), config.httpClientConnectionManager())
+        def service = getKakaoOauthService(restTemplate)
+
+        when:
+        runConcurrentLogins(service)
+
+        then:
+        requestCount.get() == THREADS * LOGINS_PER_THREAD
+        clientPorts.size() <= MAX_PER_ROUTE
+    }
+
+    def "커넥션 재사용이 없는 client 는 요청마다 커넥션을 새로 맺음"() {
+        given:
+        def httpClient = HttpClients.custom()
+                .setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE)
+                .build()
+        def restTemplate = new RestTemplateBuilder()
+                .requestFactory({ -> new HttpComponentsClientHttpRequestFactory(httpClient) })
+                .build()
+        def service = getKakaoOauthService(restTemplate)
+
+        when:
+        runConcurrentLogins(service)
+
+        then:
+        requestCount.get() == THREADS * LOGINS_PER_THREAD
+        clientPorts.size() > MAX_PER_ROUTE * 10
+    }
+
+    def getConfig() {
+        def config = new RestTemplateConfig()
+        ReflectionTestUtils.setField(config, "maxTotal", MAX_PER_ROUTE)
+        ReflectionTestUtils.setField(config, "maxPerRoute", MAX_PER_ROUTE)
+        ReflectionTestUtils.setField(config, "connectTimeoutMillis", 1000)
+        ReflectionTestUtils.setField(config, "readTimeoutMillis", 1000)
+        ReflectionTestUtils.setField(config, "poolTimeoutMillis", 5000)
+        ReflectionTestUtils.setField(config, "idleTimeoutMillis", 30000)
+        return config
+    }
+
+    def getKakaoOauthService(RestTemplate restTemplate) {
+        def service = new KakaoOauthService(restTemplate, CircuitBreaker.ofDefaults("kakao"))
+        ReflectionTestUtils.setField(service, "AUTH_HOST", "http://localhost:" + server.getAddress().getPort())
+        return service
+    }
+
+    def runConcurrentLogins(KakaoOauthService service) {
+        def executor = Executors.newFixedThreadPool(THREADS)
+        def futures = (1..THREADS).collect {
+            executor.submit({
+                LOGINS_PER_THREAD.times { service.requestOauthToken("code") }
+            } as Runnable)
+        }
+        futures.each { it.get(10, TimeUnit.SECONDS) }
+        executor.shutdown()
+    }
+}
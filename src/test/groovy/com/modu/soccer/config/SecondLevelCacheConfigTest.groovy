@@ -0,0 +1,95 @@
+package com.modu.soccer.config
+
+import com.modu.soccer.TestUtil
+import com.modu.soccer.repository.TeamMemberRepository
+import com.modu.soccer.repository.TeamRepository
+import com.modu.soccer.repository.UserRepository
+import com.modu.soccer.sql.QueryRecorder
+import com.modu.soccer.sql.QueryRecorderConfig
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+
+/*
+cache entries are only written when a transaction commits, so every step here runs and commits on its own.
+* */
+@DataJpaTest(properties = [
+        "second_level_cache.enabled=true",
+        "second_level_cache.regions.user.max_entries=100",
+        "second_level_cache.regions.user.ttl_seconds=60",
+        "second_level_cache.regions.team.max_entries=100",
+        "second_level_cache.regions.team.ttl_seconds=60",
+        "second_level_cache.regions.team-record.max_entries=100",
+        "second_level_cache.regions.team-record.ttl_seconds=60",
+        "second_level_cache.regions.team-member.max_entries=100",
+        "second_level_cache.regions.team-member.ttl_seconds=60",
+        "second_level_cache.regions.team-member-query.max_entries=100",
+        "second_level_cache.regions.team-member-query.ttl_seconds=60",
+        "second_level_cache.regions.default-query-results-region.max_entries=10",
+        "second_level_cache.regions.default-query-results-region.ttl_seconds=60"
+])
+@Import([SecondLevelCacheConfig, QueryRecorderConfig])
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheConfigTest extends Specification {
+    @Autowired
+    private QueryRecorder queryRecorder
+    @Autowired
+    private UserRepository userRepository
+    @Autowired
+    private TeamRepository teamRepository
+    @Autowired
+    private TeamMemberRepository memberRepository
+    @Autowired
+    private PlatformTransactionManager transactionManager
+
+    def cleanup() {
+        memberRepository.deleteAll()
+        teamRepository.deleteAll()
+        userRepository.deleteAll()
+    }
+
+    def "findById - 저장된 유저는 다음 트랜잭션에서 select 없이 조회"() {
+        given:
+        def user = userRepository.save(TestUtil.getUser(null, "cached"))
+        queryRecorder.reset()
+
+        when:
+        def result = userRepository.findById(user.getId())
+
+        then:
+        result.get().getEmail() == "cached"
+        queryRecorder.getSelectCount() == 0
+    }
+
+    def "findByTeamAndUser - 결과를 캐시하고 team_members 쓰기에 무효화"() {
+        given:
+        def user = userRepository.save(TestUtil.getUser(null, "member"))
+        def team = teamRepository.save(TestUtil.getTeam(null, "team", user).tap { it.setRecord(null) })
+        def member = memberRepository.save(TestUtil.getTeamMember(null, user, team))
+        memberRepository.findByTeamAndUser(team, user)
+        queryRecorder.reset()
+
+        when:
+        def cached = memberRepository.findByTeamAndUser(team, user)
+
+        then:
+        cached.get().getId() == member.getId()
+        queryRecorder.getSelectCount() == 0
+
+        when:
+        new TransactionTemplate(transactionManager).executeWithoutResult {
+            memberRepository.findById(member.getId()).get().setBackNumber(10)
+        }
+        queryRecorder.reset()
+        def reloaded = memberRepository.findByTeamAndUser(team, user)
+
+        then:
+        reloaded.get().getBackNumber() == 10
+        queryRecorder.getSelectCount() == 1
+    }
+}
@@ -10,6 +10,7 @@ import com.modu.soccer.enums.AttackPointType
 import com.modu.soccer.enums.TokenType
 import com.modu.soccer.exception.ErrorCode
 import com.modu.soccer.jwt.JwtProvider
+import com.modu.soccer.repository.RevokedTokenRepository
 import com.modu.soccer.repository.UserRepository
 import com.modu.soccer.service.AttackPointService
 import com.modu.soccer.utils.UserContextUtil
@@ -42,6 +43,8 @@ class AttackPointControllerTest extends Specification {
     private final AttackPointService service = Stub()
     @SpringBean
     private UserRepository userRepository = Stub()
+    @SpringBean
+    private RevokedTokenRepository revokedTokenRepository = Stub()
     @Autowired
     private JwtProvider jwtProvider;
     private String token;
@@ -0,0 +1,184 @@
+package com.modu.soccer.controller
+
+import com.modu.soccer.TestUtil
+import com.modu.soccer.config.GraphQlConfig
+import com.modu.soccer.enums.AttackPointType
+import com.modu.soccer.enums.FormationName
+import com.modu.soccer.exception.CustomException
+import com.modu.soccer.exception.ErrorCode
+import com.modu.soccer.service.AttackPointService
+import com.modu.soccer.service.MatchService
+import com.modu.soccer.service.QuarterService
+import com.modu.soccer.service.TeamService
+import com.modu.soccer.service.UserService
+import com.modu.soccer.utils.UserContextUtil
+import org.spockframework.spring.SpringBean
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest
+import org.springframework.context.annotation.Import
+import org.springframework.graphql.execution.ErrorType
+import org.springframework.graphql.test.tester.GraphQlTester
+import spock.lang.Specification
+
+@GraphQlTest(GraphQlController)
+@Import(GraphQlConfig)
+class GraphQlControllerTest extends Specification {
+    @SpringBean
+    private TeamService teamService = Mock()
+    @SpringBean
+    private UserService userService = Mock()
+    @SpringBean
+    private MatchService matchService = Mock()
+    @SpringBean
+    private QuarterService quarterService = Mock()
+    @SpringBean
+    private AttackPointService attackPointService = Mock()
+    @Autowired
+    private GraphQlTester graphQlTester
+    private def user
+
+    def setup() {
+        user = TestUtil.getUser(1l, "email")
+        user.setName("user1")
+        UserContextUtil.setUser(user)
+    }
+
+    def cleanup() {
+        UserContextUtil.clear()
+    }
+
+    def "me - 현재 유저 조회"() {
+        when:
+        def response = graphQlTester.document("{ me { id name } }").execute()
+
+        then:
+        response.path("me.id").entity(String).isEqualTo("1")
+        response.path("me.name").entity(String).isEqualTo("user1")
+    }
+
+    def "match - 중첩 필드의 팀과 유저는 요청당 한 번씩 일괄 조회"() {
+        given:
+        def scorer1 = TestUtil.getUser(2l, "email2")
+        scorer1.setName("scorer1")
+        def scorer2 = TestUtil.getUser(3l, "email3")
+        scorer2.setName("scorer2")
+        def teamA = TestUtil.getTeam(1l, "teamA", user)
+        def teamB = TestUtil.getTeam(2l, "teamB", user)
+        def match = TestUtil.getMatch(1l, teamA, teamB, user)
+        def quarter1 = TestUtil.getQuarter(1l, match, FormationName.FORMATION_1, null, 1, 1, 0)
+        def quarter2 = TestUtil.getQuarter(2l, match, null, null, 2, 1, 1)
+        def goal1 = TestUtil.getAttackPoint(null, teamA, quarter1, scorer1, AttackPointType.GOAL, null)
+        goal1.setId(1l)
+        def goal2 = TestUtil.getAttackPoint(null, teamA, quarter2, scorer2, AttackPointType.GOAL, null)
+        goal2.setId(2l)
+        def goal3 = TestUtil.getAttackPoint(null, teamB, quarter2, scorer1, AttackPointType.GOAL, null)
+        goal3.setId(3l)
+
+        when:
+        def response = graphQlTester.document("""
+            {
+              match(id: 1) {
+                teamA { name }
+                teamB { name }
+                quarters {
+                  quarter
+                  teamAFormation
+                  goals { type user { name } team { name } }
+                }
+              }
+            }
+            """).execute()
+
+        then:
+        1 * matchService.getMatchById(1l) >> match
+        1 * quarterService.getQuartersOfMatches([1l]) >> [quarter1, quarter2]
+        1 * attackPointService.getGoalsOfQuarters([1l, 2l]) >> [goal1, goal2, goal3]
+        1 * userService.getUsersByIds({ it as Set == [2l, 3l] as Set }) >> [scorer1, scorer2]
+        1 * teamService.getTeamsWithRecordByIds({ it as Set == [1l, 2l] as Set }) >> [teamA, teamB]
+
+        response.path("match.teamB.name").entity(String).isEqualTo("teamB")
+        response.path("match.quarters[0].teamAFormation").entity(String).isEqualTo("4-4-2")
+        response.path("match.quarters[1].goals[*].user.name").entityList(String)
+                .containsExactly("scorer2", "scorer1")
+        response.path("match.quarters[1].goals[*].team.name").entityList(String)
+                .containsExactly("teamA", "teamB")
+    }
+
+    def "match - 골이 없는 쿼터는 빈 목록"() {
+        given:
+        def teamA = TestUtil.getTeam(1l, "teamA", user)
+        def teamB = TestUtil.getTeam(2l, "teamB", user)
+        def match = TestUtil.getMatch(1l, teamA, teamB, user)
+        def quarter = TestUtil.getQuarter(1l, match, null, null, 1, 0, 0)
+
+        when:
+        def response = graphQlTester.document("{ match(id: 1) { quarters { goals { type } } } }").execute()
+
+        then:
+        1 * matchService.getMatchById(1l) >> match
+        1 * quarterService.getQuartersOfMatches([1l]) >> [quarter]
+        1 * attackPointService.getGoalsOfQuarters([1l]) >> []
+        response.path("match.quarters[0].goals").entityList(Object).hasSize(0)
+    }
+
+    def "team - 존재하지 않는 팀은 rest 와 같은 에러 코드"() {
+        when:
+        def response = graphQlTester.document("{ team(id: 99) { name } }").execute()
+
+        then:
+        1 * teamService.getTeamById(99l) >> { throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "team") }
+        response.errors().satisfy({ errors ->
+            assert errors.size() == 1
+            assert errors[0].errorType == ErrorType.NOT_FOUND
+            assert errors[0].message == "team not found"
+            assert errors[0].extensions.get("code") == ErrorCode.RESOURCE_NOT_FOUND.getCode()
+        })
+    }
+
+    def "최대 깊이를 넘는 쿼리는 실행 전에 거절"() {
+        when:
+        def response = graphQlTester.document("""
+            {
+              myTeams {
+                matches {
+                  quarters {
+                    goals { assist { assist { assist { user { name } } } } }
+                  }
+                }
+              }
+            }
+            """).execute()
+
+        then:
+        0 * teamService._
+        0 * matchService._
+        response.errors().satisfy({ errors ->
+            assert errors.size() == 1
+            assert errors[0].message.contains("depth")
+        })
+    }
+
+    def "최대 비용을 넘는 쿼리는 실행 전에 거절"() {
+        when:
+        def response = graphQlTester.document("""
+            {
+              myTeams {
+                matches {
+                  quarters {
+                    participations { inUser { name } outUser { name } team { name } }
+                    goals { user { name } team { name } }
+                  }
+                }
+              }
+            }
+            """).execute()
+
+        then:
+        0 * teamService._
+        0 * matchService._
+        response.errors().satisfy({ errors ->
+            assert errors.size() == 1
+            assert errors[0].message.contains("complexity")
+        })
+    }
+}
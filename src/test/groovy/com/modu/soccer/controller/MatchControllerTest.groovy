@@ -2,6 +2,7 @@ package com.modu.soccer.controller
 
 import com.fasterxml.jackson.core.type.TypeReference
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory
 import com.modu.soccer.TestUtil
 import com.modu.soccer.domain.ApiResponse
 import com.modu.soccer.domain.MatchDto
@@ -9,8 +10,10 @@ import com.modu.soccer.entity.Match
 import com.modu.soccer.enums.TokenType
 import com.modu.soccer.exception.ErrorCode
 import com.modu.soccer.jwt.JwtProvider
+import com.modu.soccer.repository.RevokedTokenRepository
 import com.modu.soccer.repository.UserRepository
 import com.modu.soccer.service.MatchService
+import com.modu.soccer.service.ResourceVersionService
 import com.modu.soccer.utils.UserContextUtil
 import org.spockframework.spring.SpringBean
 import org.springframework.beans.factory.annotation.Autowired
@@ -39,6 +42,10 @@ class MatchControllerTest extends Specification {
     private final MatchService matchService = Stub();
     @SpringBean
     private UserRepository userRepository= Stub();
+    @SpringBean
+    private RevokedTokenRepository revokedTokenRepository = Stub()
+    @SpringBean
+    private ResourceVersionService resourceVersionService = Stub()
     @Autowired
     private ObjectMapper objectMapper;
     @Autowired
@@ -72,7 +79,7 @@ class MatchControllerTest extends Specification {
                 .build();
         def url = MATCH_BASE_URL + "?team_id=1"
 
-        matchService.getMatches(_) >> Arrays.asList(match)
+        matchService.getMatches(_) >> Arrays.asList(MatchDto.fromEntity(match))
 
         when:
         def result = mvc.perform(MockMvcRequestBuilders.get(url)
@@ -91,6 +98,38 @@ class MatchControllerTest extends Specification {
         response.getContents().get(0).getMatchDate() == d
     }
 
+    def "getTeamMatches - Accept 가 cbor 면 같은 모양을 cbor 로 응답"() {
+        given:
+        def team1 = TestUtil.getTeam(1l, "team1", null)
+        def team2 = TestUtil.getTeam(2l, "team2", null)
+        def match = Match.builder()
+                .teamA(team1)
+                .teamB(team2)
+                .matchDateTime(LocalDateTime.now())
+                .build();
+        def url = MATCH_BASE_URL + "?team_id=1"
+        def cborMapper = new ObjectMapper(new CBORFactory()).findAndRegisterModules()
+
+        matchService.getMatches(_) >> Arrays.asList(MatchDto.fromEntity(match))
+
+        when:
+        def result = mvc.perform(MockMvcRequestBuilders.get(url)
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+        def response = cborMapper.readValue(result.getContentAsByteArray(), new TypeReference<ApiResponse<List<Map<String, Object>>>>(){})
+
+        then:
+        noExceptionThrown()
+        result.getContentType().startsWith(MediaType.APPLICATION_CBOR_VALUE)
+        response.getCode() == 0
+        response.getContents().get(0).get("team_a").get("team_id") == team1.getId()
+        response.getContents().get(0).get("team_b").get("team_id") == team2.getId()
+        response.getContents().get(0).containsKey("match_date")
+    }
+
     def "getTeamMatches - team id 숫자 아님"() {
         given:
         def url = MATCH_BASE_URL + "?team_id=ads"
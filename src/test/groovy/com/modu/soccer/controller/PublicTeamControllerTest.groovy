@@ -0,0 +1,180 @@
+package com.modu.soccer.controller
+
+import com.fasterxml.jackson.core.type.TypeReference
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.modu.soccer.TestUtil
+import com.modu.soccer.domain.ApiResponse
+import com.modu.soccer.domain.DuoRecord
+import com.modu.soccer.domain.SoloRecordDto
+import com.modu.soccer.domain.TeamDto
+import com.modu.soccer.domain.TeamRecordDto
+import com.modu.soccer.entity.Team
+import com.modu.soccer.entity.TeamRecord
+import com.modu.soccer.enums.StatisticsType
+import com.modu.soccer.exception.CustomException
+import com.modu.soccer.exception.ErrorCode
+import com.modu.soccer.jwt.JwtProvider
+import com.modu.soccer.repository.RevokedTokenRepository
+import com.modu.soccer.repository.UserRepository
+import com.modu.soccer.service.StatisticsService
+import com.modu.soccer.service.TeamService
+import org.spockframework.spring.SpringBean
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest
+import org.springframework.data.domain.PageRequest
+import org.springframework.http.HttpHeaders
+import org.springframework.http.MediaType
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers
+import spock.lang.Specification
+
+@WebMvcTest(controllers = [PublicTeamController, JwtProvider])
+@AutoConfigureMockMvc
+@TestPropertySource(properties = [
+        "jwt.secret_key=JvzErMQQTbPz3KrN/Lx3Yl6zq1WgySlrD+UbWB0ALXIuP5gsTjz98bB/yvpCRpj0c5Hv4Vsus03mrzMdPgJAVA==",
+        "jwt.expire_in.access_token=600000",
+        "jwt.expire_in.refresh_token=86400000",
+        "public_read.max_age_seconds=60",
+        "public_read.stale_while_revalidate_seconds=300",
+        "rate_limit.groups[0].name=public",
+        "rate_limit.groups[0].patterns[0]=/api/v1/public/**",
+        "rate_limit.groups[0].ip.capacity=1000",
+        "rate_limit.groups[0].ip.refill_per_second=1000"]
+)
+class PublicTeamControllerTest extends Specification {
+    private final String PUBLIC_TEAM_API = "/api/v1/public/teams/%s";
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    protected MockMvc mvc
+    @SpringBean
+    private final TeamService teamService = Stub();
+    @SpringBean
+    private final StatisticsService statisticsService = Stub()
+    @SpringBean
+    private UserRepository userRepository = Mock();
+    @SpringBean
+    private RevokedTokenRepository revokedTokenRepository = Stub()
+
+    def "getTeam - 토큰 없이 조회, 캐시 헤더 포함"() {
+        given:
+        def owner = TestUtil.getUser(1l, "email")
+        def team = Team.builder()
+                .id(1l)
+                .owner(owner)
+                .record(new TeamRecord())
+                .build();
+        teamService.getTeamWithOwner(1l) >> team
+
+        when:
+        def result = mvc.perform(MockMvcRequestBuilders.get(String.format(PUBLIC_TEAM_API, 1))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+        def response = objectMapper.readValue(result.getContentAsString(), new TypeReference<ApiResponse<TeamDto>>(){})
+
+        then:
+        0 * userRepository._
+        response.getCode() == 0
+        response.getContents().getId() == team.getId()
+        response.getContents().getOwner().getName() == owner.getName()
+        response.getContents().getOwner().getEmail() == null
+        result.getHeader(HttpHeaders.CACHE_CONTROL) == "max-age=60, public, stale-while-revalidate=300"
+        result.getHeaders(HttpHeaders.VARY).containsAll([HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING])
+    }
+
+    def "getTeam - 팀 미존재 시 캐시하지 않음"() {
+        given:
+        teamService.getTeamWithOwner(_) >> {throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND)}
+
+        when:
+        def result = mvc.perform(MockMvcRequestBuilders.get(String.format(PUBLIC_TEAM_API, 1))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andReturn()
+                .getResponse()
+        def response = objectMapper.readValue(result.getContentAsString(), new TypeReference<ApiResponse<?>>(){})
+
+        then:
+        response.getCode() == 40400
+        result.getHeader(HttpHeaders.CACHE_CONTROL) == null
+    }
+
+    def "getTeamRecord - 토큰 없이 조회"() {
+        given:
+        def team = Team.builder()
+                .id(1l)
+                .owner(TestUtil.getUser(1l, "email"))
+                .record(new TeamRecord())
+                .build();
+        teamService.getTeamById(1l) >> team
+
+        when:
+        def result = mvc.perform(MockMvcRequestBuilders.get(String.format(PUBLIC_TEAM_API, 1) + "/record")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+        def response = objectMapper.readValue(result.getContentAsString(), new TypeReference<ApiResponse<TeamRecordDto>>(){})
+
+        then:
+        response.getCode() == 0
+        response.getContents() != null
+        result.getHeader(HttpHeaders.CACHE_CONTROL).contains("public")
+    }
+
+    def "getTeamStatistics - page size 상한 적용"() {
+        given:
+        def user = TestUtil.getUser(1l, "email")
+        def team = Team.builder()
+                .id(1l)
+                .owner(user)
+                .record(new TeamRecord())
+                .build();
+        teamService.getTeamById(1l) >> team
+        statisticsService.getTopMembers(PageRequest.of(0, 20), team, StatisticsType.GOAL) >> [SoloRecordDto.from(user, 3)]
+
+        when:
+        def result = mvc.perform(MockMvcRequestBuilders.get(String.format(PUBLIC_TEAM_API, 1) + "/statistics?type=GOAL&pageSize=1000")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+        def response = objectMapper.readValue(result.getContentAsString(), new TypeReference<ApiResponse<List<SoloRecordDto>>>(){})
+
+        then:
+        response.getCode() == 0
+        response.getContents().size() == 1
+        response.getContents().get(0).getCount() == 3
+    }
+
+    def "getTeamTopDuo - 토큰 없이 조회"() {
+        given:
+        def user1 = TestUtil.getUser(1l, "email1")
+        def user2 = TestUtil.getUser(2l, "email2")
+        def team = Team.builder()
+                .id(1l)
+                .owner(user1)
+                .record(new TeamRecord())
+                .build();
+        teamService.getTeamById(1l) >> team
+        statisticsService.getTopDuoMembers(PageRequest.of(0, 3), team) >> [DuoRecord.of(user1, user2, 2)]
+
+        when:
+        def result = mvc.perform(MockMvcRequestBuilders.get(String.format(PUBLIC_TEAM_API, 1) + "/statistics/duo")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+        def response = objectMapper.readValue(result.getContentAsString(), new TypeReference<ApiResponse<List<DuoRecord>>>(){})
+
+        then:
+        response.getCode() == 0
+        response.getContents().size() == 1
+        response.getContents().get(0).getCount() == 2
+    }
+}
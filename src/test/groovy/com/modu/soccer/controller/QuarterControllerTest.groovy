@@ -13,9 +13,11 @@ import com.modu.soccer.enums.Position
 import com.modu.soccer.enums.TokenType
 import com.modu.soccer.exception.ErrorCode
 import com.modu.soccer.jwt.JwtProvider
+import com.modu.soccer.repository.RevokedTokenRepository
 import com.modu.soccer.repository.UserRepository
 import com.modu.soccer.service.MatchService
 import com.modu.soccer.service.QuarterService
+import com.modu.soccer.service.ResourceVersionService
 import com.modu.soccer.utils.UserContextUtil
 import org.spockframework.spring.SpringBean
 import org.springframework.beans.factory.annotation.Autowired
@@ -51,6 +53,10 @@ class QuarterControllerTest extends Specification {
     private final MatchService matchService = Stub()
     @SpringBean
     private UserRepository userRepository = Stub();
+    @SpringBean
+    private RevokedTokenRepository revokedTokenRepository = Stub()
+    @SpringBean
+    private ResourceVersionService resourceVersionService = Stub()
     @Autowired
     private JwtProvider jwtProvider;
 
@@ -0,0 +1,262 @@
+package com.modu.soccer.controller
+
+import com.modu.soccer.TestUtil
+import com.modu.soccer.domain.AttackPointDto
+import com.modu.soccer.domain.QuarterDetail
+import com.modu.soccer.entity.AttackPoint
+import com.modu.soccer.entity.Match
+import com.modu.soccer.entity.Quarter
+import com.modu.soccer.entity.Team
+import com.modu.soccer.entity.User
+import com.modu.soccer.enums.AcceptStatus
+import com.modu.soccer.enums.AttackPointType
+import com.modu.soccer.enums.FormationName
+import com.modu.soccer.enums.Position
+import com.modu.soccer.repository.AttackPointRepository
+import com.modu.soccer.repository.MatchRepository
+import com.modu.soccer.repository.QuarterParticipationRepository
+import com.modu.soccer.repository.QuarterRepository
+import com.modu.soccer.repository.TeamMemberRepository
+import com.modu.soccer.repository.TeamRecordRepository
+import com.modu.soccer.repository.TeamRepository
+import com.modu.soccer.repository.UserRepository
+import com.modu.soccer.service.AttackPointService
+import com.modu.soccer.service.MatchService
+import com.modu.soccer.service.QuarterService
+import com.modu.soccer.service.ResourceVersionService
+import com.modu.soccer.service.TeamMemberService
+import com.modu.soccer.service.TeamRecordService
+import com.modu.soccer.service.TeamService
+import com.modu.soccer.sql.ConnectionHoldListener
+import com.modu.soccer.sql.QueryRecorder
+import com.modu.soccer.sql.QueryRecorderConfig
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.web.context.request.ServletWebRequest
+import spock.lang.Specification
+
+import java.sql.Time
+
+/*
+runs the read endpoints' controller methods against the jpa slice and counts the selects they issue.
+each budget must hold regardless of how many rows are mapped, so a lazy access added to a dto mapper fails here.
+nothing wraps the calls in a transaction, as in production with open session in view off, so every connection
+must be back in the pool once the controller method returns.
+* */
+@DataJpaTest
+@Import([QueryRecorderConfig, MatchService, QuarterService, TeamRecordService, TeamService, TeamMemberService,
+        ResourceVersionService, AttackPointService])
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadEndpointQueryCountTest extends Specification {
+    @Autowired
+    private QueryRecorder queryRecorder
+    @Autowired
+    private ConnectionHoldListener connectionHoldListener
+    @Autowired
+    private MatchService matchService
+    @Autowired
+    private QuarterService quarterService
+    @Autowired
+    private TeamService teamService
+    @Autowired
+    private ResourceVersionService resourceVersionService
+    @Autowired
+    private TeamMemberService memberService
+    @Autowired
+    private AttackPointService attackPointService
+    @Autowired
+    private UserRepository userRepository
+    @Autowired
+    private TeamRepository teamRepository
+    @Autowired
+    private TeamRecordRepository teamRecordRepository
+    @Autowired
+    private TeamMemberRepository memberRepository
+    @Autowired
+    private MatchRepository matchRepository
+    @Autowired
+    private QuarterRepository quarterRepository
+    @Autowired
+    private QuarterParticipationRepository participationRepository
+    @Autowired
+    private AttackPointRepository attackPointRepository
+
+    private int sequence = 0
+
+    def cleanup() {
+        attackPointRepository.deleteAll(attackPointRepository.findAll().findAll { it.getGoal() != null })
+        attackPointRepository.deleteAllInBatch()
+        participationRepository.deleteAllInBatch()
+        quarterRepository.deleteAllInBatch()
+        matchRepository.deleteAllInBatch()
+        memberRepository.deleteAllInBatch()
+        teamRecordRepository.deleteAllInBatch()
+        teamRepository.deleteAllInBatch()
+        userRepository.deleteAllInBatch()
+    }
+
+    def "GET /api/v1/matches/{match_id}/quarters - quarter 수와 무관하게 select 최대 2번"() {
+        given:
+        def controller = new QuarterController(quarterService, matchService, resourceVersionService)
+        def small = saveMatch(saveTeam(), saveTeam(), 1, 1)
+        def large = saveMatch(saveTeam(), saveTeam(), 5, 1)
+
+        when:
+        def smallSelects = selectCountOf { controller.getQuarters(small.getId()) }
+        def largeSelects = selectCountOf { controller.getQuarters(large.getId()) }
+
+        then:
+        smallSelects <= 2
+        largeSelects == smallSelects
+    }
+
+    def "GET /api/v1/matches/{match_id}/quarters/{quarter_id} - 참여자 수와 무관하게 version probe 포함 select 최대 4번"() {
+        given:
+        def controller = new QuarterController(quarterService, matchService, resourceVersionService)
+        def small = saveMatch(saveTeam(), saveTeam(), 1, 1)
+        def large = saveMatch(saveTeam(), saveTeam(), 1, 8)
+        def smallQuarter = quarterRepository.findByMatch(small).get(0)
+        def largeQuarter = quarterRepository.findByMatch(large).get(0)
+
+        when:
+        def smallSelects = selectCountOf { controller.getQuarterInfo(small.getId(), smallQuarter.getId(), webRequest()) }
+        def largeSelects = selectCountOf { controller.getQuarterInfo(large.getId(), largeQuarter.getId(), webRequest()) }
+        def detail = controller.getQuarterInfo(large.getId(), largeQuarter.getId(), webRequest())
+                .getContents() as QuarterDetail
+
+        then:
+        smallSelects <= 4
+        largeSelects == smallSelects
+        detail.getTeamAFormation().size() == 4
+        detail.getTeamBFormation().size() == 4
+    }
+
+    def "GET /api/v1/teams/{team_id}/members - 멤버 수와 무관하게 select 최대 2번"() {
+        given:
+        def controller = new TeamMemberController(teamService, memberService)
+        def small = saveTeam()
+        def large = saveTeam()
+        saveMembers(small, 1)
+        saveMembers(large, 10)
+
+        when:
+        def smallSelects = selectCountOf { controller.getTeamMembers(small.getId(), AcceptStatus.ACCEPTED) }
+        def largeSelects = selectCountOf { controller.getTeamMembers(large.getId(), AcceptStatus.ACCEPTED) }
+
+        then:
+        smallSelects <= 2
+        largeSelects == smallSelects
+    }
+
+    def "GET /api/v1/matches - 경기 수와 무관하게 version probe 포함 select 최대 4번"() {
+        given:
+        def controller = new MatchController(matchService, resourceVersionService)
+        def small = saveTeam()
+        def large = saveTeam()
+        saveMatch(small, saveTeam(), 0, 0)
+        4.times { saveMatch(large, saveTeam(), 0, 0) }
+        4.times { saveMatch(saveTeam(), large, 0, 0) }
+
+        when:
+        def smallSelects = selectCountOf { controller.getTeamMatches(small.getId(), webRequest()) }
+        def largeSelects = selectCountOf { controller.getTeamMatches(large.getId(), webRequest()) }
+
+        then:
+        smallSelects <= 4
+        largeSelects == smallSelects
+    }
+
+    def "GET /api/v1/matches/{match_id}/quarters/{quarter_id}/goals - 득점자와 어시스트 유저까지 서비스 안에서 조회"() {
+        given:
+        def controller = new AttackPointController(attackPointService)
+        def match = saveMatch(saveTeam(), saveTeam(), 1, 0)
+        def quarter = quarterRepository.findByMatch(match).get(0)
+        def assisted = saveGoal(match.getTeamA(), quarter, true)
+        def solo = saveGoal(match.getTeamA(), quarter, false)
+
+        when:
+        List<AttackPointDto> goals = null
+        def selects = selectCountOf { goals = controller.getGoals(match.getId(), quarter.getId()).getContents() }
+
+        then:
+        selects >= 2
+        goals*.getGoalId() as Set == [assisted.getId(), solo.getId()] as Set
+        goals.find { it.getGoalId() == assisted.getId() }.getAssistant().getName() == "assistant"
+        goals*.getScorer()*.getName() == ["scorer", "scorer"]
+    }
+
+    private static ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse())
+    }
+
+    // a connection still open here would stay checked out until the response is written
+    private int selectCountOf(Closure action) {
+        queryRecorder.reset()
+        def holds = connectionHoldListener.getHoldCount()
+        action.call()
+        assert connectionHoldListener.getOpenConnectionCount() == 0
+        assert connectionHoldListener.getHoldCount() > holds
+        return queryRecorder.getSelectCount()
+    }
+
+    private User saveUser() {
+        return userRepository.save(TestUtil.getUser(null, "user" + (sequence++)))
+    }
+
+    private Team saveTeam() {
+        Team team = TestUtil.getTeam(null, "team" + (sequence++), saveUser())
+        teamRepository.save(team)
+        teamRecordRepository.save(team.getRecord())
+        return team
+    }
+
+    private void saveMembers(Team team, int count) {
+        count.times {
+            def member = TestUtil.getTeamMember(null, saveUser(), team)
+            member.setAcceptStatus(AcceptStatus.ACCEPTED)
+            memberRepository.save(member)
+        }
+    }
+
+    private AttackPoint saveGoal(Team team, Quarter quarter, boolean withAssist) {
+        def scorer = saveUser()
+        scorer.setName("scorer")
+        userRepository.save(scorer)
+        def goal = AttackPoint.of(team, quarter, scorer, AttackPointType.GOAL, Time.valueOf("00:10:00"))
+        if (!withAssist) {
+            return attackPointRepository.save(goal)
+        }
+        def assistant = saveUser()
+        assistant.setName("assistant")
+        userRepository.save(assistant)
+        def assist = AttackPoint.of(team, quarter, assistant, AttackPointType.ASSIST, Time.valueOf("00:10:00"))
+        assist.setGoal(goal)
+        goal.setAssist(assist)
+        attackPointRepository.saveAll([goal, assist])
+        return goal
+    }
+
+    private Match saveMatch(Team teamA, Team teamB, int quarterCount, int participantCount) {
+        Match match = matchRepository.save(TestUtil.getMatch(null, teamA, teamB, teamA.getOwner()))
+        for (int i = 1; i <= quarterCount; i++) {
+            def quarter = TestUtil.getQuarter(null, match, FormationName.FORMATION_1, FormationName.FORMATION_2,
+                    i, 1, 0)
+            quarter.setTeamA(teamA)
+            quarter.setTeamB(teamB)
+            quarterRepository.save(quarter)
+            participantCount.times {
+                def participation = TestUtil.getQuarterParticipation(saveUser(), "in", null, null, Position.GK,
+                        Time.valueOf("00:10:00"))
+                participation.team = it % 2 == 0 ? teamA : teamB
+                participation.quarter = quarter
+                participationRepository.save(participation)
+            }
+        }
+        return match
+    }
+}
@@ -12,7 +12,9 @@ import com.modu.soccer.enums.StatisticsType
 import com.modu.soccer.enums.TokenType
 import com.modu.soccer.exception.ErrorCode
 import com.modu.soccer.jwt.JwtProvider
+import com.modu.soccer.repository.RevokedTokenRepository
 import com.modu.soccer.repository.UserRepository
+import com.modu.soccer.service.ResourceVersionService
 import com.modu.soccer.service.StatisticsService
 import com.modu.soccer.service.TeamService
 import com.modu.soccer.utils.UserContextUtil
@@ -49,6 +51,10 @@ class StatisticsControllerTest extends Specification {
     private final StatisticsService statisticsService = Stub()
     @SpringBean
     private UserRepository userRepository= Stub();
+    @SpringBean
+    private RevokedTokenRepository revokedTokenRepository = Stub()
+    @SpringBean
+    private ResourceVersionService resourceVersionService = Stub()
     @Autowired
     private JwtProvider jwtProvider;
 
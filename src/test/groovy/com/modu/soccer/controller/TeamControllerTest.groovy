@@ -14,7 +14,9 @@ import com.modu.soccer.enums.TokenType
 import com.modu.soccer.exception.CustomException
 import com.modu.soccer.exception.ErrorCode
 import com.modu.soccer.jwt.JwtProvider
+import com.modu.soccer.repository.RevokedTokenRepository
 import com.modu.soccer.repository.UserRepository
+import com.modu.soccer.service.ResourceVersionService
 import com.modu.soccer.service.S3UploadService
 import com.modu.soccer.service.TeamMemberService
 import com.modu.soccer.service.TeamService
@@ -53,7 +55,11 @@ class TeamControllerTest extends Specification{
     @SpringBean
     private UserRepository userRepository= Stub();
     @SpringBean
+    private RevokedTokenRepository revokedTokenRepository = Stub()
+    @SpringBean
     private S3UploadService s3UploadService = Stub()
+    @SpringBean
+    private ResourceVersionService resourceVersionService = Stub()
     @Autowired
     private JwtProvider jwtProvider;
 
@@ -97,6 +103,57 @@ class TeamControllerTest extends Specification{
         response.getContents().getOwner().getEmail() == user.getEmail()
     }
 
+    def "getTeam - version 이 같으면 304"() {
+        def user = UserContextUtil.getCurrentUser()
+
+        given:
+        def token = jwtProvider.createTokenOfType(user, TokenType.AUTH_ACCESS_TOKEN)
+        def eTag = "W/\"v1\""
+        resourceVersionService.getTeamETag(1l) >> Optional.of(eTag)
+        teamService.getTeamWithOwner(_) >> { throw new IllegalStateException("entity must not be loaded") }
+
+        when:
+        def result = mvc.perform(MockMvcRequestBuilders.get(TEAM_API + "/1")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andReturn()
+                .getResponse()
+
+        then:
+        noExceptionThrown()
+        result.getHeader(HttpHeaders.ETAG) == eTag
+        result.getContentLength() == 0
+    }
+
+    def "getTeam - version 이 바뀌면 새 ETag 와 본문"() {
+        def user = UserContextUtil.getCurrentUser()
+
+        given:
+        def token = jwtProvider.createTokenOfType(user, TokenType.AUTH_ACCESS_TOKEN)
+        def team = Team.builder()
+                .id(1l)
+                .owner(user)
+                .record(new TeamRecord())
+                .build();
+        resourceVersionService.getTeamETag(1l) >> Optional.of("W/\"v2\"")
+        teamService.getTeamWithOwner(_) >> team
+
+        when:
+        def result = mvc.perform(MockMvcRequestBuilders.get(TEAM_API + "/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\"")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+        def response = objectMapper.readValue(result.getContentAsString(), new TypeReference<ApiResponse<TeamDto>>(){})
+
+        then:
+        noExceptionThrown()
+        result.getHeader(HttpHeaders.ETAG) == "W/\"v2\""
+        response.getContents().getId() == team.getId()
+    }
+
     def "getTeam - 팀 미존재"() {
         def user = UserContextUtil.getCurrentUser()
 
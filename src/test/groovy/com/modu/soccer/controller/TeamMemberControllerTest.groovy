@@ -15,6 +15,7 @@ import com.modu.soccer.enums.Role
 import com.modu.soccer.enums.TokenType
 import com.modu.soccer.exception.ErrorCode
 import com.modu.soccer.jwt.JwtProvider
+import com.modu.soccer.repository.RevokedTokenRepository
 import com.modu.soccer.repository.UserRepository
 import com.modu.soccer.service.TeamMemberService
 import com.modu.soccer.service.TeamService
@@ -50,6 +51,8 @@ class TeamMemberControllerTest extends Specification {
     private final TeamService teamService = Stub()
     @SpringBean
     private UserRepository userRepository = Stub();
+    @SpringBean
+    private RevokedTokenRepository revokedTokenRepository = Stub()
     @Autowired
     private JwtProvider jwtProvider;
     private String token;
@@ -73,7 +76,7 @@ class TeamMemberControllerTest extends Specification {
         def member = TestUtil.getTeamMember(1l, user, team)
         def url = String.format(TEAM_MEMBER_URL + "?accept-status=%s", String.valueOf(team.getId()), status)
 
-        service.getTeamMembers(team.getId(), _) >> List.of(member)
+        service.getTeamMembers(team.getId(), _) >> List.of(TeamMemberInfo.fromEntity(member))
 
         when:
         def result = mvc.perform(MockMvcRequestBuilders.get(url)
@@ -4,10 +4,13 @@ import com.fasterxml.jackson.core.type.TypeReference
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.modu.soccer.TestUtil
 import com.modu.soccer.domain.ApiResponse
+import com.modu.soccer.domain.TeamInfo
+import com.modu.soccer.domain.TeamRecordDto
 import com.modu.soccer.domain.UserTeamsDto
 import com.modu.soccer.entity.User
 import com.modu.soccer.enums.TokenType
 import com.modu.soccer.jwt.JwtProvider
+import com.modu.soccer.repository.RevokedTokenRepository
 import com.modu.soccer.repository.UserRepository
 import com.modu.soccer.service.S3UploadService
 import com.modu.soccer.service.TeamService
@@ -44,6 +47,8 @@ class UserControllerTest extends Specification {
     @SpringBean
     private UserRepository userRepository = Stub();
     @SpringBean
+    private RevokedTokenRepository revokedTokenRepository = Stub()
+    @SpringBean
     private S3UploadService uploadService = Stub();
     @Autowired
     private JwtProvider jwtProvider;
@@ -70,7 +75,11 @@ class UserControllerTest extends Specification {
         team.setRecord(teamRecord)
         def url = USER_API + "/me"
 
-        teamService.getTeamsOfUser(user) >> [team]
+        teamService.getTeamInfosOfUser(user) >> [TeamInfo.builder()
+                .teamId(team.getId())
+                .name(team.getName())
+                .record(TeamRecordDto.fromEntity(teamRecord))
+                .build()]
 
         when:
         def result = mvc.perform(MockMvcRequestBuilders.get(url)
@@ -100,7 +109,11 @@ class UserControllerTest extends Specification {
         def url = String.format(USER_API + "/%s", String.valueOf(user.getId()))
 
         userService.getUser(user.getId()) >> user
-        teamService.getTeamsOfUser(user) >> [team]
+        teamService.getTeamInfosOfUser(user) >> [TeamInfo.builder()
+                .teamId(team.getId())
+                .name(team.getName())
+                .record(TeamRecordDto.fromEntity(teamRecord))
+                .build()]
 
         when:
         def result = mvc.perform(MockMvcRequestBuilders.get(url)
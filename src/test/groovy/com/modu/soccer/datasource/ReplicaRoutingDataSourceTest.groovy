@@ -0,0 +1,154 @@
+package com.modu.soccer.datasource
+
+import com.modu.soccer.config.DataSourceRoutingProperties
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.datasource.DataSourceTransactionManager
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.SQLException
+
+class ReplicaRoutingDataSourceTest extends Specification {
+    private EmbeddedDatabase primaryDb = database("routing_primary")
+    private EmbeddedDatabase replicaDb = database("routing_replica")
+    private boolean replicaDown = false
+    private DataSource replica = Stub(DataSource) {
+        getConnection() >> {
+            if (replicaDown) {
+                throw new SQLException("connection refused")
+            }
+            return replicaDb.getConnection()
+        }
+    }
+    private ReplicaRouter router
+    private JdbcTemplate jdbcTemplate
+    private DataSourceTransactionManager transactionManager
+
+    def cleanup() {
+        ReadYourWrites.clear()
+        primaryDb.shutdown()
+        replicaDb.shutdown()
+    }
+
+    def "read only 트랜잭션은 replica, 나머지는 primary"() {
+        given:
+        route(new DataSourceRoutingProperties(lagQuery: ""))
+
+        expect:
+        nodeOf(true) == "replica"
+        nodeOf(false) == "primary"
+        router.getReplicaReadCount() == 1
+    }
+
+    def "쓰기 이후 같은 요청의 read only 트랜잭션은 primary"() {
+        given:
+        route(new DataSourceRoutingProperties(lagQuery: ""))
+        ReadYourWrites.begin()
+
+        when:
+        write()
+
+        then:
+        ReadYourWrites.hasWritten()
+        nodeOf(true) == "primary"
+        router.getPrimaryReadCount() == 1
+
+        when:
+        ReadYourWrites.clear()
+
+        then:
+        nodeOf(true) == "replica"
+    }
+
+    def "요청 밖의 쓰기는 이후 read only 트랜잭션을 primary 에 묶지 않음"() {
+        given:
+        route(new DataSourceRoutingProperties(lagQuery: ""))
+
+        when:
+        write()
+
+        then:
+        !ReadYourWrites.hasWritten()
+        nodeOf(true) == "replica"
+    }
+
+    def "트랜잭션 밖의 조회는 쓰기로 보지 않음"() {
+        given:
+        route(new DataSourceRoutingProperties(lagQuery: ""))
+        ReadYourWrites.begin()
+
+        when:
+        def node = jdbcTemplate.queryForObject("select name from node", String)
+
+        then:
+        node == "primary"
+        !ReadYourWrites.hasWritten()
+    }
+
+    def "지연이 허용치를 넘은 replica 는 건너뛰고 primary 에서 조회"() {
+        given:
+        route(new DataSourceRoutingProperties(maxLagMillis: 1000, lagQuery: "select 5 as lag_seconds", lagColumn: "lag_seconds"))
+
+        expect:
+        router.getAvailableReplicaCount() == 0
+        nodeOf(true) == "primary"
+        router.getPrimaryReadCount() == 1
+    }
+
+    def "연결에 실패한 replica 는 다음 lag check 까지 제외"() {
+        given:
+        route(new DataSourceRoutingProperties(lagQuery: ""))
+        replicaDown = true
+
+        when:
+        def node = nodeOf(true)
+
+        then:
+        node == "primary"
+        router.getAvailableReplicaCount() == 0
+
+        when:
+        replicaDown = false
+        router.checkLag()
+
+        then:
+        router.getAvailableReplicaCount() == 1
+        nodeOf(true) == "replica"
+    }
+
+    private void route(DataSourceRoutingProperties properties) {
+        router = new ReplicaRouter(primaryDb, [replica: replica], properties)
+        router.checkLag()
+        def dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(router))
+        jdbcTemplate = new JdbcTemplate(dataSource)
+        transactionManager = new DataSourceTransactionManager(dataSource)
+    }
+
+    private String nodeOf(boolean readOnly) {
+        def template = new TransactionTemplate(transactionManager)
+        template.setReadOnly(readOnly)
+        return template.execute { jdbcTemplate.queryForObject("select name from node", String) }
+    }
+
+    private void write() {
+        new TransactionTemplate(transactionManager).executeWithoutResult {
+            jdbcTemplate.update("update node set name = name")
+        }
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        def database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name)
+                .build()
+        def node = name.substring(name.indexOf("_") + 1)
+        new JdbcTemplate(database).execute("create table node (name varchar(20))")
+        new JdbcTemplate(database).update("insert into node (name) values (?)", node)
+        return database
+    }
+}
@@ -0,0 +1,72 @@
+package com.modu.soccer.filter
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class AccessLogWriterTest extends Specification {
+
+    def "submit - background thread 에서 기록"() {
+        given:
+        def writer = new AccessLogWriter(16, new ObjectMapper())
+        def conditions = new PollingConditions(timeout: 5)
+
+        when:
+        3.times { writer.submit(record(200)) }
+
+        then:
+        conditions.eventually {
+            assert writer.getWrittenCount() == 3
+        }
+        writer.getDroppedCount() == 0
+
+        cleanup:
+        writer.close()
+    }
+
+    def "submit - buffer 가 가득 차면 버리고 집계"() {
+        given:
+        def mapper = Mock(ObjectMapper)
+        def release = new CountDownLatch(1)
+        mapper.writeValueAsString(_) >> { release.await(5, TimeUnit.SECONDS); "{}" }
+        def writer = new AccessLogWriter(2, mapper)
+
+        when:
+        def results = (1..10).collect { writer.submit(record(200)) }
+
+        then:
+        results.count { !it } > 0
+        writer.getDroppedCount() == results.count { !it }
+
+        cleanup:
+        release.countDown()
+        writer.close()
+    }
+
+    def "close - 남은 record 를 모두 기록"() {
+        given:
+        def writer = new AccessLogWriter(128, new ObjectMapper())
+        100.times { writer.submit(record(500)) }
+
+        when:
+        writer.close()
+
+        then:
+        writer.getWrittenCount() == 100
+        writer.size() == 0
+    }
+
+    private static AccessLogRecord record(int status) {
+        return AccessLogRecord.builder()
+                .requestId(UUID.randomUUID().toString())
+                .method("GET")
+                .uri("/api/v1/teams/1")
+                .status(status)
+                .elapsedMillis(1L)
+                .slow(false)
+                .build()
+    }
+}
@@ -0,0 +1,214 @@
+package com.modu.soccer.filter
+
+import com.modu.soccer.config.AccessLogProperties
+import com.modu.soccer.config.RouteLatencyProperties
+import com.modu.soccer.config.SqlMonitorProperties
+import com.modu.soccer.sql.SqlStatementBudget
+import com.modu.soccer.sql.SqlStatisticsHolder
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.http.HttpHeaders
+import org.springframework.mock.web.MockFilterChain
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.web.servlet.HandlerMapping
+import spock.lang.Specification
+
+import javax.servlet.ServletRequest
+import javax.servlet.ServletResponse
+import javax.servlet.http.HttpServlet
+import javax.servlet.http.HttpServletResponse
+
+class LoggingFilterTest extends Specification {
+    private AccessLogProperties properties = new AccessLogProperties()
+    private AccessLogWriter accessLogWriter = Mock()
+    private SqlMonitorProperties sqlMonitorProperties = new SqlMonitorProperties()
+
+    def setup() {
+        properties.setBodyMaxBytes(8)
+        properties.setErrorBodyMaxBytes(64)
+    }
+
+    def "doFilter - 민감한 헤더는 가리고 응답 본문은 그대로 전달"() {
+        given:
+        def filter = loggingFilter()
+        def request = new MockHttpServletRequest("GET", "/api/v1/teams/1")
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token")
+        request.addHeader("Cookie", "session=1")
+        request.addHeader(HttpHeaders.ACCEPT, "application/json")
+        def response = new MockHttpServletResponse()
+        AccessLogRecord record = null
+
+        when:
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/teams/{team_id}")
+        filter.doFilter(request, response, chainWriting(200, "0123456789"))
+
+        then:
+        1 * accessLogWriter.submit(_) >> { args -> record = args[0]; true }
+        record.getHeaders().get(HttpHeaders.AUTHORIZATION) == "[REDACTED]"
+        record.getHeaders().get("Cookie") == "[REDACTED]"
+        record.getHeaders().get(HttpHeaders.ACCEPT) == "application/json"
+        record.getStatus() == 200
+        record.getRoute() == "/api/v1/teams/{team_id}"
+        record.getResponseSize() == 10
+        record.getResponseBody() == "01234567...(10 bytes)"
+        response.getContentAsString() == "0123456789"
+    }
+
+    def "doFilter - sampling 에서 빠지면 본문 없이 기록"() {
+        given:
+        properties.setRoutes([new AccessLogProperties.RouteSampling("/api/v1/public/**", 0.0)])
+        def filter = loggingFilter()
+        def request = new MockHttpServletRequest("GET", "/api/v1/public/teams/1")
+        def response = new MockHttpServletResponse()
+        AccessLogRecord record = null
+
+        when:
+        filter.doFilter(request, response, chainWriting(200, "body"))
+
+        then:
+        1 * accessLogWriter.submit(_) >> { args -> record = args[0]; true }
+        record.getUri() == "/api/v1/public/teams/1"
+        record.getResponseBody() == null
+        response.getContentAsString() == "body"
+    }
+
+    def "doFilter - 5xx 는 sampling 과 무관하게 본문 기록"() {
+        given:
+        properties.setSampleRate(0.0)
+        def filter = loggingFilter()
+        def request = new MockHttpServletRequest("GET", "/api/v1/teams/1")
+        def response = new MockHttpServletResponse()
+        AccessLogRecord record = null
+
+        when:
+        filter.doFilter(request, response, chainWriting(500, "internal error body"))
+
+        then:
+        1 * accessLogWriter.submit(_) >> { args -> record = args[0]; true }
+        record.isServerError()
+        record.getResponseBody() == "internal error body"
+    }
+
+    def "doFilter - slow 호출은 본문 기록"() {
+        given:
+        properties.setSampleRate(0.0)
+        properties.setSlowThresholdMillis(0)
+        def filter = loggingFilter()
+        def request = new MockHttpServletRequest("GET", "/api/v1/teams/1")
+        def response = new MockHttpServletResponse()
+        AccessLogRecord record = null
+
+        when:
+        filter.doFilter(request, response, chainWriting(200, "slow body"))
+
+        then:
+        1 * accessLogWriter.submit(_) >> { args -> record = args[0]; true }
+        record.getSlow()
+        record.getResponseBody() == "slow body"
+    }
+
+    def "doFilter - 인증 경로는 5xx 라도 본문 없이 기록"() {
+        given:
+        properties.setSampleRate(1.0)
+        def filter = loggingFilter()
+        def request = new MockHttpServletRequest("POST", "/api/v1/user/token")
+        request.setContent('{"refresh_token":"secret"}'.getBytes())
+        def response = new MockHttpServletResponse()
+        AccessLogRecord record = null
+
+        when:
+        filter.doFilter(request, response, chainWriting(500, '{"access_token":"secret"}'))
+
+        then:
+        1 * accessLogWriter.submit(_) >> { args -> record = args[0]; true }
+        record.getRequestBody() == null
+        record.getResponseBody() == null
+        response.getContentAsString() == '{"access_token":"secret"}'
+    }
+
+    def "doFilter - 큰 응답은 buffer 없이 전달하고 앞부분만 기록"() {
+        given:
+        properties.setResponseBufferMaxBytes(16)
+        def filter = loggingFilter()
+        def request = new MockHttpServletRequest("GET", "/api/v1/teams/1/export")
+        def response = new MockHttpServletResponse()
+        def body = "x" * 100
+        AccessLogRecord record = null
+
+        when:
+        filter.doFilter(request, response, chainWriting(200, body))
+
+        then:
+        1 * accessLogWriter.submit(_) >> { args -> record = args[0]; true }
+        record.getStreamed()
+        record.getResponseSize() == 100
+        record.getResponseBody() == "x" * 8 + "...(100 bytes)"
+        response.getContentAsString() == body
+    }
+
+    def "doFilter - 요청 중 실행된 sql 을 기록하고 budget 초과를 표시"() {
+        given:
+        sqlMonitorProperties.setRoutes([new SqlMonitorProperties.RouteBudget("/api/v1/teams/*/statistics/**", 2)])
+        def filter = loggingFilter()
+        def request = new MockHttpServletRequest("GET", "/api/v1/teams/1/statistics")
+        def response = new MockHttpServletResponse()
+        def chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            void service(ServletRequest req, ServletResponse res) {
+                3.times { SqlStatisticsHolder.current().get().record(1_000_000L, false) }
+            }
+        })
+        AccessLogRecord record = null
+
+        when:
+        filter.doFilter(request, response, chain)
+
+        then:
+        1 * accessLogWriter.submit(_) >> { args -> record = args[0]; true }
+        record.getSqlCount() == 3
+        record.getSqlMillis() == 3
+        record.getSqlBudgetExceeded()
+        SqlStatisticsHolder.current().isEmpty()
+    }
+
+    def "doFilter - binary 응답은 크기만 기록"() {
+        given:
+        def filter = loggingFilter()
+        def request = new MockHttpServletRequest("GET", "/api/v1/teams/1")
+        def response = new MockHttpServletResponse()
+        def chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            void service(ServletRequest req, ServletResponse res) {
+                res.setContentType("application/cbor")
+                res.getOutputStream().write(new byte[8])
+            }
+        })
+        AccessLogRecord record = null
+
+        when:
+        filter.doFilter(request, response, chain)
+
+        then:
+        1 * accessLogWriter.submit(_) >> { args -> record = args[0]; true }
+        record.getResponseBody() == null
+        record.getResponseSize() == 8
+        response.getContentAsByteArray().length == 8
+    }
+
+    private LoggingFilter loggingFilter() {
+        def tracker = new RouteLatencyTracker(new SimpleMeterRegistry(), new RouteLatencyProperties(),
+                properties.getSlowThresholdMillis())
+        return new LoggingFilter(properties, accessLogWriter, tracker, new SqlStatementBudget(sqlMonitorProperties))
+    }
+
+    private static MockFilterChain chainWriting(int status, String body) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            void service(ServletRequest req, ServletResponse res) {
+                ((HttpServletResponse) res).setStatus(status)
+                res.getWriter().write(body)
+                res.getWriter().flush()
+            }
+        })
+    }
+}
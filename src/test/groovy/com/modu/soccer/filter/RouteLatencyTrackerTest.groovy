@@ -0,0 +1,111 @@
+package com.modu.soccer.filter
+
+import com.modu.soccer.config.RouteLatencyProperties
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+import java.util.function.LongSupplier
+
+class RouteLatencyTrackerTest extends Specification {
+    private SimpleMeterRegistry registry = new SimpleMeterRegistry()
+    private RouteLatencyProperties properties = new RouteLatencyProperties()
+
+    def setup() {
+        properties.setMinSamples(10)
+        properties.setBaselineRefreshMillis(0)
+        properties.setMinSlowThresholdMillis(1)
+    }
+
+    def "record - route template 별로 histogram 기록"() {
+        given:
+        def tracker = new RouteLatencyTracker(registry, properties, 5000)
+
+        when:
+        tracker.record("GET", "/api/v1/teams/{team_id}", millis(10))
+        tracker.record("GET", "/api/v1/teams/{team_id}", millis(20))
+        tracker.record("POST", "/api/v1/teams", millis(30))
+
+        then:
+        registry.get(RouteLatencyTracker.METRIC_NAME)
+                .tags("method", "GET", "route", "/api/v1/teams/{team_id}")
+                .timer().count() == 2
+        registry.get(RouteLatencyTracker.METRIC_NAME)
+                .tags("method", "POST", "route", "/api/v1/teams")
+                .timer().count() == 1
+    }
+
+    def "record - sample 이 부족하면 기본 threshold 사용"() {
+        given:
+        def tracker = new RouteLatencyTracker(registry, properties, 5000)
+
+        when:
+        def slow = tracker.record("GET", "/route", millis(1000))
+
+        then:
+        !slow
+        tracker.getSlowThresholdMillis("GET", "/route") == 5000
+        tracker.record("GET", "/route", millis(6000))
+    }
+
+    def "record - route 자신의 percentile 기준으로 slow 판단"() {
+        given:
+        def tracker = new RouteLatencyTracker(registry, properties, 5000)
+        100.times { tracker.record("GET", "/route", millis(10)) }
+
+        when:
+        def threshold = tracker.getSlowThresholdMillis("GET", "/route")
+
+        then:
+        threshold < 5000
+        threshold >= 10
+        !tracker.record("GET", "/route", millis(10))
+        tracker.record("GET", "/route", millis(500))
+    }
+
+    def "record - 다른 route 의 baseline 과 독립"() {
+        given:
+        def tracker = new RouteLatencyTracker(registry, properties, 5000)
+        100.times { tracker.record("GET", "/fast", millis(10)) }
+        100.times { tracker.record("GET", "/slow", millis(1000)) }
+
+        expect:
+        tracker.record("GET", "/fast", millis(500))
+        !tracker.record("GET", "/slow", millis(500))
+    }
+
+    def "record - window 밖으로 밀려난 sample 은 최소 sample 수에 포함하지 않음"() {
+        given:
+        long now = 0
+        def tracker = new RouteLatencyTracker(registry, properties, 5000, { now } as LongSupplier)
+        100.times { tracker.record("GET", "/route", millis(10)) }
+
+        expect:
+        tracker.getSlowThresholdMillis("GET", "/route") < 5000
+
+        when:
+        now += millis(properties.getWindowMillis() + 1)
+
+        then:
+        tracker.getSlowThresholdMillis("GET", "/route") == 5000
+    }
+
+    def "record - 알 수 없는 method 는 OTHER 로 기록"() {
+        given:
+        def tracker = new RouteLatencyTracker(registry, properties, 5000)
+
+        when:
+        tracker.record("FOO", RouteLatencyTracker.UNKNOWN_ROUTE, millis(10))
+        tracker.record("BAR", RouteLatencyTracker.UNKNOWN_ROUTE, millis(10))
+
+        then:
+        registry.get(RouteLatencyTracker.METRIC_NAME)
+                .tags("method", RouteLatencyTracker.OTHER_METHOD, "route", RouteLatencyTracker.UNKNOWN_ROUTE)
+                .timer().count() == 2
+        registry.find(RouteLatencyTracker.METRIC_NAME).tags("method", "FOO").timer() == null
+    }
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value)
+    }
+}
@@ -0,0 +1,145 @@
+package com.modu.soccer.filter
+
+import org.springframework.http.HttpHeaders
+import org.springframework.mock.web.MockHttpServletResponse
+import spock.lang.Specification
+
+import javax.servlet.ServletOutputStream
+import javax.servlet.WriteListener
+import javax.servlet.http.HttpServletResponse
+
+import java.nio.charset.StandardCharsets
+
+class TeeResponseWrapperTest extends Specification {
+    private static final List<String> STREAMING_TYPES = ["text/event-stream", "application/x-ndjson"]
+
+    private MockHttpServletResponse response = new MockHttpServletResponse()
+
+    def "작은 응답은 finish 전까지 buffer 후 content length 설정"() {
+        given:
+        def wrapper = new TeeResponseWrapper(response, 100, 4, STREAMING_TYPES, false)
+
+        when:
+        wrapper.getOutputStream().write(bytes("0123456789"))
+
+        then:
+        !wrapper.isPassThrough()
+        response.getContentAsString() == ""
+
+        when:
+        wrapper.finish()
+
+        then:
+        response.getContentAsString() == "0123456789"
+        response.getContentLength() == 10
+        wrapper.getContentSize() == 10
+        new String(wrapper.getCapturedContent(), StandardCharsets.UTF_8) == "0123"
+    }
+
+    def "write listener 를 등록하면 원래 stream 에 위임하고 pass-through 로 전환"() {
+        given:
+        def delegate = Mock(ServletOutputStream)
+        def target = Mock(HttpServletResponse) {
+            getOutputStream() >> delegate
+        }
+        def listener = Mock(WriteListener)
+        def wrapper = new TeeResponseWrapper(target, 100, 4, STREAMING_TYPES, false)
+        wrapper.getOutputStream().write(bytes("01"))
+
+        when:
+        wrapper.getOutputStream().setWriteListener(listener)
+        wrapper.getOutputStream().write(bytes("23"))
+        def ready = wrapper.getOutputStream().isReady()
+
+        then:
+        2 * delegate.write(_, 0, 2)
+        1 * delegate.setWriteListener(listener)
+        1 * delegate.isReady() >> false
+        wrapper.isPassThrough()
+        !ready
+        new String(wrapper.getCapturedContent(), StandardCharsets.UTF_8) == "0123"
+    }
+
+    def "buffer 한도를 넘으면 pass-through 로 전환"() {
+        given:
+        def wrapper = new TeeResponseWrapper(response, 8, 4, STREAMING_TYPES, false)
+
+        when:
+        wrapper.getOutputStream().write(bytes("01234"))
+        wrapper.getOutputStream().write(bytes("56789"))
+
+        then:
+        wrapper.isPassThrough()
+        response.getContentAsString() == "0123456789"
+        wrapper.getCapturedContent().length == 4
+
+        when:
+        wrapper.getOutputStream().write(bytes("abc"))
+        wrapper.finish()
+
+        then:
+        response.getContentAsString() == "0123456789abc"
+        wrapper.getContentSize() == 13
+    }
+
+    def "streaming content type 은 즉시 전달"() {
+        given:
+        def wrapper = new TeeResponseWrapper(response, 1000, 100, STREAMING_TYPES, false)
+
+        when:
+        wrapper.setContentType(contentType)
+        wrapper.getWriter().write("data: 1\n\n")
+        wrapper.flushBuffer()
+
+        then:
+        wrapper.isPassThrough()
+        response.getContentAsString() == "data: 1\n\n"
+        response.isCommitted()
+
+        where:
+        contentType << ["text/event-stream", "application/x-ndjson;charset=UTF-8"]
+    }
+
+    def "streaming content type 이 header 로 설정되어도 전환"() {
+        given:
+        def wrapper = new TeeResponseWrapper(response, 1000, 100, STREAMING_TYPES, false)
+
+        when:
+        wrapper.setHeader(HttpHeaders.CONTENT_TYPE, "text/event-stream")
+
+        then:
+        wrapper.isPassThrough()
+    }
+
+    def "pass-through 로 생성된 route 는 buffer 하지 않음"() {
+        given:
+        def wrapper = new TeeResponseWrapper(response, 1000, 100, STREAMING_TYPES, true)
+
+        when:
+        wrapper.setContentLength(3)
+        wrapper.getOutputStream().write(bytes("abc"))
+
+        then:
+        response.getContentAsString() == "abc"
+        response.getContentLength() == 3
+    }
+
+    def "reset 시 buffer 와 capture 초기화"() {
+        given:
+        def wrapper = new TeeResponseWrapper(response, 100, 100, STREAMING_TYPES, false)
+        wrapper.getOutputStream().write(bytes("discarded"))
+
+        when:
+        wrapper.resetBuffer()
+        wrapper.getOutputStream().write(bytes("kept"))
+        wrapper.finish()
+
+        then:
+        response.getContentAsString() == "kept"
+        new String(wrapper.getCapturedContent(), StandardCharsets.UTF_8) == "kept"
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8)
+    }
+}
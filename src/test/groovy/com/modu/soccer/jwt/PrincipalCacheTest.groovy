@@ -0,0 +1,101 @@
+package com.modu.soccer.jwt
+
+import com.modu.soccer.TestUtil
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class PrincipalCacheTest extends Specification {
+
+    def "get - 캐시 미스 후 히트"() {
+        given:
+        def cache = new PrincipalCache(10, 60000)
+        def user = TestUtil.getUser(1l, "email")
+        Function<Long, Optional> loader = Mock()
+
+        when:
+        def first = cache.get(user.getId(), loader)
+        def second = cache.get(user.getId(), loader)
+
+        then:
+        1 * loader.apply(user.getId()) >> Optional.of(user)
+        first.get() == user
+        second.get() == user
+        cache.getMissCount() == 1
+        cache.getHitCount() == 1
+    }
+
+    def "get - 유저 없음"() {
+        given:
+        def cache = new PrincipalCache(10, 60000)
+
+        when:
+        def result = cache.get(1l, id -> Optional.empty())
+
+        then:
+        result.isEmpty()
+        cache.size() == 0
+    }
+
+    def "get - ttl 만료"() {
+        given:
+        def cache = new PrincipalCache(10, 0)
+        def user = TestUtil.getUser(1l, "email")
+        Function<Long, Optional> loader = Mock()
+
+        when:
+        cache.get(user.getId(), loader)
+        cache.get(user.getId(), loader)
+
+        then:
+        2 * loader.apply(user.getId()) >> Optional.of(user)
+        cache.getHitCount() == 0
+    }
+
+    def "invalidate"() {
+        given:
+        def cache = new PrincipalCache(10, 60000)
+        def user = TestUtil.getUser(1l, "email")
+        cache.get(user.getId(), id -> Optional.of(user))
+
+        when:
+        cache.invalidateAfterCommit(user.getId())
+
+        then:
+        cache.size() == 0
+        cache.getEvictionCount() == 1
+    }
+
+    def "get - 로딩 중 무효화된 row 는 캐시하지 않음"() {
+        given:
+        def cache = new PrincipalCache(10, 60000)
+        def user = TestUtil.getUser(1l, "email")
+
+        when:
+        def loaded = cache.get(user.getId(), id -> {
+            cache.invalidate(id)
+            return Optional.of(user)
+        })
+
+        then:
+        loaded.get() == user
+        cache.size() == 0
+
+        when:
+        cache.get(user.getId(), id -> Optional.of(user))
+
+        then:
+        cache.size() == 1
+    }
+
+    def "get - 최대 크기 유지"() {
+        given:
+        def cache = new PrincipalCache(3, 60000)
+
+        when:
+        (1..10).each { id -> cache.get(id as Long, key -> Optional.of(TestUtil.getUser(key, "email"))) }
+
+        then:
+        cache.size() <= 3
+    }
+}
@@ -0,0 +1,110 @@
+package com.modu.soccer.jwt
+
+import com.modu.soccer.config.RateLimitProperties
+import com.modu.soccer.exception.CustomException
+import com.modu.soccer.exception.ErrorCode
+import org.springframework.http.HttpHeaders
+import org.springframework.mock.web.MockHttpServletResponse
+import spock.lang.Specification
+
+class RequestRateLimiterTest extends Specification {
+    private RateLimitProperties properties
+    private RequestRateLimiter requestRateLimiter
+
+    def setup() {
+        properties = new RateLimitProperties()
+        properties.setUser(new RateLimitProperties.Limit(2, 0.001))
+        properties.setIp(new RateLimitProperties.Limit(3, 0.001))
+        properties.setGroups([
+                new RateLimitProperties.RouteGroup("statistics", ["/api/v1/teams/*/statistics/**"],
+                        new RateLimitProperties.Limit(1, 0.001), null)
+        ])
+        requestRateLimiter = new RequestRateLimiter(properties)
+    }
+
+    def "resolve - pattern 에 맞는 group, 없으면 default"() {
+        expect:
+        requestRateLimiter.resolve(uri).getName() == name
+
+        where:
+        uri                                  | name
+        "/api/v1/teams/1/statistics"         | "statistics"
+        "/api/v1/teams/1/statistics/duo"     | "statistics"
+        "/api/v1/teams/1"                    | "default"
+        "/api/v1/matches/1/quarters/1/goals" | "default"
+    }
+
+    def "resolve - group 에 없는 limit 은 기본값 사용"() {
+        when:
+        def group = requestRateLimiter.resolve("/api/v1/teams/1/statistics")
+
+        then:
+        group.getUser().getCapacity() == 1
+        group.getIp().getCapacity() == 3
+    }
+
+    def "acquireForUser - 초과 시 Retry-After 와 함께 예외"() {
+        given:
+        def group = requestRateLimiter.resolve("/api/v1/teams/1")
+        def response = new MockHttpServletResponse()
+        2.times { requestRateLimiter.acquireForUser(group, 1L, response) }
+
+        when:
+        requestRateLimiter.acquireForUser(group, 1L, response)
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.TOO_MANY_REQUESTS
+        Long.valueOf(response.getHeader(HttpHeaders.RETRY_AFTER)) >= 1
+        requestRateLimiter.getUserRejectionCount() == 1
+        requestRateLimiter.getIpRejectionCount() == 0
+    }
+
+    def "acquireForUser - group 별로 bucket 분리"() {
+        given:
+        def statistics = requestRateLimiter.resolve("/api/v1/teams/1/statistics")
+        def defaultGroup = requestRateLimiter.resolve("/api/v1/teams/1")
+        def response = new MockHttpServletResponse()
+        requestRateLimiter.acquireForUser(statistics, 1L, response)
+
+        when:
+        requestRateLimiter.acquireForUser(defaultGroup, 1L, response)
+        requestRateLimiter.acquireForUser(statistics, 2L, response)
+
+        then:
+        noExceptionThrown()
+
+        when:
+        requestRateLimiter.acquireForUser(statistics, 1L, response)
+
+        then:
+        thrown(CustomException)
+    }
+
+    def "acquireForIp - 초과 시 예외"() {
+        given:
+        def group = requestRateLimiter.resolve("/api/v1/teams/1")
+        def response = new MockHttpServletResponse()
+        3.times { requestRateLimiter.acquireForIp(group, "127.0.0.1", response) }
+
+        when:
+        requestRateLimiter.acquireForIp(group, "127.0.0.1", response)
+
+        then:
+        thrown(CustomException)
+        requestRateLimiter.getIpRejectionCount() == 1
+    }
+
+    def "disabled - 항상 허용"() {
+        given:
+        properties.setEnabled(false)
+        def limiter = new RequestRateLimiter(properties)
+        def group = limiter.resolve("/api/v1/teams/1")
+
+        when:
+        10.times { limiter.acquireForUser(group, 1L, new MockHttpServletResponse()) }
+
+        then:
+        noExceptionThrown()
+    }
+}
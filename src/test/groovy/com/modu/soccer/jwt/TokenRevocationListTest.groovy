@@ -0,0 +1,157 @@
+package com.modu.soccer.jwt
+
+import com.modu.soccer.entity.RevokedToken
+import com.modu.soccer.repository.RevokedTokenRepository
+import org.springframework.dao.DataAccessResourceFailureException
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class TokenRevocationListTest extends Specification {
+    private RevokedTokenRepository revokedTokenRepository = Mock()
+    private TokenRevocationList revocationList
+
+    def setup() {
+        revocationList = new TokenRevocationList(revokedTokenRepository, 1000, 0.01)
+        revokedTokenRepository.findActiveJtis(_) >> []
+        revocationList.rebuild()
+    }
+
+    def "isRevoked - 필터 로딩 전에는 DB 에서 확인"() {
+        given:
+        def notLoaded = new TokenRevocationList(revokedTokenRepository, 1000, 0.01)
+
+        when:
+        def result = notLoaded.isRevoked("jti")
+
+        then:
+        1 * revokedTokenRepository.existsByJti("jti") >> true
+        result
+    }
+
+    def "load - DB 실패는 기동을 막지 않고 DB 조회 유지"() {
+        given:
+        def notLoaded = new TokenRevocationList(revokedTokenRepository, 1000, 0.01)
+
+        when:
+        notLoaded.load()
+        def result = notLoaded.isRevoked("jti")
+
+        then:
+        1 * revokedTokenRepository.deleteExpired(_) >> { throw new DataAccessResourceFailureException("down") }
+        noExceptionThrown()
+        1 * revokedTokenRepository.existsByJti("jti") >> false
+        !result
+    }
+
+    def "isRevoked - 필터 미스는 DB 조회 없음"() {
+        when:
+        def result = revocationList.isRevoked("jti")
+
+        then:
+        !result
+        0 * revokedTokenRepository.existsByJti(_)
+        revocationList.getNegativeCount() == 1
+    }
+
+    def "isRevoked - jti 없는 토큰"() {
+        expect:
+        !revocationList.isRevoked(null)
+    }
+
+    def "revoke 후 isRevoked"() {
+        given:
+        def expireAt = LocalDateTime.now().plusMinutes(10)
+
+        when:
+        revocationList.revoke("jti", 1l, expireAt)
+        def result = revocationList.isRevoked("jti")
+
+        then:
+        1 * revokedTokenRepository.save({ RevokedToken r ->
+            r.getJti() == "jti" && r.getUserId() == 1l && r.getExpireAt() == expireAt
+        })
+        1 * revokedTokenRepository.existsByJti("jti") >> true
+        result
+        revocationList.getHitCount() == 1
+    }
+
+    def "isRevoked - 필터 false positive 는 DB 에서 걸러짐"() {
+        given:
+        revocationList.revoke("jti", 1l, LocalDateTime.now().plusMinutes(10))
+
+        when:
+        def result = revocationList.isRevoked("jti")
+
+        then:
+        1 * revokedTokenRepository.existsByJti("jti") >> false
+        !result
+        revocationList.getFalsePositiveCount() == 1
+        revocationList.getObservedFalsePositiveRate() == 1
+    }
+
+    def "rebuild - 만료 정리 후 활성 jti 로 재구성"() {
+        given:
+        revocationList.revoke("expired", 1l, LocalDateTime.now().plusMinutes(10))
+
+        when:
+        revocationList.rebuild()
+
+        then:
+        1 * revokedTokenRepository.deleteExpired(_)
+        1 * revokedTokenRepository.findActiveJtis(_) >> ["active"]
+        revocationList.size() == 1
+
+        when:
+        def expired = revocationList.isRevoked("expired")
+        def active = revocationList.isRevoked("active")
+
+        then:
+        !expired
+        active
+        1 * revokedTokenRepository.existsByJti("active") >> true
+        revocationList.getMemoryBytes() > 0
+    }
+
+    def "rebuild - DB 조회 중 revoke 된 jti 도 새 필터에 포함"() {
+        when:
+        revocationList.rebuild()
+        def result = revocationList.isRevoked("revoked-during-rebuild")
+
+        then:
+        1 * revokedTokenRepository.findActiveJtis(_) >> {
+            revocationList.revoke("revoked-during-rebuild", 1l, LocalDateTime.now().plusMinutes(10))
+            return []
+        }
+        1 * revokedTokenRepository.existsByJti("revoked-during-rebuild") >> true
+        result
+        revocationList.size() == 1
+    }
+
+    def "revoke - rebuild 의 DB 조회를 기다리지 않음"() {
+        given:
+        def reading = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+
+        when:
+        def rebuilding = Thread.start { revocationList.rebuild() }
+        reading.await(5, TimeUnit.SECONDS)
+        def revoking = Thread.start { revocationList.revoke("jti", 1l, LocalDateTime.now().plusMinutes(10)) }
+        revoking.join(1000)
+
+        then:
+        1 * revokedTokenRepository.findActiveJtis(_) >> {
+            reading.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            return []
+        }
+        1 * revokedTokenRepository.save(_)
+        !revoking.isAlive()
+
+        cleanup:
+        release.countDown()
+        rebuilding.join(5000)
+    }
+}
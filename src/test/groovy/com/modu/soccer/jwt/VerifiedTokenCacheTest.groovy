@@ -0,0 +1,63 @@
+package com.modu.soccer.jwt
+
+import io.jsonwebtoken.Jwts
+import spock.lang.Specification
+
+class VerifiedTokenCacheTest extends Specification {
+
+    def "get - 캐시된 토큰"() {
+        given:
+        def cache = new VerifiedTokenCache(10)
+        def claims = getClaims(System.currentTimeMillis() + 60000)
+        cache.put("token", claims)
+
+        when:
+        def result = cache.get("token")
+
+        then:
+        result.is(claims)
+    }
+
+    def "get - 만료된 토큰"() {
+        given:
+        def cache = new VerifiedTokenCache(10)
+        cache.put("token", getClaims(System.currentTimeMillis() - 1000))
+
+        when:
+        def result = cache.get("token")
+
+        then:
+        result == null
+        cache.size() == 0
+    }
+
+    def "put - 최대 크기 유지"() {
+        given:
+        def cache = new VerifiedTokenCache(3)
+
+        when:
+        (1..10).each { cache.put("token" + it, getClaims(System.currentTimeMillis() + 60000)) }
+
+        then:
+        cache.size() <= 3
+        cache.get("token10") != null
+    }
+
+    def "invalidate"() {
+        given:
+        def cache = new VerifiedTokenCache(10)
+        cache.put("token", getClaims(System.currentTimeMillis() + 60000))
+
+        when:
+        cache.invalidate("token")
+
+        then:
+        cache.get("token") == null
+    }
+
+    def getClaims(expireAt) {
+        return Jwts.claims()
+                .setSubject("1")
+                .setExpiration(new Date(expireAt))
+    }
+}
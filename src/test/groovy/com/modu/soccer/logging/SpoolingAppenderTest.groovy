@@ -0,0 +1,204 @@
+package com.modu.soccer.logging
+
+import ch.qos.logback.classic.Level
+import ch.qos.logback.classic.LoggerContext
+import ch.qos.logback.classic.spi.ILoggingEvent
+import ch.qos.logback.classic.spi.LoggingEvent
+import ch.qos.logback.classic.spi.LoggingEventVO
+import ch.qos.logback.core.AppenderBase
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class SpoolingAppenderTest extends Specification {
+    @TempDir
+    Path spoolDirectory
+
+    private LoggerContext context = new LoggerContext()
+    private FakeEndpoint endpoint = new FakeEndpoint()
+    private PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    def "append - endpoint 가 멈춰도 호출 스레드는 막히지 않고 spool 후 전송"() {
+        given:
+        def appender = spoolingAppender(4, Long.MAX_VALUE)
+
+        when:
+        def start = System.nanoTime()
+        100.times { appender.doAppend(event("message-" + it)) }
+        def elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+
+        then:
+        elapsedMillis < 1000
+        appender.getSpooledCount() > 0
+        appender.getDroppedCount() == 0
+
+        when:
+        endpoint.release.countDown()
+
+        then:
+        conditions.eventually {
+            assert endpoint.messages.size() == 100
+            assert appender.getShippedCount() == 100
+        }
+        endpoint.messages.toSet() == (0..<100).collect { "message-" + it }.toSet()
+
+        cleanup:
+        appender.stop()
+    }
+
+    def "append - spool 이 가득 차면 버리고 집계"() {
+        given:
+        def appender = spoolingAppender(2, 1024)
+
+        when:
+        100.times { appender.doAppend(event("message-" + it)) }
+
+        then:
+        appender.getDroppedCount() > 0
+        appender.getQueuedCount() + appender.getSpooledCount() + appender.getDroppedCount() == 100
+        appender.getSpoolBytes() <= 1024
+
+        cleanup:
+        endpoint.release.countDown()
+        appender.stop()
+    }
+
+    def "start - 이전 실행에서 남은 spool 파일 전송"() {
+        given:
+        def previous = new EventSpool(spoolDirectory, Long.MAX_VALUE)
+        3.times { previous.write(LoggingEventVO.build(event("left-" + it))) }
+        previous.close()
+        endpoint.release.countDown()
+
+        when:
+        def appender = spoolingAppender(16, Long.MAX_VALUE)
+
+        then:
+        conditions.eventually {
+            assert endpoint.messages == ["left-0", "left-1", "left-2"]
+            assert appender.getSpoolBytes() == 0
+        }
+
+        cleanup:
+        appender.stop()
+    }
+
+    def "start - 읽을 수 없는 spool 파일은 버리고 나머지 전송"() {
+        given:
+        def previous = new EventSpool(spoolDirectory, Long.MAX_VALUE)
+        previous.write(LoggingEventVO.build(event("left-0")))
+        previous.close()
+        spoolFile("0000000000000-000000.ready", Integer.MAX_VALUE, new byte[0])
+        spoolFile("0000000000000-000001.ready", 4, "junk".getBytes())
+        endpoint.release.countDown()
+
+        when:
+        def appender = spoolingAppender(16, 1024 * 1024)
+
+        then:
+        conditions.eventually {
+            assert endpoint.messages == ["left-0"]
+            assert appender.getSpoolBytes() == 0
+            assert Files.list(spoolDirectory).count() == 0
+        }
+
+        cleanup:
+        appender.stop()
+    }
+
+    def "append - appender 가 예외를 던져도 shipper 는 계속 전송"() {
+        given:
+        endpoint.release.countDown()
+        def appender = spoolingAppender(1000, Long.MAX_VALUE)
+        appender.addAppender(new FailingEndpoint())
+
+        when:
+        appender.doAppend(event("message-0"))
+
+        then:
+        conditions.eventually {
+            assert endpoint.messages == ["message-0"]
+        }
+
+        when:
+        appender.doAppend(event("message-1"))
+
+        then:
+        conditions.eventually {
+            assert endpoint.messages == ["message-0", "message-1"]
+        }
+
+        cleanup:
+        appender.stop()
+    }
+
+    def "stop - 남은 이벤트를 전송"() {
+        given:
+        endpoint.release.countDown()
+        def appender = spoolingAppender(1000, Long.MAX_VALUE)
+        50.times { appender.doAppend(event("message-" + it)) }
+
+        when:
+        appender.stop()
+
+        then:
+        endpoint.messages.size() == 50
+    }
+
+    private SpoolingAppender spoolingAppender(int queueSize, long maxSpoolBytes) {
+        endpoint.setContext(context)
+        endpoint.start()
+        def appender = new SpoolingAppender()
+        appender.setContext(context)
+        appender.setName("test")
+        appender.setQueueSize(queueSize)
+        appender.setBatchSize(10)
+        appender.setIdleMillis(10)
+        appender.setMaxSpoolBytes(maxSpoolBytes)
+        appender.setSpoolDirectory(spoolDirectory.toString())
+        appender.addAppender(endpoint)
+        appender.start()
+        return appender
+    }
+
+    private void spoolFile(String name, int length, byte[] data) {
+        def out = new DataOutputStream(Files.newOutputStream(spoolDirectory.resolve(name)))
+        out.writeInt(length)
+        out.write(data)
+        out.close()
+    }
+
+    private ILoggingEvent event(String message) {
+        return new LoggingEvent(SpoolingAppenderTest.name, context.getLogger("test"), Level.INFO, message, null, null)
+    }
+
+    // stands in for the remote log endpoint, it blocks until released
+    static class FakeEndpoint extends AppenderBase<ILoggingEvent> {
+        final CountDownLatch release = new CountDownLatch(1)
+        final List<String> messages = new CopyOnWriteArrayList<>()
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            release.await(10, TimeUnit.SECONDS)
+            messages.add(event.getFormattedMessage())
+        }
+    }
+
+    // AppenderBase swallows exceptions from append, this one throws out of doAppend itself
+    static class FailingEndpoint extends AppenderBase<ILoggingEvent> {
+        @Override
+        void doAppend(ILoggingEvent event) {
+            throw new IllegalStateException("endpoint down")
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+        }
+    }
+}
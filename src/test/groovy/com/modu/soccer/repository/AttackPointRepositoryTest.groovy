@@ -66,6 +66,7 @@ class AttackPointRepositoryTest extends Specification {
 
         goal = TestUtil.getAttackPoint(null, team1, quarter, user, AttackPointType.OWN_GOAL, null)
         repository.save(goal)
+        entityManager.flush()
         entityManager.clear()
     }
 
@@ -96,6 +97,7 @@ class AttackPointRepositoryTest extends Specification {
                 TestUtil.getAttackPoint(null, team, quarter, user3, AttackPointType.GOAL, null),
                 TestUtil.getAttackPoint(null, team, quarter, user3, AttackPointType.GOAL, null)
         ])
+        entityManager.flush()
         entityManager.clear()
 
         when:
@@ -129,6 +131,7 @@ class AttackPointRepositoryTest extends Specification {
                 TestUtil.getAttackPoint(null, team, quarter, user3, AttackPointType.ASSIST, goal4),
                 TestUtil.getAttackPoint(null, team, quarter, user3, AttackPointType.ASSIST, goal5)
         ])
+        entityManager.flush()
         entityManager.clear()
 
         when:
@@ -163,6 +166,7 @@ class AttackPointRepositoryTest extends Specification {
                 TestUtil.getAttackPoint(null, team, quarter, user3, AttackPointType.ASSIST, goal4),  // user3
                 TestUtil.getAttackPoint(null, team, quarter, user3, AttackPointType.ASSIST, goal) // user3
         ])
+        entityManager.flush()
         entityManager.clear()
 
         when:
@@ -202,6 +206,7 @@ class AttackPointRepositoryTest extends Specification {
                 TestUtil.getAttackPoint(null, team, quarter, user3, AttackPointType.ASSIST, goal4), // 3, 4
                 TestUtil.getAttackPoint(null, team, quarter, user3, AttackPointType.ASSIST, goal) // 1, 3
         ])
+        entityManager.flush()
         entityManager.clear()
 
         when:
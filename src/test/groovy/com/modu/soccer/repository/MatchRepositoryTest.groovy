@@ -1,8 +1,12 @@
 package com.modu.soccer.repository
 
 import com.modu.soccer.entity.*
+import com.modu.soccer.sql.QueryRecorder
+import com.modu.soccer.sql.QueryRecorderConfig
+import org.hibernate.Session
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
 import spock.lang.Specification
 
 import javax.persistence.EntityManager
@@ -10,6 +14,7 @@ import javax.persistence.PersistenceContext
 import java.time.LocalDateTime
 
 @DataJpaTest
+@Import(QueryRecorderConfig)
 class MatchRepositoryTest extends Specification {
     @Autowired
     private MatchRepository repository;
@@ -21,6 +26,8 @@ class MatchRepositoryTest extends Specification {
     private TeamRepository teamRepository
     @Autowired
     private TeamRecordRepository teamRecordRepository;
+    @Autowired
+    private QueryRecorder queryRecorder
     @PersistenceContext
     private EntityManager entityManager
 
@@ -87,6 +94,35 @@ class MatchRepositoryTest extends Specification {
         result.get(0).getTeamA().getId() == team2.getId()
     }
 
+    def "findAllByTeamA - 양 팀과 record 까지 select 1번으로 조회"() {
+        given:
+        queryRecorder.reset()
+
+        when:
+        def result = repository.findAllByTeamA(team1)
+        result.each { it.getTeamA().getName(); it.getTeamB().getRecord() }
+
+        then:
+        result.size() == 1
+        queryRecorder.getSelectCount() == 1
+    }
+
+    def "findViewsByTeamId - 양쪽 경기를 최신순으로, 엔티티 없이 조회"() {
+        given:
+        queryRecorder.reset()
+
+        when:
+        def result = repository.findViewsByTeamId(team1.getId())
+
+        then:
+        result.size() == 2
+        result*.getTeamAId() as Set == [team1.getId(), team2.getId()] as Set
+        result.every { [it.getTeamAId(), it.getTeamBId()] as Set == [team1.getId(), team2.getId()] as Set }
+        !result.get(0).getMatchDate().isBefore(result.get(1).getMatchDate())
+        queryRecorder.getSelectCount() == 1
+        entityManager.unwrap(Session).getStatistics().getEntityCount() == 0
+    }
+
     def createTeamMember(team, user) {
         return TeamMember.builder().team(team).user(user).build()
     }
@@ -4,14 +4,20 @@ import com.modu.soccer.TestUtil
 import com.modu.soccer.entity.Match
 import com.modu.soccer.entity.Quarter
 import com.modu.soccer.enums.FormationName
+import com.modu.soccer.enums.Position
+import com.modu.soccer.sql.QueryRecorder
+import com.modu.soccer.sql.QueryRecorderConfig
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
 import spock.lang.Specification
 
 import javax.persistence.EntityManager
 import javax.persistence.PersistenceContext
+import java.sql.Time
 
 @DataJpaTest
+@Import(QueryRecorderConfig)
 class QuarterRepositoryTest extends Specification {
     @Autowired
     private QuarterRepository repository
@@ -25,6 +31,10 @@ class QuarterRepositoryTest extends Specification {
     private TeamRepository teamRepository
     @Autowired
     private TeamRecordRepository teamRecordRepository
+    @Autowired
+    private QuarterParticipationRepository participationRepository
+    @Autowired
+    private QueryRecorder queryRecorder
     @PersistenceContext
     private EntityManager entityManager
 
@@ -57,6 +67,7 @@ class QuarterRepositoryTest extends Specification {
         quarter2.setTeamB(team2)
         repository.save(quarter2)
 
+        entityManager.flush()
         entityManager.clear()
     }
 
@@ -121,4 +132,40 @@ class QuarterRepositoryTest extends Specification {
         noExceptionThrown()
         result.isEmpty()
     }
+
+    def "findByIdWithMatch - match 를 fetch join 해 select 1번"() {
+        given:
+        queryRecorder.reset()
+
+        when:
+        def result = repository.findByIdWithMatch(quarter.getId())
+        result.get().getMatch().getMatchDateTime()
+
+        then:
+        result.isPresent()
+        queryRecorder.getSelectCount() == 1
+    }
+
+    def "participation saveAll - 선발 11명과 교체 5명을 한 번의 batch insert 로 저장"() {
+        given:
+        def user = userRepository.save(TestUtil.getUser(null, "lineup"))
+        def q = repository.getReferenceById(quarter.getId())
+        def participations = (1..16).collect {
+            def participation = TestUtil.getQuarterParticipation(user, "in" + it, null, null, Position.CM,
+                    Time.valueOf("00:00:00"))
+            participation.setTeam(q.getTeamA())
+            participation.setQuarter(q)
+            participation
+        }
+        queryRecorder.reset()
+
+        when:
+        participationRepository.saveAll(participations)
+        entityManager.flush()
+
+        then:
+        participations.every { it.getId() != null }
+        queryRecorder.getStatements().count { it.trim().toLowerCase().startsWith("insert into quarter_participations") } == 1
+        queryRecorder.getStatements().count { it.trim().toLowerCase().startsWith("select") && it.contains("id_generators") } == 1
+    }
 }
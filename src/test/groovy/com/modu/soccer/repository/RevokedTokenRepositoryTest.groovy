@@ -0,0 +1,52 @@
+package com.modu.soccer.repository
+
+import com.modu.soccer.entity.RevokedToken
+import com.modu.soccer.utils.LocalDateTimeUtil
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import spock.lang.Specification
+
+import javax.persistence.EntityManager
+import javax.persistence.PersistenceContext
+
+@DataJpaTest
+class RevokedTokenRepositoryTest extends Specification {
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository
+    @PersistenceContext
+    private EntityManager entityManager
+
+    def "existsByJti"() {
+        given:
+        revokedTokenRepository.save(getRevokedToken("jti", LocalDateTimeUtil.now().plusMinutes(10)))
+
+        expect:
+        revokedTokenRepository.existsByJti("jti")
+        !revokedTokenRepository.existsByJti("other")
+    }
+
+    def "findActiveJtis, deleteExpired"() {
+        given:
+        def now = LocalDateTimeUtil.now()
+        revokedTokenRepository.save(getRevokedToken("active", now.plusMinutes(10)))
+        revokedTokenRepository.save(getRevokedToken("expired", now.minusMinutes(10)))
+
+        when:
+        def active = revokedTokenRepository.findActiveJtis(now)
+        def deleted = revokedTokenRepository.deleteExpired(now)
+        entityManager.clear()
+
+        then:
+        active == ["active"]
+        deleted == 1
+        revokedTokenRepository.count() == 1
+    }
+
+    def getRevokedToken(jti, expireAt) {
+        return RevokedToken.builder()
+                .jti(jti)
+                .userId(1l)
+                .expireAt(expireAt)
+                .build()
+    }
+}
@@ -5,6 +5,7 @@ import com.modu.soccer.entity.TeamMember
 import com.modu.soccer.entity.TeamRecord
 import com.modu.soccer.entity.User
 import com.modu.soccer.enums.AcceptStatus
+import org.hibernate.Session
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
 import spock.lang.Specification
@@ -83,6 +84,22 @@ class TeamMemberRepositoryTest extends Specification {
         m.get(0).getUser().getName() == this.member.getUser().getName()
     }
 
+    def "findInfosByTeamIdAndAcceptStatus - 엔티티 없이 dto 로 조회"() {
+        when:
+        def infos = repository.findInfosByTeamIdAndAcceptStatus(team.getId(), AcceptStatus.WAITING)
+
+        then:
+        infos.size() == 1
+        infos.get(0).getMemberId() == member.getId()
+        infos.get(0).getTeamId() == team.getId()
+        infos.get(0).getUserId() == user.getId()
+        infos.get(0).getName() == user.getName()
+        infos.get(0).getPermission() == member.getPermission()
+        infos.get(0).getRole() == member.getRole()
+        entityManager.unwrap(Session).getStatistics().getEntityCount() == 0
+        repository.findInfosByTeamIdAndAcceptStatus(team.getId(), AcceptStatus.ACCEPTED).isEmpty()
+    }
+
     @Unroll
     def "findByUserAndTeamIn - team"() {
         given:
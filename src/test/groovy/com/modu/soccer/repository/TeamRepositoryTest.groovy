@@ -1,8 +1,10 @@
 package com.modu.soccer.repository
 
 import com.modu.soccer.entity.Team
+import com.modu.soccer.entity.TeamMember
 import com.modu.soccer.entity.TeamRecord
 import com.modu.soccer.entity.User
+import com.modu.soccer.enums.AcceptStatus
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
 import spock.lang.Specification
@@ -18,6 +20,8 @@ class TeamRepositoryTest extends Specification {
     private UserRepository userRepository;
     @Autowired
     private TeamRecordRepository teamRecordRepository;
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
     @PersistenceContext
     private EntityManager entityManager;
     private int i = 0;
@@ -54,4 +58,62 @@ class TeamRepositoryTest extends Specification {
         result.get().getOwner() == team.getOwner()
         result.get().getRecord() == team.getRecord()
     }
+
+    def "findVersionById - 팀, owner, record 를 한번에 probe"() {
+        when:
+        def version = teamRepository.findVersionById(team.getId())
+
+        then:
+        version.exists()
+        version.getCount() == 3
+        version.getLastModified() != null
+    }
+
+    def "findVersionById - record 가 지워지면 ETag 가 바뀜"() {
+        given:
+        def before = teamRepository.findVersionById(team.getId()).toETag("team", team.getId())
+
+        when:
+        teamRecordRepository.deleteAll()
+        entityManager.flush()
+        def after = teamRepository.findVersionById(team.getId()).toETag("team", team.getId())
+
+        then:
+        before != after
+    }
+
+    def "findVersionById - 없는 팀"() {
+        when:
+        def version = teamRepository.findVersionById(10000l)
+
+        then:
+        !version.exists()
+    }
+
+    def "findInfosByIdIn - 팀과 record 를 엔티티 없이 조회"() {
+        when:
+        def result = teamRepository.findInfosByIdIn([team.getId(), 10000l])
+
+        then:
+        result.size() == 1
+        result.get(0).getTeamId() == team.getId()
+        result.get(0).getName() == "name"
+        result.get(0).getWin() == 0
+        result.get(0).getWinRate() == 0.0d
+    }
+
+    def "findInfosByMemberUserIdAndAcceptStatus - 승인된 멤버의 팀만 조회"() {
+        given:
+        def member = TeamMember.builder().team(team).user(user).build()
+        member.setAcceptStatus(AcceptStatus.ACCEPTED)
+        teamMemberRepository.save(member)
+
+        when:
+        def accepted = teamRepository.findInfosByMemberUserIdAndAcceptStatus(user.getId(), AcceptStatus.ACCEPTED)
+        def waiting = teamRepository.findInfosByMemberUserIdAndAcceptStatus(user.getId(), AcceptStatus.WAITING)
+
+        then:
+        accepted*.getTeamId() == [team.getId()]
+        waiting.isEmpty()
+    }
 }
@@ -0,0 +1,149 @@
+package com.modu.soccer.repository
+
+import com.modu.soccer.entity.User
+import com.modu.soccer.entity.UserSession
+import com.modu.soccer.utils.LocalDateTimeUtil
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.data.domain.PageRequest
+import spock.lang.Specification
+
+import javax.persistence.EntityManager
+import javax.persistence.PersistenceContext
+
+@DataJpaTest
+class UserSessionRepositoryTest extends Specification {
+    @Autowired
+    private UserSessionRepository userSessionRepository
+    @Autowired
+    private UserRepository userRepository
+    @PersistenceContext
+    private EntityManager entityManager
+    private User user
+
+    def setup() {
+        def u = new User()
+        u.setEmail("foo@example.com")
+        user = userRepository.save(u)
+    }
+
+    def "findByTokenHash"() {
+        given:
+        userSessionRepository.save(getSession("hash", "family", "device", LocalDateTimeUtil.now().plusDays(1)))
+        entityManager.clear()
+
+        when:
+        def result = userSessionRepository.findByTokenHash("hash")
+
+        then:
+        result.isPresent()
+        result.get().getUser().getId() == user.getId()
+        !result.get().getRevoked()
+    }
+
+    def "token hash 중복"() {
+        when:
+        userSessionRepository.save(getSession("hash", "family", "device", LocalDateTimeUtil.now().plusDays(1)))
+        userSessionRepository.save(getSession("hash", "family", "device", LocalDateTimeUtil.now().plusDays(1)))
+        userSessionRepository.flush()
+
+        then:
+        thrown(DataIntegrityViolationException)
+    }
+
+    def "findAllByUserIdAndRevokedFalseAndExpireAtAfter"() {
+        given:
+        def now = LocalDateTimeUtil.now()
+        userSessionRepository.save(getSession("active", "family1", "phone", now.plusDays(1)))
+        def revoked = getSession("revoked", "family2", "tablet", now.plusDays(1))
+        revoked.setRevoked(true)
+        userSessionRepository.save(revoked)
+        userSessionRepository.save(getSession("expired", "family3", "pc", now.minusDays(1)))
+        entityManager.clear()
+
+        when:
+        def result = userSessionRepository.findAllByUserIdAndRevokedFalseAndExpireAtAfter(user.getId(), now)
+
+        then:
+        result.size() == 1
+        result.get(0).getTokenHash() == "active"
+    }
+
+    def "revokeAllByFamilyId"() {
+        given:
+        userSessionRepository.save(getSession("hash1", "family", "device", LocalDateTimeUtil.now().plusDays(1)))
+        userSessionRepository.save(getSession("hash2", "family", "device", LocalDateTimeUtil.now().plusDays(1)))
+        userSessionRepository.save(getSession("hash3", "other", "device", LocalDateTimeUtil.now().plusDays(1)))
+
+        when:
+        def count = userSessionRepository.revokeAllByFamilyId("family")
+        entityManager.clear()
+
+        then:
+        count == 2
+        userSessionRepository.findByTokenHash("hash1").get().getRevoked()
+        userSessionRepository.findByTokenHash("hash2").get().getRevoked()
+        !userSessionRepository.findByTokenHash("hash3").get().getRevoked()
+    }
+
+    def "revokeIfActive - 이미 폐기된 세션은 다시 claim 되지 않음"() {
+        given:
+        def session = userSessionRepository.save(getSession("hash", "family", "device",
+                LocalDateTimeUtil.now().plusDays(1)))
+
+        when:
+        def first = userSessionRepository.revokeIfActive(session.getId())
+        def second = userSessionRepository.revokeIfActive(session.getId())
+        entityManager.clear()
+
+        then:
+        first == 1
+        second == 0
+        userSessionRepository.findByTokenHash("hash").get().getRevoked()
+    }
+
+    def "revokeAllByUserIdAndDeviceId"() {
+        given:
+        userSessionRepository.save(getSession("hash1", "family1", "phone", LocalDateTimeUtil.now().plusDays(1)))
+        userSessionRepository.save(getSession("hash2", "family2", "pc", LocalDateTimeUtil.now().plusDays(1)))
+
+        when:
+        def count = userSessionRepository.revokeAllByUserIdAndDeviceId(user.getId(), "phone")
+        entityManager.clear()
+
+        then:
+        count == 1
+        userSessionRepository.findByTokenHash("hash1").get().getRevoked()
+        !userSessionRepository.findByTokenHash("hash2").get().getRevoked()
+    }
+
+    def "findExpiredIds"() {
+        given:
+        def now = LocalDateTimeUtil.now()
+        def expired1 = userSessionRepository.save(getSession("hash1", "family1", "phone", now.minusDays(2)))
+        def expired2 = userSessionRepository.save(getSession("hash2", "family2", "pc", now.minusDays(1)))
+        userSessionRepository.save(getSession("hash3", "family3", "tablet", now.plusDays(1)))
+
+        when:
+        def firstBatch = userSessionRepository.findExpiredIds(now, PageRequest.of(0, 1))
+        def all = userSessionRepository.findExpiredIds(now, PageRequest.of(0, 10))
+        userSessionRepository.deleteAllByIdInBatch(all)
+        entityManager.clear()
+
+        then:
+        firstBatch.size() == 1
+        all.toSet() == [expired1.getId(), expired2.getId()].toSet()
+        userSessionRepository.count() == 1
+    }
+
+    def getSession(tokenHash, familyId, deviceId, expireAt) {
+        return UserSession.builder()
+                .user(user)
+                .tokenHash(tokenHash)
+                .familyId(familyId)
+                .deviceId(deviceId)
+                .expireAt(expireAt)
+                .build()
+    }
+}
@@ -1,25 +1,37 @@
 package com.modu.soccer.service
 
 import com.modu.soccer.TestUtil
+import com.modu.soccer.domain.UserSessionToken
 import com.modu.soccer.domain.request.OauthLoginRequest
 import com.modu.soccer.entity.User
 import com.modu.soccer.enums.AuthProvider
-import com.modu.soccer.enums.TokenType
 import com.modu.soccer.exception.CustomException
 import com.modu.soccer.exception.ErrorCode
 import com.modu.soccer.jwt.JwtProvider
+import com.modu.soccer.jwt.TokenRevocationList
+import com.modu.soccer.jwt.UserPrincipal
 import com.modu.soccer.repository.UserRepository
 import com.modu.soccer.utils.UserContextUtil
 import org.springframework.dao.DataIntegrityViolationException
 import spock.lang.Specification
 
+import java.time.LocalDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
 class AuthServiceTest extends Specification {
     private UserRepository userRepository = Mock()
     private JwtProvider jwtUtil = Mock();
+    private UserSessionService userSessionService = Mock()
+    private TokenRevocationList tokenRevocationList = Mock()
     private AuthService service;
 
     def setup() {
-        service = new AuthService(jwtUtil, userRepository)
+        service = new AuthService(jwtUtil, userRepository, userSessionService, tokenRevocationList)
     }
 
     def "registerUser"() {
@@ -84,16 +96,16 @@ class AuthServiceTest extends Specification {
         u.setAuthProvider(AuthProvider.KAKAO)
         1 * userRepository.findByEmail(userEmail) >> Optional.empty()
         1 * userRepository.save(_) >> u;
-        1 * jwtUtil.createTokenOfType(u, TokenType.AUTH_REFRESH_TOKEN) >> refreshToken
+        1 * userSessionService.createSession(u, "device") >> refreshToken
 
         when:
-        def user = service.oauthLogin(request)
+        def result = service.oauthLogin(request, "device")
 
         then:
-        user.getId() != null
-        user.getEmail() == userEmail
-        user.getAuthProvider() == AuthProvider.KAKAO
-        user.getRefreshToken() == refreshToken
+        result.getUser().getId() != null
+        result.getUser().getEmail() == userEmail
+        result.getUser().getAuthProvider() == AuthProvider.KAKAO
+        result.getRefreshToken() == refreshToken
     }
 
     def "oauthLogin - 가입 유저"() {
@@ -111,96 +123,126 @@ class AuthServiceTest extends Specification {
         u.setEmail(userEmail);
         u.setAuthProvider(AuthProvider.KAKAO)
         1 * userRepository.findByEmail(userEmail) >> Optional.of(u)
-        1 * jwtUtil.createTokenOfType(u, TokenType.AUTH_REFRESH_TOKEN) >> refreshToken
+        0 * userRepository.save(_)
+        1 * userSessionService.createSession(u, null) >> refreshToken
 
         when:
-        def user = service.oauthLogin(request)
+        def result = service.oauthLogin(request, null)
 
         then:
-        user.getId() != null
-        user.getEmail() == userEmail
-        user.getAuthProvider() == AuthProvider.KAKAO
-        user.getRefreshToken() == refreshToken
+        result.getUser() == u
+        result.getRefreshToken() == refreshToken
     }
 
-    def "refreshUserToken"() {
+    def "oauthLogin - 다른 인스턴스가 먼저 가입"() {
         given:
-        def accessToken = "access_token"
-        def prevRefreshToken = "token"
-        def newRefreshToken = "new_token"
-        def u = TestUtil.getUser(1l, "email")
-        u.setRefreshToken(prevRefreshToken)
+        def userEmail = "foo@example.com"
+        def request = OauthLoginRequest.builder()
+                .email(userEmail)
+                .provider(AuthProvider.KAKAO)
+                .build();
+        def u = TestUtil.getUser(1l, userEmail)
+        2 * userRepository.findByEmail(userEmail) >>> [Optional.empty(), Optional.of(u)]
+        1 * userRepository.save(_) >> { throw new DataIntegrityViolationException("duplicated") }
+        1 * userSessionService.createSession(u, null) >> "refresh_token"
 
-        1 * jwtUtil.getUserId(accessToken) >> u.getId()
-        1 * jwtUtil.getUserId(prevRefreshToken) >> u.getId()
-        1 * userRepository.findById(u.getId()) >> Optional.of(u)
-        1 * jwtUtil.isTokenExpired(u.getRefreshToken()) >> false
-        1 * jwtUtil.createTokenOfType(u, TokenType.AUTH_REFRESH_TOKEN) >> newRefreshToken
+        when:
+        def result = service.oauthLogin(request, null)
+
+        then:
+        result.getUser() == u
+        result.getRefreshToken() == "refresh_token"
+    }
+
+    def "oauthLogin - 같은 계정 동시 최초 로그인은 한 번만 가입"() {
+        given:
+        def threads = 8
+        def userEmail = "foo@example.com"
+        def request = OauthLoginRequest.builder()
+                .email(userEmail)
+                .provider(AuthProvider.KAKAO)
+                .build();
+        def u = TestUtil.getUser(1l, userEmail)
+        def saved = new AtomicBoolean(false)
+        def saveCount = new AtomicInteger()
+        def start = new CountDownLatch(1)
+
+        userRepository.findByEmail(userEmail) >> { saved.get() ? Optional.of(u) : Optional.empty() }
+        userRepository.save(_) >> {
+            saveCount.incrementAndGet()
+            // slow insert keeps the registration in flight while the other logins arrive
+            Thread.sleep(300)
+            saved.set(true)
+            return u
+        }
+        userSessionService.createSession(u, _) >> "refresh_token"
+
+        def executor = Executors.newFixedThreadPool(threads)
 
         when:
-        def result = service.refreshUserToken(accessToken, prevRefreshToken)
+        def futures = (1..threads).collect {
+            executor.submit({
+                start.await()
+                return service.oauthLogin(request, "device")
+            } as Callable)
+        }
+        start.countDown()
+        def results = futures.collect { it.get(5, TimeUnit.SECONDS) }
+        executor.shutdown()
 
         then:
-        noExceptionThrown()
-        result.getId() == u.getId()
-        result.getRefreshToken() == newRefreshToken
+        saveCount.get() == 1
+        results.every { it.getUser().is(u) }
     }
 
-    def "refreshUserToken - 토큰 유저 미일치"() {
+    def "refreshUserToken"() {
         given:
         def accessToken = "access_token"
         def prevRefreshToken = "token"
         def newRefreshToken = "new_token"
         def u = TestUtil.getUser(1l, "email")
-        u.setRefreshToken(prevRefreshToken)
 
         1 * jwtUtil.getUserId(accessToken) >> u.getId()
-        1 * jwtUtil.getUserId(prevRefreshToken) >> 2l
-        0 * userRepository.findById(u.getId())
-        0 * jwtUtil.isTokenExpired(u.getRefreshToken())
-        0 * jwtUtil.createTokenOfType(u, TokenType.AUTH_REFRESH_TOKEN)
+        1 * jwtUtil.getUserId(prevRefreshToken) >> u.getId()
+        1 * jwtUtil.isTokenExpired(prevRefreshToken) >> false
+        1 * userSessionService.rotate(prevRefreshToken) >> new UserSessionToken(u, newRefreshToken)
 
         when:
         def result = service.refreshUserToken(accessToken, prevRefreshToken)
 
         then:
-        def e = thrown(IllegalArgumentException)
+        noExceptionThrown()
+        result.getUser().getId() == u.getId()
+        result.getRefreshToken() == newRefreshToken
     }
 
-    def "refreshUserToken - 유저 미존재"() {
+    def "refreshUserToken - 토큰 유저 미일치"() {
         given:
         def accessToken = "access_token"
         def prevRefreshToken = "token"
-        def newRefreshToken = "new_token"
-        def u = TestUtil.getUser(1l, "email")
-        u.setRefreshToken(prevRefreshToken)
 
-        1 * jwtUtil.getUserId(accessToken) >> u.getId()
-        1 * jwtUtil.getUserId(prevRefreshToken) >> u.getId()
-        1 * userRepository.findById(u.getId()) >> Optional.empty()
-        0 * jwtUtil.isTokenExpired(u.getRefreshToken())
-        0 * jwtUtil.createTokenOfType(u, TokenType.AUTH_REFRESH_TOKEN)
+        1 * jwtUtil.getUserId(accessToken) >> 1l
+        1 * jwtUtil.getUserId(prevRefreshToken) >> 2l
+        0 * jwtUtil.isTokenExpired(_)
+        0 * userSessionService.rotate(_)
 
         when:
-        def result = service.refreshUserToken(accessToken, prevRefreshToken)
+        service.refreshUserToken(accessToken, prevRefreshToken)
 
         then:
-        def e = thrown(CustomException)
-        e.getErrorCode() == ErrorCode.USER_NOT_REGISTERED
+        thrown(IllegalArgumentException)
     }
 
-    def "refreshUserToken - 토큰 미일치"() {
+    def "refreshUserToken - 세션 미존재"() {
         given:
         def accessToken = "access_token"
-        def prevRefreshToken = "token"
-        def newRefreshToken = "new_token"
-        def u = TestUtil.getUser(1l, "email")
-        u.setRefreshToken(prevRefreshToken)
 
-        1 * jwtUtil.getUserId(accessToken) >> u.getId()
-        1 * jwtUtil.getUserId("other_token") >> u.getId()
-        1 * userRepository.findById(u.getId()) >> Optional.of(u)
-        0 * jwtUtil.isTokenExpired(u.getRefreshToken())
+        1 * jwtUtil.getUserId(accessToken) >> 1l
+        1 * jwtUtil.getUserId("other_token") >> 1l
+        1 * jwtUtil.isTokenExpired("other_token") >> false
+        1 * userSessionService.rotate("other_token") >> {
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_EXPIRED)
+        }
 
         when:
         service.refreshUserToken(accessToken, "other_token")
@@ -214,17 +256,14 @@ class AuthServiceTest extends Specification {
         given:
         def accessToken = "access_token"
         def prevRefreshToken = "token"
-        def newRefreshToken = "new_token"
-        def u = TestUtil.getUser(1l, "email")
-        u.setRefreshToken(prevRefreshToken)
 
-        1 * jwtUtil.getUserId(accessToken) >> u.getId()
-        1 * jwtUtil.getUserId(prevRefreshToken) >> u.getId()
-        1 * userRepository.findById(u.getId()) >> Optional.of(u)
-        1 * jwtUtil.isTokenExpired(u.getRefreshToken()) >> true
+        1 * jwtUtil.getUserId(accessToken) >> 1l
+        1 * jwtUtil.getUserId(prevRefreshToken) >> 1l
+        1 * jwtUtil.isTokenExpired(prevRefreshToken) >> true
+        0 * userSessionService.rotate(_)
 
         when:
-        def result = service.refreshUserToken(accessToken, prevRefreshToken)
+        service.refreshUserToken(accessToken, prevRefreshToken)
 
         then:
         def e = thrown(CustomException)
@@ -237,11 +276,28 @@ class AuthServiceTest extends Specification {
         UserContextUtil.setUser(u)
 
         when:
-        service.logoutCurrentUser()
+        service.logoutCurrentUser("device")
+
+        then:
+        noExceptionThrown()
+        1 * userSessionService.revokeDeviceSessions(u.getId(), "device")
+        0 * tokenRevocationList.revoke(*_)
+        0 * userRepository._
+        UserContextUtil.clear()
+    }
+
+    def "logoutCurrentUser - access token 폐기"() {
+        given:
+        def expireAt = LocalDateTime.now().plusMinutes(10)
+        UserContextUtil.setPrincipal(new UserPrincipal(1l, "email", "jti", expireAt), id -> Optional.empty())
+
+        when:
+        service.logoutCurrentUser(null)
 
         then:
         noExceptionThrown()
-        u.getRefreshToken() == null
+        1 * userSessionService.revokeDeviceSessions(1l, null)
+        1 * tokenRevocationList.revoke("jti", 1l, expireAt)
         UserContextUtil.clear()
     }
 }
@@ -4,20 +4,30 @@ import com.modu.soccer.domain.response.KakaoTokenResponse
 import com.modu.soccer.domain.response.KakaoUserInfoResponse
 import com.modu.soccer.exception.CustomException
 import com.modu.soccer.exception.ErrorCode
+import io.github.resilience4j.circuitbreaker.CircuitBreaker
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig
 import org.springframework.http.HttpEntity
 import org.springframework.http.HttpMethod
 import org.springframework.http.HttpStatus
 import org.springframework.http.ResponseEntity
+import org.springframework.web.client.HttpClientErrorException
+import org.springframework.web.client.HttpServerErrorException
 import org.springframework.web.client.RestTemplate
 import spock.lang.Specification
 
 
 class KakaoOauthServiceTest extends Specification {
     private RestTemplate restTemplate = Mock();
+    private CircuitBreaker circuitBreaker;
     private KakaoOauthService service;
 
     def setup() {
-        service = new KakaoOauthService(restTemplate);
+        circuitBreaker = CircuitBreaker.of("kakao", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .recordException({ e -> e instanceof HttpServerErrorException })
+                .build())
+        service = new KakaoOauthService(restTemplate, circuitBreaker);
     }
 
     def "RequestOauthToken"() {
@@ -157,4 +167,54 @@ class KakaoOauthServiceTest extends Specification {
         def e = thrown(CustomException)
         e.errorCode == ErrorCode.KAKAO_AUTH_INTERNAL_ERROR
     }
-}
\ No newline at end of file
+
+    def "RequestOauthToken - kakao 5xx 누적 시 circuit open"() {
+        given:
+        restTemplate.exchange(_ as String, HttpMethod.POST, _ as HttpEntity<?>, KakaoTokenResponse.class) >>
+                { throw new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR) }
+
+        when:
+        2.times {
+            try {
+                service.requestOauthToken("code")
+            } catch (CustomException ignored) {
+            }
+        }
+        service.requestOauthToken("code")
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.KAKAO_AUTH_UNAVAILABLE
+        circuitBreaker.getState() == CircuitBreaker.State.OPEN
+    }
+
+    def "RequestOauthToken - 4xx 는 circuit 에 집계되지 않음"() {
+        given:
+        restTemplate.exchange(_ as String, HttpMethod.POST, _ as HttpEntity<?>, KakaoTokenResponse.class) >>
+                { throw new HttpClientErrorException(HttpStatus.BAD_REQUEST) }
+
+        when:
+        3.times {
+            try {
+                service.requestOauthToken("code")
+            } catch (CustomException ignored) {
+            }
+        }
+
+        then:
+        circuitBreaker.getState() == CircuitBreaker.State.CLOSED
+    }
+
+    def "GetUserInfo - circuit open 이면 호출하지 않음"() {
+        given:
+        circuitBreaker.transitionToOpenState()
+
+        when:
+        service.getUserInfo("access_token")
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.KAKAO_AUTH_UNAVAILABLE
+        0 * restTemplate.exchange(*_)
+    }
+}
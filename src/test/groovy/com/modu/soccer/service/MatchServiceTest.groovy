@@ -1,6 +1,8 @@
 package com.modu.soccer.service
 
 import com.modu.soccer.TestUtil
+import com.modu.soccer.domain.MatchView
+import com.modu.soccer.domain.TeamInfoView
 import com.modu.soccer.entity.Match
 import com.modu.soccer.exception.CustomException
 import com.modu.soccer.exception.ErrorCode
@@ -28,45 +30,48 @@ class MatchServiceTest extends Specification {
         UserContextUtil.clear()
     }
 
-    def "getMatches - #m1 #m2"() {
+    def "getMatches - 팀 정보는 경기 수와 상관없이 한 번에 조회"() {
+        given:
+        def teamId = 1l
+        def d = LocalDateTime.now()
+        def matches = [matchView(1l, 2l, d), matchView(3l, 1l, d.minusDays(7)), matchView(1l, 2l, d.minusDays(14))]
+
+        1 * teamRepository.existsById(teamId) >> true
+        1 * matchRepository.findViewsByTeamId(teamId) >> matches
+        1 * teamRepository.findInfosByIdIn([1l, 2l, 3l] as Set) >> [teamView(1l), teamView(2l), teamView(3l)]
+        0 * matchRepository.findAllByTeamA(_)
+        0 * matchRepository.findAllByTeamB(_)
+
+        when:
+        def result = service.getMatches(teamId)
 
+        then:
+        result.size() == 3
+        result*.getTeamA()*.getTeamId() == [1l, 3l, 1l]
+        result*.getTeamB()*.getTeamId() == [2l, 1l, 2l]
+        result*.getMatchDate() == [d, d.minusDays(7), d.minusDays(14)]
+        result.get(0).getTeamA().is(result.get(2).getTeamA())
+    }
+
+    def "getMatches - 경기 없음"() {
         given:
-        def teamA = TestUtil.getTeam(1l, "teamA", null)
-        def teamB = TestUtil.getTeam(2l, "teamB", null)
-        1 * teamRepository.findById(teamA.getId()) >> Optional.of(teamA)
-        1 * matchRepository.findAllByTeamA(teamA) >> m1
-        1 * matchRepository.findAllByTeamB(teamA) >> m2
+        1 * teamRepository.existsById(1l) >> true
+        1 * matchRepository.findViewsByTeamId(1l) >> []
+        0 * teamRepository.findInfosByIdIn(_)
 
         when:
-        def result = service.getMatches(teamA.getId())
+        def result = service.getMatches(1l)
 
         then:
-        noExceptionThrown()
-        result.size() == m1.size() + m2.size()
-
-        where:
-        m1 << {
-            def t1 = TestUtil.getTeam(1l, "teamA", null)
-            def t2 = TestUtil.getTeam(2l, "teamB", null)
-            def match1 = TestUtil.getMatch(1l, t1, t2, null)
-            [[], [match1], [match1]]
-        }()
-        m2 <<  {
-            def t1 = TestUtil.getTeam(1l, "teamA", null)
-            def t2 = TestUtil.getTeam(2l, "teamB", null)
-            def match2 = TestUtil.getMatch(2l, t2, t1, null)
-            [[match2], [], [match2]]
-        }()
+        result.isEmpty()
     }
 
     def "getMatches - 팀 없음"() {
         given:
         def teamA = TestUtil.getTeam(1l, "teamA", null)
-        def teamB = TestUtil.getTeam(2l, "teamB", null)
 
-        1 * teamRepository.findById(teamA.getId()) >> Optional.empty()
-        0 * matchRepository.findAllByTeamA(teamA)
-        0 * matchRepository.findAllByTeamB(teamA)
+        1 * teamRepository.existsById(teamA.getId()) >> false
+        0 * matchRepository.findViewsByTeamId(_)
 
         when:
         def result = service.getMatches(teamA.getId())
@@ -227,4 +232,25 @@ class MatchServiceTest extends Specification {
         def e = thrown(CustomException)
         e.getErrorCode() == ErrorCode.FORBIDDEN
     }
+
+    private MatchView matchView(Long teamAId, Long teamBId, LocalDateTime matchDate) {
+        return Stub(MatchView) {
+            getTeamAId() >> teamAId
+            getTeamBId() >> teamBId
+            getMatchDate() >> matchDate
+        }
+    }
+
+    private TeamInfoView teamView(Long teamId) {
+        return Stub(TeamInfoView) {
+            getTeamId() >> teamId
+            getName() >> "team" + teamId
+            getWin() >> 0
+            getDraw() >> 0
+            getLose() >> 0
+            getWinRate() >> 0.0d
+            getGoals() >> 0
+            getLostGoals() >> 0
+        }
+    }
 }
@@ -45,7 +45,7 @@ class TeamMemberServiceTest extends Specification {
 
         1 * teamRepository.findById(team.getId()) >> Optional.of(team)
         memberRepository.findByTeamAndUser(_, _) >> Optional.of(member)
-        1 * memberRepository.findAllByTeamAndAcceptStatus(team, status) >> Lists.newArrayList()
+        1 * memberRepository.findInfosByTeamIdAndAcceptStatus(team.getId(), status) >> Lists.newArrayList()
 
         when:
         service.getTeamMembers(team.getId(), status)
@@ -66,7 +66,7 @@ class TeamMemberServiceTest extends Specification {
         def teamId = 1l
 
         1 * teamRepository.findById(teamId) >> Optional.empty()
-        0 * memberRepository.findAllByTeamAndAcceptStatus(_, AcceptStatus.ACCEPTED)
+        0 * memberRepository.findInfosByTeamIdAndAcceptStatus(_, AcceptStatus.ACCEPTED)
 
         when:
         service.getTeamMembers(teamId, AcceptStatus.ACCEPTED)
@@ -86,7 +86,7 @@ class TeamMemberServiceTest extends Specification {
 
         1 * teamRepository.findById(team.getId()) >> Optional.of(team)
         memberRepository.findByTeamAndUser(_, _) >> Optional.of(member)
-        0 * memberRepository.findAllByTeamAndAcceptStatus(_, status)
+        0 * memberRepository.findInfosByTeamIdAndAcceptStatus(_, status)
 
         when:
         service.getTeamMembers(team.getId(), status)
@@ -107,7 +107,7 @@ class TeamMemberServiceTest extends Specification {
 
         1 * teamRepository.findById(team.getId()) >> Optional.of(team)
         memberRepository.findByTeamAndUser(_, _) >> Optional.empty()
-        0 * memberRepository.findAllByTeamAndAcceptStatus(_, status)
+        0 * memberRepository.findInfosByTeamIdAndAcceptStatus(_, status)
 
         when:
         service.getTeamMembers(team.getId(), status)
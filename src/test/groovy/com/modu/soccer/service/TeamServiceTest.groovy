@@ -1,6 +1,7 @@
 package com.modu.soccer.service
 
 import com.modu.soccer.TestUtil
+import com.modu.soccer.domain.TeamInfoView
 import com.modu.soccer.domain.request.TeamEditRequest
 import com.modu.soccer.domain.request.TeamRequest
 import com.modu.soccer.entity.Team
@@ -251,4 +252,32 @@ class TeamServiceTest extends Specification {
         result.size() == 1
         result.get(0) == team
     }
+
+    def "getTeamInfosOfUser"() {
+        given:
+        def u = TestUtil.getUser(1l, "email")
+        def view = Stub(TeamInfoView) {
+            getTeamId() >> 1l
+            getName() >> "name"
+            getWin() >> 2
+            getDraw() >> 1
+            getLose() >> 1
+            getWinRate() >> 0.5d
+            getGoals() >> 5
+            getLostGoals() >> 3
+        }
+
+        1 * teamRepository.findInfosByMemberUserIdAndAcceptStatus(u.getId(), AcceptStatus.ACCEPTED) >> [view]
+        0 * teamMemberRepository.findAllByUserAndAcceptStatus(_, _)
+
+        when:
+        def result = service.getTeamInfosOfUser(u)
+
+        then:
+        result.size() == 1
+        result.get(0).getTeamId() == 1l
+        result.get(0).getName() == "name"
+        result.get(0).getRecord().getTotal() == 4
+        result.get(0).getRecord().getWinPercent() == 50
+    }
 }
@@ -3,15 +3,17 @@ package com.modu.soccer.service
 import com.modu.soccer.TestUtil
 import com.modu.soccer.exception.CustomException
 import com.modu.soccer.exception.ErrorCode
+import com.modu.soccer.jwt.PrincipalCache
 import com.modu.soccer.repository.UserRepository
 import spock.lang.Specification
 
 class UserServiceTest extends Specification {
     private UserRepository userRepository = Mock()
+    private PrincipalCache principalCache = Mock()
     private UserService service
 
     def setup() {
-        service = new UserService(userRepository)
+        service = new UserService(userRepository, principalCache)
     }
 
     def "getUser"() {
@@ -45,11 +47,14 @@ class UserServiceTest extends Specification {
         def request = TestUtil.getUserInfoRequest("name1", false, 20)
         def user = TestUtil.getUser(1l, "email")
 
+        1 * userRepository.findById(user.getId()) >> Optional.of(user)
+
         when:
         service.editUserInfo(user, request)
 
         then:
         noExceptionThrown()
+        1 * principalCache.invalidateAfterCommit(user.getId())
         user.getName() == request.getName()
         user.getIsPro() == request.getIsPro()
         user.getAge() == request.getAge()
@@ -60,11 +65,14 @@ class UserServiceTest extends Specification {
         def user = TestUtil.getUser(1l, "email")
         def profile = "profile"
 
+        1 * userRepository.findById(user.getId()) >> Optional.of(user)
+
         when:
         service.editUserProfile(user, profile)
 
         then:
         noExceptionThrown()
+        1 * principalCache.invalidateAfterCommit(user.getId())
         user.getProfileURL() == profile
     }
 }
@@ -0,0 +1,201 @@
+package com.modu.soccer.service
+
+import com.modu.soccer.TestUtil
+import com.modu.soccer.entity.UserSession
+import com.modu.soccer.enums.TokenType
+import com.modu.soccer.exception.CustomException
+import com.modu.soccer.exception.ErrorCode
+import com.modu.soccer.jwt.JwtProvider
+import com.modu.soccer.repository.UserSessionRepository
+import com.modu.soccer.utils.HashUtil
+import com.modu.soccer.utils.LocalDateTimeUtil
+import spock.lang.Specification
+
+class UserSessionServiceTest extends Specification {
+    private UserSessionRepository userSessionRepository = Mock()
+    private JwtProvider jwtProvider = Mock()
+    private UserSessionService service
+
+    def setup() {
+        service = new UserSessionService(userSessionRepository, jwtProvider)
+    }
+
+    def "createSession"() {
+        given:
+        def u = TestUtil.getUser(1l, "email")
+        def expireAt = LocalDateTimeUtil.now().plusDays(1)
+
+        1 * jwtProvider.createTokenOfType(u, TokenType.AUTH_REFRESH_TOKEN) >> "token"
+        1 * jwtProvider.getExpiration("token") >> expireAt
+
+        when:
+        def result = service.createSession(u, "device")
+
+        then:
+        result == "token"
+        1 * userSessionRepository.save({ UserSession s ->
+            s.getUser() == u && s.getTokenHash() == HashUtil.sha256("token") && s.getDeviceId() == "device"
+                    && s.getExpireAt() == expireAt && s.getFamilyId() != null && !s.getRevoked()
+        })
+    }
+
+    def "rotate"() {
+        given:
+        def u = TestUtil.getUser(1l, "email")
+        def session = getSession(u, "family", false, LocalDateTimeUtil.now().plusDays(1))
+
+        1 * userSessionRepository.findByTokenHash(HashUtil.sha256("token")) >> Optional.of(session)
+        1 * jwtProvider.createTokenOfType(u, TokenType.AUTH_REFRESH_TOKEN) >> "new_token"
+        1 * jwtProvider.getExpiration("new_token") >> LocalDateTimeUtil.now().plusDays(1)
+
+        when:
+        def result = service.rotate("token")
+
+        then:
+        result.getUser() == u
+        result.getRefreshToken() == "new_token"
+        1 * userSessionRepository.revokeIfActive(session.getId()) >> 1
+        0 * userSessionRepository.revokeAllByFamilyId(_)
+        1 * userSessionRepository.save({ UserSession s ->
+            s.getFamilyId() == "family" && s.getDeviceId() == "device" && s.getTokenHash() == HashUtil.sha256("new_token")
+        })
+    }
+
+    def "rotate - 세션 미존재"() {
+        given:
+        1 * userSessionRepository.findByTokenHash(_) >> Optional.empty()
+
+        when:
+        service.rotate("token")
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.REFRESH_TOKEN_EXPIRED
+        0 * userSessionRepository.save(_)
+    }
+
+    def "rotate - 재사용된 토큰은 family 전체 폐기"() {
+        given:
+        def u = TestUtil.getUser(1l, "email")
+        def session = getSession(u, "family", true, LocalDateTimeUtil.now().plusDays(1))
+
+        1 * userSessionRepository.findByTokenHash(_) >> Optional.of(session)
+
+        when:
+        service.rotate("token")
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.REFRESH_TOKEN_REUSED
+        1 * userSessionRepository.revokeAllByFamilyId("family")
+        0 * userSessionRepository.save(_)
+    }
+
+    def "rotate - 동시에 먼저 rotate 된 토큰은 재사용으로 보고 family 전체 폐기"() {
+        given:
+        def u = TestUtil.getUser(1l, "email")
+        def session = getSession(u, "family", false, LocalDateTimeUtil.now().plusDays(1))
+
+        1 * userSessionRepository.findByTokenHash(_) >> Optional.of(session)
+        1 * userSessionRepository.revokeIfActive(session.getId()) >> 0
+
+        when:
+        service.rotate("token")
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.REFRESH_TOKEN_REUSED
+        1 * userSessionRepository.revokeAllByFamilyId("family")
+        0 * jwtProvider.createTokenOfType(_, _)
+        0 * userSessionRepository.save(_)
+    }
+
+    def "rotate - 만료된 세션"() {
+        given:
+        def u = TestUtil.getUser(1l, "email")
+        def session = getSession(u, "family", false, LocalDateTimeUtil.now().minusMinutes(1))
+
+        1 * userSessionRepository.findByTokenHash(_) >> Optional.of(session)
+
+        when:
+        service.rotate("token")
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.REFRESH_TOKEN_EXPIRED
+        0 * userSessionRepository.save(_)
+    }
+
+    def "revokeSession"() {
+        given:
+        def u = TestUtil.getUser(1l, "email")
+        def session = getSession(u, "family", false, LocalDateTimeUtil.now().plusDays(1))
+
+        1 * userSessionRepository.findById(session.getId()) >> Optional.of(session)
+
+        when:
+        service.revokeSession(u.getId(), session.getId())
+
+        then:
+        1 * userSessionRepository.revokeAllByFamilyId("family")
+    }
+
+    def "revokeSession - 다른 유저의 세션"() {
+        given:
+        def u = TestUtil.getUser(1l, "email")
+        def session = getSession(u, "family", false, LocalDateTimeUtil.now().plusDays(1))
+
+        1 * userSessionRepository.findById(session.getId()) >> Optional.of(session)
+
+        when:
+        service.revokeSession(2l, session.getId())
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.FORBIDDEN
+        0 * userSessionRepository.revokeAllByFamilyId(_)
+    }
+
+    def "revokeDeviceSessions"() {
+        when:
+        service.revokeDeviceSessions(1l, deviceId)
+
+        then:
+        byDevice * userSessionRepository.revokeAllByUserIdAndDeviceId(1l, deviceId)
+        all * userSessionRepository.revokeAllByUserId(1l)
+
+        where:
+        deviceId | byDevice | all
+        "device" | 1        | 0
+        null     | 0        | 1
+    }
+
+    def "purgeExpiredSessions"() {
+        given:
+        1 * userSessionRepository.findExpiredIds(_, _) >> ids
+
+        when:
+        def result = service.purgeExpiredSessions(10)
+
+        then:
+        result == ids.size()
+        deleteCount * userSessionRepository.deleteAllByIdInBatch(ids)
+
+        where:
+        ids      | deleteCount
+        [1l, 2l] | 1
+        []       | 0
+    }
+
+    def getSession(user, familyId, revoked, expireAt) {
+        return UserSession.builder()
+                .id(10l)
+                .user(user)
+                .tokenHash("hash")
+                .familyId(familyId)
+                .deviceId("device")
+                .revoked(revoked)
+                .expireAt(expireAt)
+                .build()
+    }
+}
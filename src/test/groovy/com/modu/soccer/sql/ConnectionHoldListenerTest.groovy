@@ -0,0 +1,68 @@
+package com.modu.soccer.sql
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+class ConnectionHoldListenerTest extends Specification {
+    private EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .setName("connection_hold")
+            .build()
+    private ConnectionHoldListener listener = new ConnectionHoldListener()
+    private DataSource dataSource = ProxyDataSourceBuilder.create(database)
+            .methodListener(listener)
+            .build()
+
+    def cleanup() {
+        SqlStatisticsHolder.clear()
+        database.shutdown()
+    }
+
+    def "close - 현재 요청의 statistics 에 점유 시간 기록"() {
+        given:
+        def statistics = SqlStatisticsHolder.start()
+
+        when:
+        2.times {
+            def connection = dataSource.getConnection()
+            connection.createStatement().execute("select 1")
+            connection.close()
+        }
+
+        then:
+        statistics.getConnectionCount() == 2
+        statistics.getConnectionHoldMillis() >= 0
+        listener.getHoldCount() == 2
+        listener.getOpenConnectionCount() == 0
+    }
+
+    def "getConnection - 닫히기 전까지 열린 connection 으로 집계"() {
+        when:
+        def connection = dataSource.getConnection()
+
+        then:
+        listener.getOpenConnectionCount() == 1
+        listener.getHoldCount() == 0
+
+        when:
+        connection.close()
+
+        then:
+        listener.getOpenConnectionCount() == 0
+        listener.getHoldCount() == 1
+    }
+
+    def "close - 요청 밖의 connection 은 전체 집계에만 기록"() {
+        when:
+        dataSource.getConnection().close()
+
+        then:
+        listener.getHoldCount() == 1
+        !SqlStatisticsHolder.current().isPresent()
+    }
+}
@@ -0,0 +1,40 @@
+package com.modu.soccer.sql
+
+import net.ttddyy.dsproxy.ExecutionInfo
+import net.ttddyy.dsproxy.QueryInfo
+import net.ttddyy.dsproxy.listener.QueryExecutionListener
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * Records every statement run against the test DataSource, see QueryRecorderConfig.
+ * Specs reset it right before the code under test and assert on what it recorded afterwards.
+ */
+class QueryRecorder implements QueryExecutionListener {
+    private final List<String> statements = new CopyOnWriteArrayList<>()
+
+    @Override
+    void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        queryInfoList.each { statements.add(it.getQuery()) }
+    }
+
+    void reset() {
+        statements.clear()
+    }
+
+    List<String> getStatements() {
+        return List.copyOf(statements)
+    }
+
+    int getSelectCount() {
+        return statements.count { it.trim().toLowerCase().startsWith("select") } as int
+    }
+
+    int getCount() {
+        return statements.size()
+    }
+}
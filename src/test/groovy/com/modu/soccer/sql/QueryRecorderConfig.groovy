@@ -0,0 +1,44 @@
+package com.modu.soccer.sql
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.config.BeanPostProcessor
+import org.springframework.boot.test.context.TestConfiguration
+import org.springframework.context.annotation.Bean
+
+import javax.sql.DataSource
+
+/**
+ * Import into a @DataJpaTest to get a QueryRecorder and a ConnectionHoldListener on the test DataSource.
+ */
+@TestConfiguration
+class QueryRecorderConfig {
+
+    @Bean
+    QueryRecorder queryRecorder() {
+        return new QueryRecorder()
+    }
+
+    @Bean
+    ConnectionHoldListener connectionHoldListener() {
+        return new ConnectionHoldListener()
+    }
+
+    @Bean
+    static BeanPostProcessor queryRecorderDataSourcePostProcessor(ObjectProvider<QueryRecorder> queryRecorder,
+                                                                  ObjectProvider<ConnectionHoldListener> connectionHoldListener) {
+        return new BeanPostProcessor() {
+            @Override
+            Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource)) {
+                    return bean
+                }
+                return ProxyDataSourceBuilder.create((DataSource) bean)
+                        .name(beanName)
+                        .listener(queryRecorder.getObject())
+                        .methodListener(connectionHoldListener.getObject())
+                        .build()
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.modu.soccer.sql
+
+import net.ttddyy.dsproxy.ExecutionInfo
+import net.ttddyy.dsproxy.QueryInfo
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation
+import spock.lang.Specification
+
+import java.sql.PreparedStatement
+import java.sql.Types
+
+class SqlMonitoringListenerTest extends Specification {
+
+    def cleanup() {
+        SqlStatisticsHolder.clear()
+    }
+
+    def "afterQuery - 현재 요청의 statistics 에 기록"() {
+        given:
+        def listener = new SqlMonitoringListener(10_000)
+        def statistics = SqlStatisticsHolder.start()
+        def queries = [queryInfo("select * from team where id = ?")]
+
+        when:
+        2.times {
+            listener.beforeQuery(new ExecutionInfo(), queries)
+            listener.afterQuery(new ExecutionInfo(), queries)
+        }
+
+        then:
+        statistics.getStatementCount() == 2
+        statistics.getSlowStatementCount() == 0
+        listener.getStatementCount() == 2
+    }
+
+    def "afterQuery - 요청 밖의 실행은 전체 count 에만 기록"() {
+        given:
+        def listener = new SqlMonitoringListener(10_000)
+        def queries = [queryInfo("select 1")]
+
+        when:
+        listener.beforeQuery(new ExecutionInfo(), queries)
+        listener.afterQuery(new ExecutionInfo(), queries)
+
+        then:
+        SqlStatisticsHolder.current().isEmpty()
+        listener.getStatementCount() == 1
+    }
+
+    def "afterQuery - threshold 를 넘으면 slow 로 기록"() {
+        given:
+        def listener = new SqlMonitoringListener(0)
+        def statistics = SqlStatisticsHolder.start()
+        def queries = [queryInfo("select * from team where id = ?")]
+
+        when:
+        listener.beforeQuery(new ExecutionInfo(), queries)
+        listener.afterQuery(new ExecutionInfo(), queries)
+
+        then:
+        statistics.getSlowStatementCount() == 1
+        listener.getSlowStatementCount() == 1
+    }
+
+    def "parameterShapesOf - 값 대신 타입과 길이만 표시"() {
+        given:
+        def query = queryInfo("insert into users (email, age, image) values (?, ?, ?)")
+        query.getParametersList().add([
+                operation("setString", [int, String] as Class[], [1, "secret@test.com"] as Object[]),
+                operation("setInt", [int, int] as Class[], [2, 30] as Object[]),
+                operation("setNull", [int, int] as Class[], [3, Types.VARCHAR] as Object[])
+        ])
+
+        when:
+        def shapes = SqlMonitoringListener.parameterShapesOf([query])
+
+        then:
+        shapes == "[String(15), Integer, null]"
+        !shapes.contains("secret")
+    }
+
+    private static QueryInfo queryInfo(String sql) {
+        def queryInfo = new QueryInfo()
+        queryInfo.setQuery(sql)
+        return queryInfo
+    }
+
+    private static ParameterSetOperation operation(String name, Class[] types, Object[] args) {
+        return new ParameterSetOperation(PreparedStatement.getMethod(name, types), args)
+    }
+}
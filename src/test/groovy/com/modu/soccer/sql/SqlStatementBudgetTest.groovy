@@ -0,0 +1,38 @@
+package com.modu.soccer.sql
+
+import com.modu.soccer.config.SqlMonitorProperties
+import spock.lang.Specification
+
+class SqlStatementBudgetTest extends Specification {
+    private SqlMonitorProperties properties = new SqlMonitorProperties()
+
+    def "isExceeded - route 별 budget 이 없으면 기본 budget 사용"() {
+        given:
+        properties.setStatementBudget(5)
+        properties.setRoutes([new SqlMonitorProperties.RouteBudget("/api/v1/teams/*/statistics/**", 2)])
+        def budget = new SqlStatementBudget(properties)
+
+        expect:
+        budget.isExceeded(uri, count) == exceeded
+
+        where:
+        uri                               | count | exceeded
+        "/api/v1/teams/1"                 | 5     | false
+        "/api/v1/teams/1"                 | 6     | true
+        "/api/v1/teams/1/statistics/duo"  | 2     | false
+        "/api/v1/teams/1/statistics/duo"  | 3     | true
+    }
+
+    def "isExceeded - 초과한 요청 수를 센다"() {
+        given:
+        properties.setStatementBudget(1)
+        def budget = new SqlStatementBudget(properties)
+
+        when:
+        budget.isExceeded("/api/v1/teams/1", 1)
+        budget.isExceeded("/api/v1/teams/1", 2)
+
+        then:
+        budget.getExceededCount() == 1
+    }
+}
@@ -0,0 +1,163 @@
+package com.modu.soccer.tracing
+
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicReference
+
+class TracerTest extends Specification {
+
+    def cleanup() {
+        Tracer.clear()
+    }
+
+    def "startSpan - trace 없으면 noop"() {
+        when:
+        def span = Tracer.startSpan("name", SpanKind.INTERNAL)
+        span.tag("key", "value")
+        span.close()
+
+        then:
+        !Tracer.isActive()
+        span.getTags().isEmpty()
+    }
+
+    def "startSpan - 중첩 span 은 tree 로 기록"() {
+        given:
+        def trace = Tracer.startTrace("GET /api/v1/matches/1", 100)
+
+        when:
+        def controller = Tracer.startSpan("QuarterController.getQuarterInfo", SpanKind.INTERNAL)
+        Tracer.startSpan("MatchService.getMatchById", SpanKind.INTERNAL).close()
+        def quarter = Tracer.startSpan("QuarterService.getQuarterParticipations", SpanKind.INTERNAL)
+        Tracer.startSpan("QuarterRepository.findById", SpanKind.INTERNAL).close()
+        quarter.close()
+        controller.close()
+        trace.getRoot().close()
+
+        then:
+        trace.getSpans().size() == 5
+        trace.getRoot().getChildren() == [controller]
+        controller.getChildren()*.getName() == ["MatchService.getMatchById", "QuarterService.getQuarterParticipations"]
+        quarter.getChildren()*.getName() == ["QuarterRepository.findById"]
+        quarter.getParent() == controller
+        trace.getSpans().every { it.isFinished() }
+        trace.getTraceId().length() == 32
+    }
+
+    def "close - 부모가 먼저 닫히면 열린 자식도 닫힘"() {
+        given:
+        def trace = Tracer.startTrace("root", 100)
+        def parent = Tracer.startSpan("parent", SpanKind.INTERNAL)
+        def child = Tracer.startSpan("child", SpanKind.INTERNAL)
+
+        when:
+        parent.close()
+        def next = Tracer.startSpan("next", SpanKind.INTERNAL)
+
+        then:
+        child.isFinished()
+        next.getParent() == trace.getRoot()
+    }
+
+    def "fork - executor 의 span 은 요청 thread 가 부모 span 을 닫는 동안에도 열린 채 기록"() {
+        given:
+        def trace = Tracer.startTrace("GET /api/v1/oauth/callback/kakao", 100)
+        def controller = Tracer.startSpan("AuthController.kakaoCallback", SpanKind.INTERNAL)
+        def context = Tracer.fork().get()
+        def login = new AtomicReference<Span>()
+        def workerStarted = new CountDownLatch(1)
+        def parentClosed = new CountDownLatch(1)
+        def executor = Executors.newSingleThreadExecutor()
+
+        when:
+        def future = executor.submit({
+            Tracer.bind(context)
+            try {
+                login.set(Tracer.startSpan("AuthService.oauthLogin", SpanKind.INTERNAL))
+                workerStarted.countDown()
+                parentClosed.await(5, TimeUnit.SECONDS)
+                def kakao = Tracer.startSpan("HTTP GET kapi.kakao.com/v2/user/me", SpanKind.CLIENT)
+                kakao.close()
+                login.get().close()
+                return kakao
+            } finally {
+                Tracer.clear()
+            }
+        } as Callable<Span>)
+        workerStarted.await(5, TimeUnit.SECONDS)
+        controller.close()
+        def loginClosedByParent = login.get().isFinished()
+        parentClosed.countDown()
+        def kakao = future.get(5, TimeUnit.SECONDS)
+        executor.shutdown()
+        trace.getRoot().close()
+
+        then:
+        !loginClosedByParent
+        login.get().getParent() == controller
+        kakao.getParent() == login.get()
+        controller.getChildren() == [login.get()]
+        trace.getSpans().size() == 4
+        trace.getSpans().every { it.isFinished() }
+    }
+
+    def "fork - 여러 thread 에서 동시에 기록해도 span 유실 없음"() {
+        given:
+        def trace = Tracer.startTrace("root", 1000)
+        def executor = Executors.newFixedThreadPool(8)
+
+        when:
+        def futures = (1..8).collect {
+            def context = Tracer.fork().get()
+            executor.submit({
+                Tracer.bind(context)
+                try {
+                    50.times { Tracer.startSpan("span", SpanKind.INTERNAL).close() }
+                } finally {
+                    Tracer.clear()
+                }
+            } as Runnable)
+        }
+        futures*.get(5, TimeUnit.SECONDS)
+        executor.shutdown()
+
+        then:
+        trace.getSpans().size() == 401
+        trace.getRoot().getChildren().size() == 400
+    }
+
+    def "startSpan - maxSpans 초과분은 기록하지 않고 집계"() {
+        given:
+        def trace = Tracer.startTrace("root", 3)
+
+        when:
+        5.times { Tracer.startSpan("span" + it, SpanKind.INTERNAL).close() }
+
+        then:
+        trace.getSpans().size() == 3
+        trace.getDroppedSpans() == 3
+    }
+
+    def "dump - 들여쓴 tree 와 self time 출력"() {
+        given:
+        def trace = Tracer.startTrace("GET /api/v1/teams/1", 100)
+        def controller = Tracer.startSpan("TeamController.getTeam", SpanKind.INTERNAL)
+        Tracer.startSpan("TeamService.getTeamWithOwner", SpanKind.INTERNAL).tag("layer", "service").close()
+        controller.close()
+        trace.getRoot().close()
+
+        when:
+        def lines = trace.dump().readLines()
+
+        then:
+        lines[0].startsWith("[TRACE] " + trace.getTraceId() + " GET /api/v1/teams/1")
+        lines[1].startsWith("  ")
+        lines[1].contains("TeamController.getTeam (self ")
+        lines[2].startsWith("    ")
+        lines[2].contains("TeamService.getTeamWithOwner {layer=service}")
+    }
+}
@@ -0,0 +1,66 @@
+package com.modu.soccer.tracing
+
+import com.modu.soccer.exception.CustomException
+import com.modu.soccer.exception.ErrorCode
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory
+import org.springframework.stereotype.Service
+import spock.lang.Specification
+
+class TracingAspectTest extends Specification {
+
+    @Service
+    static class SampleService {
+        String find(String key) {
+            return key
+        }
+
+        void fail() {
+            throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND)
+        }
+    }
+
+    private SampleService service
+
+    def setup() {
+        def factory = new AspectJProxyFactory(new SampleService())
+        factory.setProxyTargetClass(true)
+        factory.addAspect(new TracingAspect())
+        service = factory.getProxy()
+    }
+
+    def cleanup() {
+        Tracer.clear()
+    }
+
+    def "service 호출은 span 으로 기록"() {
+        given:
+        def trace = Tracer.startTrace("root", 100)
+
+        when:
+        def result = service.find("key")
+
+        then:
+        result == "key"
+        def span = trace.getRoot().getChildren().find { it.getName() == "SampleService.find" }
+        span.getTags()["layer"] == "service"
+        span.isFinished()
+    }
+
+    def "예외는 span 에 기록 후 전파"() {
+        given:
+        def trace = Tracer.startTrace("root", 100)
+
+        when:
+        service.fail()
+
+        then:
+        thrown(CustomException)
+        trace.getRoot().getChildren().find { it.getName() == "SampleService.fail" }.getTags()["error"] == "CustomException"
+    }
+
+    def "trace 가 없으면 span 없이 실행"() {
+        expect:
+        service.find("key") == "key"
+        !Tracer.isActive()
+    }
+}
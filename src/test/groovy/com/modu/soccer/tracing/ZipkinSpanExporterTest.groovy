@@ -0,0 +1,87 @@
+package com.modu.soccer.tracing
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.sun.net.httpserver.HttpServer
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+class ZipkinSpanExporterTest extends Specification {
+    private ObjectMapper mapper = new ObjectMapper()
+    private HttpServer collector
+    private List<List<Map>> received = new CopyOnWriteArrayList<>()
+    private int status = 202
+
+    // local stand-in for a zipkin collector
+    def setup() {
+        collector = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0)
+        collector.createContext("/api/v2/spans", { exchange ->
+            received.add(mapper.readValue(exchange.getRequestBody(), List))
+            exchange.sendResponseHeaders(status, -1)
+            exchange.close()
+        })
+        collector.start()
+    }
+
+    def cleanup() {
+        collector.stop(0)
+        Tracer.clear()
+    }
+
+    def "export - zipkin v2 형식으로 전송"() {
+        given:
+        def exporter = new ZipkinSpanExporter(endpoint(), "modu_soccer", 10, mapper)
+        def trace = Tracer.startTrace("GET /api/v1/teams/1", 100)
+        def span = Tracer.startSpan("HTTP GET kapi.kakao.com/v2/user/me", SpanKind.CLIENT)
+        span.tag("http.status_code", "200")
+        span.close()
+        trace.getRoot().close()
+
+        when:
+        exporter.export(trace)
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert exporter.getExportedCount() == 1
+        }
+        def spans = received[0]
+        spans.size() == 2
+        spans.every { it.traceId == trace.getTraceId() && it.localEndpoint.serviceName == "modu_soccer" }
+        def root = spans.find { it.id == trace.getRoot().getSpanId() }
+        root.kind == "SERVER"
+        root.parentId == null
+        def client = spans.find { it.id == span.getSpanId() }
+        client.kind == "CLIENT"
+        client.parentId == trace.getRoot().getSpanId()
+        client.tags["http.status_code"] == "200"
+        client.duration >= 1
+
+        cleanup:
+        exporter.close()
+    }
+
+    def "export - collector 거절 시 실패 집계"() {
+        given:
+        status = 500
+        def exporter = new ZipkinSpanExporter(endpoint(), "modu_soccer", 10, mapper)
+        def trace = Tracer.startTrace("root", 100)
+        trace.getRoot().close()
+
+        when:
+        exporter.export(trace)
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert exporter.getFailedCount() == 1
+        }
+        exporter.getExportedCount() == 0
+
+        cleanup:
+        exporter.close()
+    }
+
+    private String endpoint() {
+        return "http://127.0.0.1:" + collector.getAddress().getPort() + "/api/v2/spans"
+    }
+}
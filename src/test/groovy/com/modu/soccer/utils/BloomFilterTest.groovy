@@ -0,0 +1,45 @@
+package com.modu.soccer.utils
+
+import spock.lang.Specification
+
+class BloomFilterTest extends Specification {
+
+    def "put 된 값은 항상 포함"() {
+        given:
+        def filter = new BloomFilter(1000, 0.01)
+        def values = (1..1000).collect { UUID.randomUUID().toString() }
+
+        when:
+        values.each { filter.put(it) }
+
+        then:
+        values.every { filter.mightContain(it) }
+        filter.getInsertions() == 1000
+    }
+
+    def "false positive 비율이 목표 근처"() {
+        given:
+        def filter = new BloomFilter(10000, 0.01)
+        (1..10000).each { filter.put(UUID.randomUUID().toString()) }
+
+        when:
+        def probes = 100000
+        def falsePositives = (1..probes).count { filter.mightContain(UUID.randomUUID().toString()) }
+        def rate = falsePositives / probes
+
+        then:
+        rate < 0.02
+        filter.expectedFalsePositiveProbability() < 0.02
+        // about 9.6 bits per entry for 1%
+        filter.getMemoryBytes() < 10000 * 10 / 8 + 8
+    }
+
+    def "빈 필터"() {
+        given:
+        def filter = new BloomFilter(100, 0.01)
+
+        expect:
+        !filter.mightContain("jti")
+        filter.expectedFalsePositiveProbability() == 0
+    }
+}
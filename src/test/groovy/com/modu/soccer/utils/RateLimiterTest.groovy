@@ -0,0 +1,104 @@
+package com.modu.soccer.utils
+
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.function.LongSupplier
+
+class RateLimiterTest extends Specification {
+    private long now = TimeUnit.SECONDS.toNanos(100)
+    private RateLimiter rateLimiter = new RateLimiter(3, 1000, { now } as LongSupplier)
+
+    def "tryAcquire - capacity 만큼 즉시 허용 후 거절"() {
+        when:
+        def results = (1..5).collect { rateLimiter.tryAcquire("key", 3, 1) }
+
+        then:
+        results[0..2] == [0L, 0L, 0L]
+        results[3] > 0
+        results[3] <= TimeUnit.SECONDS.toNanos(1)
+        results[4] > 0
+    }
+
+    def "tryAcquire - refill 후 다시 허용"() {
+        given:
+        3.times { rateLimiter.tryAcquire("key", 3, 2) }
+
+        expect:
+        rateLimiter.tryAcquire("key", 3, 2) > 0
+
+        when:
+        now += TimeUnit.MILLISECONDS.toNanos(500)
+
+        then:
+        rateLimiter.tryAcquire("key", 3, 2) == 0
+        rateLimiter.tryAcquire("key", 3, 2) > 0
+    }
+
+    def "tryAcquire - key 별로 독립된 bucket"() {
+        given:
+        rateLimiter.tryAcquire("a", 1, 1)
+
+        expect:
+        rateLimiter.tryAcquire("a", 1, 1) > 0
+        rateLimiter.tryAcquire("b", 1, 1) == 0
+    }
+
+    def "tryAcquire - maxBuckets 를 넘지 않음"() {
+        when:
+        (1..10).each { rateLimiter.tryAcquire("key" + it, 1, 1) }
+
+        then:
+        rateLimiter.size() <= 3
+    }
+
+    def "tryAcquire - maxBuckets 에서 새 key 는 sample 중 가장 오래 쓰지 않은 bucket 제거"() {
+        given:
+        ["a", "b", "c", "a"].each {
+            now += TimeUnit.MILLISECONDS.toNanos(1)
+            rateLimiter.tryAcquire(it, 1, 1)
+        }
+
+        when:
+        now += TimeUnit.MILLISECONDS.toNanos(1)
+        rateLimiter.tryAcquire("d", 1, 1)
+
+        then:
+        rateLimiter.size() == 3
+        rateLimiter.tryAcquire("a", 1, 1) > 0
+        rateLimiter.tryAcquire("c", 1, 1) > 0
+        rateLimiter.tryAcquire("b", 1, 1) == 0
+    }
+
+    def "evictIdle - idle bucket 제거"() {
+        given:
+        rateLimiter.tryAcquire("old", 1, 1)
+        now += TimeUnit.SECONDS.toNanos(2)
+        rateLimiter.tryAcquire("new", 1, 1)
+
+        when:
+        rateLimiter.evictIdle()
+
+        then:
+        rateLimiter.size() == 1
+        rateLimiter.tryAcquire("new", 1, 1) > 0
+    }
+
+    def "tryAcquire - 동시 요청에도 capacity 초과 허용 없음"() {
+        given:
+        def limiter = new RateLimiter(10, 1000)
+        def executor = Executors.newFixedThreadPool(8)
+
+        when:
+        def futures = (1..200).collect {
+            executor.submit({ limiter.tryAcquire("key", 50, 0.001) } as Callable)
+        }
+        def allowed = futures.count { it.get(5, TimeUnit.SECONDS) == 0L }
+        executor.shutdown()
+
+        then:
+        allowed == 50
+    }
+}
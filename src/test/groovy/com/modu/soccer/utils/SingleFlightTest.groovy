@@ -0,0 +1,146 @@
+package com.modu.soccer.utils
+
+import com.modu.soccer.exception.CustomException
+import com.modu.soccer.exception.ErrorCode
+import spock.lang.Specification
+
+import java.time.Duration
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class SingleFlightTest extends Specification {
+    private SingleFlight<String, Integer> singleFlight = new SingleFlight<>(Duration.ofMillis(200),
+            { new CustomException(ErrorCode.LOGIN_BUSY) })
+
+    def "execute - 동시 호출은 결과를 공유"() {
+        given:
+        def threads = 8
+        def calls = new AtomicInteger()
+        def entered = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+        def executor = Executors.newFixedThreadPool(threads)
+
+        when:
+        def leader = executor.submit({
+            singleFlight.execute("key", {
+                entered.countDown()
+                release.await()
+                return calls.incrementAndGet()
+            })
+        } as Callable)
+        entered.await()
+        def followers = (2..threads).collect {
+            executor.submit({ singleFlight.execute("key", { calls.incrementAndGet() }) } as Callable)
+        }
+        Thread.sleep(100)
+        release.countDown()
+        def results = ([leader] + followers).collect { it.get(5, TimeUnit.SECONDS) }
+        executor.shutdown()
+
+        then:
+        calls.get() == 1
+        results.every { it == 1 }
+        singleFlight.inFlightCount() == 0
+    }
+
+    def "execute - 키가 다르면 따로 실행"() {
+        when:
+        def a = singleFlight.execute("a", { 1 })
+        def b = singleFlight.execute("b", { 2 })
+
+        then:
+        a == 1
+        b == 2
+    }
+
+    def "execute - 완료 후 호출은 다시 실행"() {
+        given:
+        def calls = new AtomicInteger()
+
+        when:
+        singleFlight.execute("key", { calls.incrementAndGet() })
+        singleFlight.execute("key", { calls.incrementAndGet() })
+
+        then:
+        calls.get() == 2
+    }
+
+    def "execute - 예외는 그대로 전달하고 키를 비움"() {
+        when:
+        singleFlight.execute("key", { throw new CustomException(ErrorCode.DUPLICATE_USER) })
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.DUPLICATE_USER
+        singleFlight.inFlightCount() == 0
+    }
+
+    def "execute - Error 도 대기 중인 호출에 전달"() {
+        given:
+        def entered = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+        def executor = Executors.newFixedThreadPool(2)
+
+        when:
+        def leader = executor.submit({
+            singleFlight.execute("key", {
+                entered.countDown()
+                release.await()
+                throw new StackOverflowError()
+            })
+        } as Callable)
+        entered.await()
+        def follower = executor.submit({ singleFlight.execute("key", { 1 }) } as Callable)
+        Thread.sleep(50)
+        release.countDown()
+        def leaderError = catchError { leader.get(5, TimeUnit.SECONDS) }
+        def followerError = catchError { follower.get(5, TimeUnit.SECONDS) }
+        executor.shutdown()
+
+        then:
+        leaderError instanceof StackOverflowError
+        followerError instanceof StackOverflowError
+        singleFlight.inFlightCount() == 0
+    }
+
+    def "execute - 대기 시간을 넘기면 timeout 예외"() {
+        given:
+        def entered = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+        def executor = Executors.newSingleThreadExecutor()
+        def leader = executor.submit({
+            singleFlight.execute("key", {
+                entered.countDown()
+                release.await()
+                return 1
+            })
+        } as Callable)
+        entered.await()
+
+        when:
+        singleFlight.execute("key", { 2 })
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.LOGIN_BUSY
+
+        cleanup:
+        release.countDown()
+        leader.get(5, TimeUnit.SECONDS)
+        executor.shutdown()
+    }
+
+    private static Throwable catchError(Closure closure) {
+        try {
+            closure.call()
+            return null
+        } catch (ExecutionException e) {
+            return e.getCause()
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.modu.soccer.utils
 import com.modu.soccer.TestUtil
 import com.modu.soccer.exception.CustomException
 import com.modu.soccer.exception.ErrorCode
+import com.modu.soccer.jwt.UserPrincipal
 import spock.lang.Specification
 
 class UserContextUtilTest extends Specification {
@@ -35,6 +36,55 @@ class UserContextUtilTest extends Specification {
     }
 
 
+    def "getCurrentUser - principal 에서 lazy 조회"() {
+        given:
+        def u = TestUtil.getUser(1l, "email")
+        def loadCount = 0
+        UserContextUtil.setPrincipal(new UserPrincipal(u.getId(), u.getEmail(), "jti", null), id -> {
+            loadCount++
+            return Optional.of(u)
+        })
+
+        when:
+        def first = UserContextUtil.getCurrentUser()
+        def second = UserContextUtil.getCurrentUser()
+
+        then:
+        noExceptionThrown()
+        first == u
+        second == u
+        loadCount == 1
+    }
+
+    def "getCurrentUser - principal 유저 미존재"() {
+        given:
+        UserContextUtil.setPrincipal(new UserPrincipal(1l, "email", "jti", null), id -> Optional.empty())
+
+        when:
+        UserContextUtil.getCurrentUser()
+
+        then:
+        def e = thrown(CustomException)
+        e.getErrorCode() == ErrorCode.USER_NOT_REGISTERED
+    }
+
+    def "getCurrentUserId - 유저 조회 없음"() {
+        given:
+        def loadCount = 0
+        UserContextUtil.setPrincipal(new UserPrincipal(1l, "email", "jti", null), id -> {
+            loadCount++
+            return Optional.empty()
+        })
+
+        when:
+        def result = UserContextUtil.getCurrentUserId()
+
+        then:
+        noExceptionThrown()
+        result == 1l
+        loadCount == 0
+    }
+
     def "clear"() {
         given:
         def u = TestUtil.getUser(1l, "email")